@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.utils.BalProjectUtils;
+import io.ballerina.persist.utils.SchemaLoader;
+import io.ballerina.tools.text.TextDocuments;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of building the entity module from a model definition file.
+ *
+ * @since 1.7.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EntityModelBenchmark {
+
+    /**
+     * Builds an entity module whose relations are not inferred yet before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class UninferredModuleState {
+
+        private SyntaxTree syntaxTree;
+        private Module entityModule;
+
+        @Setup(Level.Trial)
+        public void parse(ModelState model) throws IOException {
+            syntaxTree = SyntaxTree.from(TextDocuments.from(Files.readString(model.modelPath)));
+        }
+
+        @Setup(Level.Invocation)
+        public void setup() throws IOException, BalException {
+            Module.Builder moduleBuilder = Module.newBuilder("benchmark");
+            BalProjectUtils.populateEnums(moduleBuilder, syntaxTree);
+            BalProjectUtils.populateEntities(moduleBuilder, syntaxTree);
+            entityModule = moduleBuilder.build();
+        }
+    }
+
+    /**
+     * Loads the model with a new loader on each invocation, so every invocation parses the model.
+     */
+    @Benchmark
+    public Module getEntities(ModelState model) throws BalException {
+        return BalProjectUtils.getEntities(model.modelPath, new SchemaLoader());
+    }
+
+    @Benchmark
+    public Module inferRelationDetails(UninferredModuleState state) {
+        BalProjectUtils.inferRelationDetails(state.entityModule);
+        return state.entityModule;
+    }
+}
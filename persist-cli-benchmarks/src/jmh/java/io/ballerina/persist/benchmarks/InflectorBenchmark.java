@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.benchmarks;
+
+import io.ballerina.persist.inflector.CaseConverter;
+import io.ballerina.persist.inflector.Pluralizer;
+import io.ballerina.persist.inflector.Singularizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of inflecting and converting the case of the table and column names of a database, as done when a
+ * database is introspected. The inflected words are cached up to a bound, so the smaller word counts measure the
+ * cached inflections and the largest word count measures the compiled rules.
+ *
+ * @since 1.7.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InflectorBenchmark {
+
+    private static final long SEED = 42;
+    private static final String[] NOUNS = {"order", "item", "person", "category", "address", "child", "status",
+            "box", "city", "leaf", "analysis", "index", "medium", "company", "quiz", "employee", "wife", "bus"};
+
+    @Param({"100", "1000", "50000"})
+    public int wordCount;
+
+    private List<String> words;
+    private List<String> pluralWords;
+    private List<String> identifiers;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(SEED);
+        words = new ArrayList<>(wordCount);
+        pluralWords = new ArrayList<>(wordCount);
+        identifiers = new ArrayList<>(wordCount);
+        for (int i = 0; i < wordCount; i++) {
+            String first = NOUNS[random.nextInt(NOUNS.length)];
+            String second = NOUNS[random.nextInt(NOUNS.length)];
+            // The words are distinct once all the pairs of nouns are used.
+            String suffix = i < NOUNS.length * NOUNS.length ? "" : Integer.toString(i);
+            String pluralSecond = Pluralizer.pluralize(second);
+            words.add(first + suffix + second);
+            pluralWords.add(first + suffix + pluralSecond);
+            identifiers.add(switch (i % 3) {
+                case 0 -> first + "_" + suffix + "_" + pluralSecond;
+                case 1 -> capitalize(first) + suffix + capitalize(pluralSecond);
+                default -> (first + "-" + pluralSecond + suffix).toUpperCase(Locale.ENGLISH);
+            });
+        }
+    }
+
+    @Benchmark
+    public void pluralize(Blackhole blackhole) {
+        for (String word : words) {
+            blackhole.consume(Pluralizer.pluralize(word));
+        }
+    }
+
+    @Benchmark
+    public void singularize(Blackhole blackhole) {
+        for (String word : pluralWords) {
+            blackhole.consume(Singularizer.singularize(word));
+        }
+    }
+
+    @Benchmark
+    public void toSingularPascalCase(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(CaseConverter.toSingularPascalCase(identifier));
+        }
+    }
+
+    @Benchmark
+    public void toCamelCase(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(CaseConverter.toCamelCase(identifier));
+        }
+    }
+
+    private static String capitalize(String word) {
+        return word.substring(0, 1).toUpperCase(Locale.ENGLISH) + word.substring(1);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.benchmarks;
+
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.configuration.PersistConfiguration;
+import io.ballerina.persist.introspect.MySqlIntrospector;
+import io.ballerina.persist.introspectiondto.SqlColumn;
+import io.ballerina.persist.introspectiondto.SqlForeignKey;
+import io.ballerina.persist.introspectiondto.SqlIndex;
+import io.ballerina.persist.introspectiondto.SqlTable;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.testutils.TestModels;
+import io.ballerina.persist.utils.IntrospectionSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of mapping an introspected database schema to the entity module, as done by the pull command once the
+ * schema is read. The schema is a synthetic snapshot written to and read from a file in the same way as with the
+ * `--snapshot-out` and `--snapshot-in` options, so no database is needed. Each table has a unique and a composite
+ * index and four foreign keys to randomly chosen tables, which gives 20,000 foreign keys for 5,000 tables.
+ *
+ * @since 1.7.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntrospectionMappingBenchmark {
+
+    private static final long SEED = 42;
+    private static final int FOREIGN_KEY_COUNT = 4;
+
+    @Param({"100", "1000", "5000"})
+    public int tableCount;
+
+    private Path projectPath;
+    private IntrospectionSnapshot snapshot;
+    private PersistConfiguration persistConfiguration;
+
+    @Setup
+    public void setup() throws IOException {
+        projectPath = Files.createTempDirectory("persist-benchmark");
+        Path snapshotPath = projectPath.resolve("schema.snapshot");
+        IntrospectionSnapshot.write(snapshotPath, new IntrospectionSnapshot("mysql://localhost:3306/benchmark",
+                PersistToolsConstants.SupportedDataSources.MYSQL_DB, List.of(), createTables(), Map.of()));
+        snapshot = IntrospectionSnapshot.read(snapshotPath).orElseThrow();
+        persistConfiguration = new PersistConfiguration();
+        persistConfiguration.setProvider(PersistToolsConstants.SupportedDataSources.MYSQL_DB);
+        persistConfiguration.setSourcePath(projectPath.toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        TestModels.deleteDirectory(projectPath);
+    }
+
+    @Benchmark
+    public Module introspectSnapshot() throws BalException {
+        return new MySqlIntrospector().introspectSnapshot(snapshot, persistConfiguration);
+    }
+
+    private List<SqlTable> createTables() {
+        Random random = new Random(SEED);
+        List<SqlTable> tables = new ArrayList<>(tableCount);
+        for (int i = 0; i < tableCount; i++) {
+            String tableName = "table_" + i;
+            SqlTable table = SqlTable.newBuilder(tableName).build();
+            table.addColumn(createColumn(tableName, "id", "int", true));
+            table.addColumn(createColumn(tableName, "name", "varchar", false));
+            for (int j = 0; j < FOREIGN_KEY_COUNT; j++) {
+                String columnName = "ref_" + j;
+                table.addColumn(createColumn(tableName, columnName, "int", false));
+                table.addForeignKey(SqlForeignKey.Builder.newBuilder(tableName + "_fk_" + j)
+                        .setTableName(tableName)
+                        .addColumnName(columnName)
+                        .setReferencedTableName("table_" + random.nextInt(tableCount))
+                        .addReferencedColumnName("id")
+                        .setUpdateRule("CASCADE")
+                        .setDeleteRule("RESTRICT")
+                        .build());
+            }
+            // The unique index makes the first foreign key of each table a one-to-one relation.
+            table.addIndex(SqlIndex.Builder.newBuilder(tableName + "_ref_0").setTableName(tableName)
+                    .addColumnName("ref_0").setUnique(true).build());
+            table.addIndex(SqlIndex.Builder.newBuilder(tableName + "_name_ref_1").setTableName(tableName)
+                    .addColumnName("name").addColumnName("ref_1").build());
+            tables.add(table);
+        }
+        return tables;
+    }
+
+    private static SqlColumn createColumn(String tableName, String columnName, String dataType, boolean primaryKey) {
+        boolean isVarchar = dataType.equals("varchar");
+        return SqlColumn.newBuilder(columnName)
+                .setTableName(tableName)
+                .setDataType(dataType)
+                .setFullDataType(isVarchar ? "varchar(191)" : dataType)
+                .setCharacterMaximumLength(isVarchar ? "191" : null)
+                .setNumericPrecision(isVarchar ? null : "10")
+                .setNumericScale(isVarchar ? null : "0")
+                .setIsNullable("NO")
+                .setIsPrimaryKey(primaryKey)
+                .setIsDbGenerated(primaryKey)
+                .build();
+    }
+}
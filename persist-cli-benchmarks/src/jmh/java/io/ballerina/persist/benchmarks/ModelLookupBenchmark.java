@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.benchmarks;
+
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.EntityField;
+import io.ballerina.persist.nodegenerator.syntax.utils.SqlScriptUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of looking up the fields of the entities and the entities of the module by name, and of the SQL script
+ * generation, which resolves the fields referenced by the relations. The relation inference, which looks up the
+ * foreign key fields by name, is measured by {@link EntityModelBenchmark}.
+ *
+ * @since 1.7.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ModelLookupBenchmark {
+
+    @Benchmark
+    public void getFieldByName(ModelState model, Blackhole blackhole) {
+        for (Entity entity : model.entityModule.getEntityMap().values()) {
+            for (EntityField field : entity.getFields()) {
+                blackhole.consume(entity.getFieldByName(field.getFieldName()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getFieldByColumnName(ModelState model, Blackhole blackhole) {
+        for (Entity entity : model.entityModule.getEntityMap().values()) {
+            for (EntityField field : entity.getFields()) {
+                blackhole.consume(entity.getFieldByColumnName(field.getFieldColumnName()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getEntityByTableName(ModelState model, Blackhole blackhole) {
+        for (Entity entity : model.entityModule.getEntityMap().values()) {
+            blackhole.consume(model.entityModule.getEntityByTableName(entity.getTableName()));
+        }
+    }
+
+    @Benchmark
+    public String[] generateSqlScript(ModelState model) throws BalException {
+        return SqlScriptUtils.generateSqlScript(model.entityModule.getEntityMap().values(),
+                PersistToolsConstants.SupportedDataSources.MYSQL_DB);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.benchmarks;
+
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.testutils.ModelSynthesizer;
+import io.ballerina.persist.testutils.TestModels;
+import io.ballerina.persist.utils.BalProjectUtils;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Benchmark state holding a synthetic model definition file and the entity module loaded from it. The model size
+ * and the share of the related entities are the benchmark parameters.
+ *
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+public class ModelState {
+
+    private static final long SEED = 42;
+    private static final int ENUM_COUNT = 5;
+    private static final int INDEX_COUNT = 2;
+
+    @Param({"10", "100", "1000", "5000"})
+    public int entityCount;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double relationRatio;
+
+    public Path projectPath;
+    public Path modelPath;
+    public Module entityModule;
+
+    @Setup
+    public void setup() throws IOException, BalException {
+        projectPath = Files.createTempDirectory("persist-benchmark");
+        ModelSynthesizer.Builder synthesizer = ModelSynthesizer.newBuilder(SEED, entityCount);
+        synthesizer.setRelationRatio(relationRatio);
+        synthesizer.setEnumCount(ENUM_COUNT);
+        synthesizer.setIndexCount(INDEX_COUNT);
+        modelPath = synthesizer.build().writeModel(projectPath);
+        entityModule = BalProjectUtils.getEntities(modelPath);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        TestModels.deleteDirectory(projectPath);
+    }
+}
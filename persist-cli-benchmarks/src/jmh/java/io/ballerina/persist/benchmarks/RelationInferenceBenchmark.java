@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.benchmarks;
+
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.testutils.TestModels;
+import io.ballerina.persist.utils.BalProjectUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of inferring the relations of a model whose entities all refer to one hub entity, which has a relation
+ * field to every other entity. The inference time per entity stays near constant from 100 to 10,000 entities if the
+ * inference is linear in the size of the model, and grows with the model size if it is quadratic.
+ *
+ * @since 1.7.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class RelationInferenceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int entityCount;
+
+    private Module entityModule;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        entityModule = TestModels.buildHubModule(entityCount);
+    }
+
+    @Benchmark
+    public Module inferRelationDetails() {
+        BalProjectUtils.inferRelationDetails(entityModule);
+        return entityModule;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.EntityField;
+import io.ballerina.persist.nodegenerator.syntax.constants.BalSyntaxConstants;
+import io.ballerina.persist.nodegenerator.syntax.utils.BalSyntaxUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of building the external get and get-by-key resource functions of all the entities, by parsing the
+ * formatted source of each entity with {@link NodeParser} and by building them from the parsed templates.
+ *
+ * @since 1.7.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResourceFunctionBenchmark {
+
+    private static final String CLASS_NAME = "InMemoryProcessor";
+
+    @Benchmark
+    public void parsePerEntity(ModelState model, Blackhole blackhole) {
+        for (Entity entity : model.entityModule.getEntityMap().values()) {
+            blackhole.consume(NodeParser.parseObjectMember(String.format(
+                    BalSyntaxConstants.EXTERNAL_GET_METHOD_TEMPLATE, entity.getClientResourceName(),
+                    entity.getEntityName(), BalSyntaxConstants.PERSIST_IN_MEMORY, CLASS_NAME)));
+            StringBuilder keys = new StringBuilder();
+            for (EntityField keyField : entity.getKeys()) {
+                if (keys.length() > 0) {
+                    keys.append("/");
+                }
+                keys.append(BalSyntaxConstants.OPEN_BRACKET).append(keyField.getFieldType())
+                        .append(BalSyntaxConstants.SPACE).append(keyField.getFieldName())
+                        .append(BalSyntaxConstants.CLOSE_BRACKET);
+            }
+            blackhole.consume(NodeParser.parseObjectMember(String.format(
+                    BalSyntaxConstants.EXTERNAL_GET_BY_KEY_METHOD_TEMPLATE, entity.getClientResourceName(), keys,
+                    entity.getEntityName(), BalSyntaxConstants.PERSIST_IN_MEMORY, CLASS_NAME)));
+        }
+    }
+
+    @Benchmark
+    public void buildFromTemplates(ModelState model, Blackhole blackhole) {
+        for (Entity entity : model.entityModule.getEntityMap().values()) {
+            blackhole.consume(BalSyntaxUtils.generateGetFunction(entity, CLASS_NAME,
+                    BalSyntaxConstants.PERSIST_IN_MEMORY));
+            blackhole.consume(BalSyntaxUtils.generateGetByKeyFunction(entity, CLASS_NAME,
+                    BalSyntaxConstants.PERSIST_IN_MEMORY));
+        }
+    }
+}
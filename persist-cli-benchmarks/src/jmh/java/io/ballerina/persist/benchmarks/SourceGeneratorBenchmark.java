@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.benchmarks;
+
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.nodegenerator.SourceGenerator;
+import io.ballerina.persist.testutils.TestModels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of generating and writing all the client artifacts of a database datastore.
+ *
+ * @since 1.7.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SourceGeneratorBenchmark {
+
+    /**
+     * Removes the generated sources before each invocation, so every invocation writes all the files.
+     */
+    @State(Scope.Thread)
+    public static class GeneratedSourcesState {
+
+        private Path generatedSourcesPath;
+
+        @Setup(Level.Invocation)
+        public void setup(ModelState model) throws IOException {
+            generatedSourcesPath = model.projectPath.resolve("generated");
+            TestModels.deleteDirectory(generatedSourcesPath);
+        }
+    }
+
+    @Benchmark
+    public SourceGenerator createDbSources(ModelState model, GeneratedSourcesState state) throws BalException {
+        SourceGenerator sourceGenerator = new SourceGenerator(model.projectPath.toString(),
+                state.generatedSourcesPath, "benchmark", model.entityModule);
+        sourceGenerator.createDbSources(PersistToolsConstants.SupportedDataSources.MYSQL_DB);
+        return sourceGenerator;
+    }
+}
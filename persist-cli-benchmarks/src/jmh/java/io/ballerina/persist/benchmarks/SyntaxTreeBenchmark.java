@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.nodegenerator.syntax.sources.DbSyntaxTree;
+import io.ballerina.persist.nodegenerator.syntax.sources.GSheetSyntaxTree;
+import io.ballerina.persist.nodegenerator.syntax.sources.InMemorySyntaxTree;
+import io.ballerina.persist.nodegenerator.syntax.sources.RedisSyntaxTree;
+import io.ballerina.persist.nodegenerator.syntax.utils.SqlScriptUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of building the client and the entity types syntax trees of each datastore, and the SQL script.
+ *
+ * @since 1.7.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SyntaxTreeBenchmark {
+
+    @Benchmark
+    public SyntaxTree dbClientSyntax(ModelState model) throws BalException {
+        return new DbSyntaxTree().getClientSyntax(model.entityModule,
+                PersistToolsConstants.SupportedDataSources.MYSQL_DB);
+    }
+
+    @Benchmark
+    public SyntaxTree dbDataTypesSyntax(ModelState model) {
+        return new DbSyntaxTree().getDataTypesSyntax(model.entityModule);
+    }
+
+    @Benchmark
+    public SyntaxTree inMemoryClientSyntax(ModelState model) throws BalException {
+        return new InMemorySyntaxTree().getClientSyntax(model.entityModule);
+    }
+
+    @Benchmark
+    public SyntaxTree inMemoryDataTypesSyntax(ModelState model) throws BalException {
+        return new InMemorySyntaxTree().getDataTypesSyntax(model.entityModule);
+    }
+
+    @Benchmark
+    public SyntaxTree redisClientSyntax(ModelState model) throws BalException {
+        return new RedisSyntaxTree().getClientSyntax(model.entityModule);
+    }
+
+    @Benchmark
+    public SyntaxTree redisDataTypesSyntax(ModelState model) {
+        return new RedisSyntaxTree().getDataTypesSyntax(model.entityModule);
+    }
+
+    @Benchmark
+    public SyntaxTree googleSheetsClientSyntax(ModelState model) throws BalException {
+        return new GSheetSyntaxTree().getClientSyntax(model.entityModule);
+    }
+
+    @Benchmark
+    public SyntaxTree googleSheetsDataTypesSyntax(ModelState model) throws BalException {
+        return new GSheetSyntaxTree().getDataTypesSyntax(model.entityModule);
+    }
+
+    @Benchmark
+    public String[] sqlScript(ModelState model) throws BalException {
+        return SqlScriptUtils.generateSqlScript(model.entityModule.getEntityMap().values(),
+                PersistToolsConstants.SupportedDataSources.MYSQL_DB);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.tools;
+
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.cmd.Migrate;
+import io.ballerina.persist.configuration.PersistConfiguration;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.nodegenerator.SourceGenerator;
+import io.ballerina.persist.nodegenerator.syntax.utils.SqlScriptUtils;
+import io.ballerina.persist.nodegenerator.syntax.utils.TomlSyntaxUtils;
+import io.ballerina.persist.testutils.ModelSynthesizer;
+import io.ballerina.persist.utils.BalProjectUtils;
+import jdk.jfr.Description;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.Command.DB_PUSH;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.GENERATED_SOURCES_DIRECTORY;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.executeCommand;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.executeGenerateCommand;
+import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
+
+/**
+ * persist tool generate, migrate and db push command tests with large synthesized models.
+ */
+public class ToolingScalingTest {
+
+    private static final long SEED = 42;
+
+    @Test(enabled = true)
+    @Description("Generate the sources of a model with 1,000 entities")
+    public void testGenerateLargeModel() throws IOException {
+        Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_scaling_1");
+        getSynthesizer(1000).writeModel(projectPath);
+        executeGenerateCommand("tool_test_scaling_1", "--datastore", "mysql", "--module", "persist_scaling_1");
+
+        Path typesPath = findGeneratedFile(projectPath, "persist_types.bal");
+        Assert.assertTrue(Files.readString(typesPath).contains("public type " + ModelSynthesizer.ENTITY_PREFIX + 999));
+        Assert.assertTrue(Files.exists(typesPath.resolveSibling("persist_client.bal")));
+        Assert.assertTrue(Files.exists(typesPath.resolveSibling(PersistToolsConstants.SQL_SCHEMA_FILE)));
+    }
+
+    @Test(enabled = true)
+    @Description("Migrate a model with 500 entities and then migrate it again after adding 100 entities")
+    public void testMigrateLargeModel() throws IOException {
+        Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_scaling_2");
+        getSynthesizer(500).writeModel(projectPath);
+        executeMigrateCommand(projectPath, "firstMigration");
+        getSynthesizer(600).writeModel(projectPath);
+        executeMigrateCommand(projectPath, "secondMigration");
+
+        Path migrationsPath = projectPath.resolve(Paths.get("persist", "migrations"));
+        List<Path> scripts;
+        try (Stream<Path> paths = Files.walk(migrationsPath)) {
+            scripts = paths.filter(path -> path.getFileName().toString().equals(
+                    PersistToolsConstants.SQL_SCHEMA_FILE)).sorted().toList();
+        }
+        Assert.assertEquals(scripts.size(), 2);
+        String secondScript = Files.readString(scripts.get(1));
+        Assert.assertTrue(secondScript.contains(ModelSynthesizer.ENTITY_PREFIX + 599));
+        Assert.assertFalse(secondScript.contains("CREATE TABLE " + ModelSynthesizer.ENTITY_PREFIX + 1 + " "));
+    }
+
+    @Test(enabled = true)
+    @Description("Push a model with 300 entities to the database")
+    public void testDbPushLargeModel() throws IOException, BalException, SQLException {
+        String osName = System.getProperty("os.name");
+        if (osName.toLowerCase(Locale.getDefault()).contains("windows")) {
+            return;
+        }
+        Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_scaling_3");
+        Path modelPath = getSynthesizer(300).writeModel(projectPath);
+        Module entityModule = BalProjectUtils.getEntities(modelPath);
+        SourceGenerator.addSqlScriptFile(entityModule.getModuleName(), SqlScriptUtils.generateSqlScript(
+                        entityModule.getEntityMap().values(), PersistToolsConstants.SupportedDataSources.MYSQL_DB),
+                projectPath.resolve(Paths.get("generated", "entities")));
+        executeCommand("tool_test_scaling_3", DB_PUSH);
+
+        PersistConfiguration configuration = TomlSyntaxUtils.readDatabaseConfigurations(
+                projectPath.resolve(BALLERINA_TOML));
+        String url = String.format("jdbc:mysql://%s:%s/%s", configuration.getDbConfig().getHost(),
+                configuration.getDbConfig().getPort(), configuration.getDbConfig().getDatabase());
+        int tableCount = 0;
+        try (Connection connection = DriverManager.getConnection(url, configuration.getDbConfig().getUsername(),
+                configuration.getDbConfig().getPassword());
+             ResultSet tables = connection.getMetaData().getTables(configuration.getDbConfig().getDatabase(),
+                     null, null, new String[]{"TABLE"})) {
+            while (tables.next()) {
+                tableCount++;
+            }
+        }
+        Assert.assertEquals(tableCount, 300);
+    }
+
+    private static ModelSynthesizer getSynthesizer(int entityCount) {
+        ModelSynthesizer.Builder synthesizer = ModelSynthesizer.newBuilder(SEED, entityCount);
+        synthesizer.setRelationRatio(0.7);
+        synthesizer.setOneToOneRatio(0.3);
+        synthesizer.setCompositeKeyRatio(0.2);
+        synthesizer.setEnumCount(5);
+        synthesizer.setIndexCount(2);
+        return synthesizer.build();
+    }
+
+    private static Path findGeneratedFile(Path projectPath, String fileName) throws IOException {
+        try (Stream<Path> paths = Files.walk(projectPath.resolve("generated"))) {
+            return paths.filter(path -> path.getFileName().toString().equals(fileName)).findFirst()
+                    .orElseThrow(() -> new AssertionError("the generated file is not found: " + fileName));
+        }
+    }
+
+    private static void executeMigrateCommand(Path projectPath, String migrationLabel) {
+        Migrate migrateCmd = new Migrate(projectPath.toAbsolutePath().toString());
+        new CommandLine(migrateCmd).parseArgs(migrationLabel);
+        migrateCmd.execute();
+    }
+}
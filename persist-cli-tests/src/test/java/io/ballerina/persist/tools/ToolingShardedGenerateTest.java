@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.tools;
+
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.testutils.TestModels;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import jdk.jfr.Description;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.GENERATED_SOURCES_DIRECTORY;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.executeGenerateCommand;
+import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
+
+/**
+ * persist tool generate command tests with the sharded layout of the types.
+ */
+public class ToolingShardedGenerateTest {
+
+    private static final String SUB_DIRECTORY = "tool_test_sharded";
+    private static final String MODULE = "entities";
+
+    @Test(enabled = true)
+    @Description("Generate the sharded layout of every test model and compile the generated module")
+    public void testGenerateShardedTestModels() throws IOException {
+        List<Path> modelPaths = TestModels.getModelPaths();
+        int compiledModelCount = 0;
+        for (int i = 0; i < modelPaths.size(); i++) {
+            Path modelPath = modelPaths.get(i);
+            if (TestModels.loadModule(modelPath) == null) {
+                continue;
+            }
+            String subDir = Paths.get(SUB_DIRECTORY, String.valueOf(i)).toString();
+            Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, subDir);
+            TestModels.deleteDirectory(projectPath);
+            writeProject(projectPath, "persist_sharded_" + i, modelPath);
+            executeGenerateCommand(subDir, "--datastore", "mysql", "--module", MODULE, "--sharded");
+
+            Path generatedPath = projectPath.resolve(Paths.get("generated", MODULE));
+            // The models of the error cases of the tooling tests are not generated by the single types file either.
+            if (!Files.exists(generatedPath.resolve("persist_client.bal"))) {
+                continue;
+            }
+            Assert.assertTrue(Files.exists(generatedPath.resolve("persist_types.bal")), "the enum types of " +
+                    modelPath);
+            PackageCompilation compilation = BuildProject.load(projectPath.toAbsolutePath()).currentPackage()
+                    .getCompilation();
+            Assert.assertFalse(compilation.diagnosticResult().hasErrors(), "the compilation errors of " + modelPath +
+                    ": " + compilation.diagnosticResult().errors());
+            compiledModelCount++;
+        }
+        Assert.assertTrue(compiledModelCount > 0, "no test model is compiled");
+    }
+
+    private static void writeProject(Path projectPath, String packageName, Path modelPath) throws IOException {
+        Path persistDirectory = Files.createDirectories(projectPath.resolve(PersistToolsConstants.PERSIST_DIRECTORY));
+        Files.copy(modelPath, persistDirectory.resolve("model.bal"));
+        Files.writeString(projectPath.resolve(BALLERINA_TOML), String.format("[package]%norg = \"foo\"%n" +
+                "name = \"%s\"%nversion = \"0.1.0\"%n", packageName), StandardCharsets.UTF_8);
+        Files.writeString(projectPath.resolve("main.bal"), String.format("public function main() {%n}%n"),
+                StandardCharsets.UTF_8);
+    }
+}
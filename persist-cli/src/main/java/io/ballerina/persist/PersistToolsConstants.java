@@ -59,6 +59,9 @@ public class PersistToolsConstants {
     public static final String TARGET_MODULE = "targetModule";
     public static final String OPTION_DATASTORE = "options.datastore";
     public static final String OPTION_TEST_DATASTORE = "options.testDatastore";
+    public static final String OPTION_PARALLEL = "options.parallel";
+    public static final String OPTION_SKIP_TYPES_FORMATTING = "options.skipTypesFormatting";
+    public static final String OPTION_SHARDED = "options.sharded";
     public static final String MIGRATIONS = "migrations";
     public static final String BALLERINA_MYSQL_DRIVER_NAME = "ballerinax/mysql.driver";
     public static final String BALLERINA_MSSQL_DRIVER_NAME = "ballerinax/mssql.driver";
@@ -69,6 +72,10 @@ public class PersistToolsConstants {
     public static final String POSTGRESQL_CONNECTOR_NAME_PREFIX = "postgresql";
     public static final String SCHEMA_FILE_NAME = "model";
     public static final String CACHE_FILE = "persist-cache.txt";
+    public static final String MODULE_SNAPSHOT_FILE = "persist-module.snapshot";
+    public static final String INTROSPECTION_SNAPSHOT_FILE = "persist-introspection.snapshot";
+    public static final String SCHEMA_VALIDATION_CACHE_FILE = "schema-validation-cache.properties";
+    public static final String TIMINGS_REPORT_FILE = "persist-timings.json";
     public static final String UNSUPPORTED_TYPE = "Unsupported";
     public static final String UNSUPPORTED_TYPE_COMMENT_START = "//" + UNSUPPORTED_TYPE + "[";
 
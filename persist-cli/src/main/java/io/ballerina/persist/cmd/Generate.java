@@ -22,9 +22,14 @@ import io.ballerina.persist.BalException;
 import io.ballerina.persist.PersistToolsConstants;
 import io.ballerina.persist.models.Module;
 import io.ballerina.persist.nodegenerator.SourceGenerator;
+import io.ballerina.persist.nodegenerator.SourceGenerator.Artifact;
 import io.ballerina.persist.nodegenerator.syntax.constants.BalSyntaxConstants;
 import io.ballerina.persist.nodegenerator.syntax.utils.TomlSyntaxUtils;
 import io.ballerina.persist.utils.BalProjectUtils;
+import io.ballerina.persist.utils.SchemaCompiler;
+import io.ballerina.persist.utils.SchemaLoader;
+import io.ballerina.persist.utils.SchemaWatcher;
+import io.ballerina.persist.utils.TimingTrace;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.toml.syntax.tree.DocumentMemberDeclarationNode;
 import io.ballerina.toml.syntax.tree.DocumentNode;
@@ -40,7 +45,9 @@ import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 import static io.ballerina.persist.PersistToolsConstants.PERSIST_DIRECTORY;
 import static io.ballerina.persist.nodegenerator.syntax.utils.TomlSyntaxUtils.getConfigDeclaration;
@@ -48,6 +55,7 @@ import static io.ballerina.persist.nodegenerator.syntax.utils.TomlSyntaxUtils.ge
 import static io.ballerina.persist.nodegenerator.syntax.utils.TomlSyntaxUtils.populateNativeDependencyConfig;
 import static io.ballerina.persist.utils.BalProjectUtils.printTestClientUsageSteps;
 import static io.ballerina.persist.utils.BalProjectUtils.validateDatastore;
+import static io.ballerina.persist.utils.BalProjectUtils.validateGenerationOptions;
 import static io.ballerina.persist.utils.BalProjectUtils.validateTestDatastore;
 import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
 
@@ -68,6 +76,8 @@ public class Generate implements BLauncherCmd {
     private final String sourcePath;
 
     private static final String COMMAND_IDENTIFIER = "persist-generate";
+    private static final String TRACE_COMMAND = "bal persist generate";
+    private static final long WATCH_DEBOUNCE_MILLIS = 200;
 
     public Generate() {
         this("");
@@ -90,10 +100,38 @@ public class Generate implements BLauncherCmd {
             "generated Ballerina client")
     private String testDatastore;
 
+    @CommandLine.Option(names = {"--parallel"}, description = "Generate the artifacts concurrently")
+    private boolean parallel;
+
+    @CommandLine.Option(names = {"--skip-types-formatting"}, description = "Emit the persist_types.bal file " +
+            "without running the formatter on it")
+    private boolean skipTypesFormatting;
+
+    @CommandLine.Option(names = {"--sharded"}, description = "Generate a separate types file for each entity")
+    private boolean sharded;
+
+    @CommandLine.Option(names = {"--trace-timings"}, description = "Report the time spent in each phase")
+    private boolean traceTimings;
+
+    @CommandLine.Option(names = {"--watch"}, description = "Regenerate the client when the model definition " +
+            "file changes")
+    private boolean watch;
+
+    private final SchemaLoader schemaLoader = new SchemaLoader();
+    private final SchemaCompiler schemaCompiler = new SchemaCompiler();
+
     @Override
     public void execute() {
+        TimingTrace timingTrace = TimingTrace.create(TRACE_COMMAND, traceTimings);
+        try {
+            generate(timingTrace);
+        } finally {
+            timingTrace.report(Paths.get(this.sourcePath), errStream);
+        }
+    }
+
+    private void generate(TimingTrace timingTrace) {
         Path generatedSourceDirPath;
-        Module entityModule;
         Path schemaFilePath;
         String packageName;
         String moduleNameWithPackage;
@@ -116,6 +154,7 @@ public class Generate implements BLauncherCmd {
         }
         try {
             validateTestDatastore(datastore, testDatastore);
+            validateGenerationOptions(skipTypesFormatting, sharded);
         } catch (BalException e) {
             errStream.printf("ERROR: %s%n", e.getMessage());
             return;
@@ -123,14 +162,14 @@ public class Generate implements BLauncherCmd {
 
         Path projectPath = Paths.get(sourcePath);
         try {
-            BalProjectUtils.validateBallerinaProject(projectPath);
+            timingTrace.run("validate project", () -> BalProjectUtils.validateBallerinaProject(projectPath));
         } catch (BalException e) {
             errStream.println(e.getMessage());
             return;
         }
 
         try {
-            packageName = TomlSyntaxUtils.readPackageName(this.sourcePath);
+            packageName = timingTrace.measure("read toml", () -> TomlSyntaxUtils.readPackageName(this.sourcePath));
         } catch (BalException e) {
             errStream.println(e.getMessage());
             return;
@@ -147,7 +186,8 @@ public class Generate implements BLauncherCmd {
 
         boolean hasPersistConfig;
         try {
-            hasPersistConfig = hasPersistConfig(Paths.get(this.sourcePath, "Ballerina.toml"));
+            hasPersistConfig = timingTrace.measure("read toml",
+                    () -> hasPersistConfig(Paths.get(this.sourcePath, "Ballerina.toml")));
         } catch (BalException e) {
             errStream.println("ERROR: The project does not contain a toml file");
             return;
@@ -215,23 +255,46 @@ public class Generate implements BLauncherCmd {
         }
 
         try {
-            BalProjectUtils.updateToml(sourcePath, datastore, moduleNameWithPackage);
-            String syntaxTree = updateBallerinaToml(Paths.get(this.sourcePath, BALLERINA_TOML),
-                    datastore, testDatastore);
-            Utils.writeOutputString(syntaxTree,
-                    Paths.get(this.sourcePath, BALLERINA_TOML).toAbsolutePath().toString());
-            BalProjectUtils.validateSchemaFile(schemaFilePath);
-            Module module = BalProjectUtils.getEntities(schemaFilePath);
+            timingTrace.run("update toml", () -> updateTomlFiles(moduleNameWithPackage));
+        } catch (BalException e) {
+            errStream.printf("ERROR: Failed to generate types and client for the definition file(%s). %s%n",
+                    schemaFilePath.getFileName(), e.getMessage());
+            return;
+        }
+        String generatedDigest = generateSources(timingTrace, schemaFilePath, generatedSourceDirPath,
+                moduleNameWithPackage, packageName, EnumSet.allOf(Artifact.class));
+        if (watch) {
+            timingTrace.report(Paths.get(this.sourcePath), errStream);
+            watchSchemaFile(schemaFilePath, generatedSourceDirPath, moduleNameWithPackage, packageName,
+                    generatedDigest);
+        }
+    }
+
+    /**
+     * Generates the given artifacts from the model definition file.
+     *
+     * @return the digest of the model definition file the artifacts were generated from, or null if the generation
+     * failed
+     */
+    private String generateSources(TimingTrace timingTrace, Path schemaFilePath, Path generatedSourceDirPath,
+                                   String moduleNameWithPackage, String packageName, Set<Artifact> artifacts) {
+        SchemaLoader.Schema schema;
+        Module entityModule;
+        try {
+            schema = timingTrace.measure("parse model", () -> schemaLoader.load(schemaFilePath));
+            timingTrace.run("validate model", () -> BalProjectUtils.validateSchemaFile(schemaFilePath,
+                    schemaLoader, schemaCompiler));
+            Module module = schema.getModule(timingTrace);
             if (module.getEntityMap().isEmpty()) {
                 errStream.printf("ERROR: the model definition file(%s) does not contain any entity definition.%n",
                         schemaFilePath.getFileName());
-                return;
+                return null;
             }
             entityModule = module;
-        } catch (BalException | IOException e) {
+        } catch (BalException e) {
             errStream.printf("ERROR: Failed to generate types and client for the definition file(%s). %s%n",
                     schemaFilePath.getFileName(), e.getMessage());
-            return;
+            return null;
         }
 
         if (!Files.exists(generatedSourceDirPath)) {
@@ -239,11 +302,17 @@ public class Generate implements BLauncherCmd {
                 Files.createDirectories(generatedSourceDirPath.toAbsolutePath());
             } catch (IOException e) {
                 errStream.println("ERROR: failed to create the generated directory. " + e.getMessage());
-                return;
+                return null;
             }
         }
         SourceGenerator sourceCreator = new SourceGenerator(sourcePath, generatedSourceDirPath,
-                moduleNameWithPackage, entityModule);
+                moduleNameWithPackage, entityModule, artifacts);
+        if (parallel) {
+            sourceCreator.setParallelism(Runtime.getRuntime().availableProcessors());
+        }
+        sourceCreator.setSkipTypesFormatting(skipTypesFormatting);
+        sourceCreator.setSharded(sharded);
+        sourceCreator.setTimingTrace(timingTrace);
         try {
             switch (datastore) {
                 case PersistToolsConstants.SupportedDataSources.MYSQL_DB:
@@ -265,7 +334,7 @@ public class Generate implements BLauncherCmd {
         } catch (BalException e) {
             errStream.printf(String.format(BalSyntaxConstants.ERROR_MSG,
                     datastore, e.getMessage()));
-            return;
+            return null;
         }
         errStream.println("Persist client and entity types generated successfully in the " + module +  " directory.");
 
@@ -274,11 +343,66 @@ public class Generate implements BLauncherCmd {
                 sourceCreator.createTestDataSources(testDatastore);
             } catch (BalException e) {
                 errStream.printf("ERROR: the test data source creation failed. %s%n", e.getMessage());
-                return;
+                return null;
             }
             errStream.printf("The test client for the %s datastore is successfully generated in the %s module.%n",
                     testDatastore, module);
-            printTestClientUsageSteps(testDatastore, packageName, module);
+            if (artifacts.contains(Artifact.DATASTORE_CONFIG)) {
+                printTestClientUsageSteps(testDatastore, packageName, module);
+            }
+        }
+        errStream.printf("Updated %d generated file(s), %d file(s) unchanged.%n",
+                sourceCreator.getWrittenFileCount(), sourceCreator.getUnchangedFileCount());
+        return schema.getDigest();
+    }
+
+    /**
+     * Regenerates the artifacts built from the entities of the model each time the model definition file changes,
+     * until the command is stopped. The process, and so the loaded classes, the parsed templates, the formatter and the
+     * compilation of the model definition file, stay warm between the generations. All the artifacts are generated
+     * again until a generation succeeds.
+     */
+    private void watchSchemaFile(Path schemaFilePath, Path generatedSourceDirPath, String moduleNameWithPackage,
+                                 String packageName, String generatedDigest) {
+        Set<Artifact> modelArtifacts = EnumSet.noneOf(Artifact.class);
+        for (Artifact artifact : Artifact.values()) {
+            if (artifact.isModelArtifact()) {
+                modelArtifacts.add(artifact);
+            }
+        }
+        try (SchemaWatcher watcher = new SchemaWatcher(schemaFilePath, WATCH_DEBOUNCE_MILLIS)) {
+            errStream.printf("Watching the model definition file(%s) for changes. Press Ctrl+C to stop.%n",
+                    schemaFilePath.getFileName());
+            while (watcher.awaitChange()) {
+                if (!Files.isRegularFile(schemaFilePath) || (generatedDigest != null &&
+                        generatedDigest.equals(getDigest(schemaFilePath)))) {
+                    continue;
+                }
+                long startTime = System.nanoTime();
+                TimingTrace timingTrace = TimingTrace.create(TRACE_COMMAND, traceTimings);
+                String digest = generateSources(timingTrace, schemaFilePath, generatedSourceDirPath,
+                        moduleNameWithPackage, packageName, generatedDigest != null ? modelArtifacts :
+                                EnumSet.allOf(Artifact.class));
+                if (digest != null) {
+                    generatedDigest = digest;
+                    errStream.printf("Regenerated the client in %d ms.%n", (System.nanoTime() - startTime) /
+                            1_000_000);
+                }
+                timingTrace.report(Paths.get(this.sourcePath), errStream);
+            }
+            errStream.println("ERROR: the persist directory is no longer accessible. stopped watching for changes.");
+        } catch (IOException e) {
+            errStream.println("ERROR: failed to watch the model definition file. " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String getDigest(Path schemaFilePath) {
+        try {
+            return schemaLoader.load(schemaFilePath).getDigest();
+        } catch (BalException e) {
+            return null;
         }
     }
 
@@ -287,6 +411,18 @@ public class Generate implements BLauncherCmd {
 
     }
 
+    private void updateTomlFiles(String moduleNameWithPackage) throws BalException {
+        try {
+            BalProjectUtils.updateToml(sourcePath, datastore, moduleNameWithPackage);
+            String syntaxTree = updateBallerinaToml(Paths.get(this.sourcePath, BALLERINA_TOML),
+                    datastore, testDatastore);
+            Utils.writeOutputString(syntaxTree,
+                    Paths.get(this.sourcePath, BALLERINA_TOML).toAbsolutePath().toString());
+        } catch (IOException e) {
+            throw new BalException(e.getMessage());
+        }
+    }
+
     /**
      * Method to update the Ballerina.toml with persist native dependency.
      */
@@ -22,9 +22,15 @@ import io.ballerina.persist.BalException;
 import io.ballerina.persist.PersistToolsConstants;
 import io.ballerina.persist.models.Module;
 import io.ballerina.persist.nodegenerator.SourceGenerator;
+import io.ballerina.persist.nodegenerator.SourceGenerator.Artifact;
 import io.ballerina.persist.nodegenerator.syntax.constants.BalSyntaxConstants;
 import io.ballerina.persist.nodegenerator.syntax.utils.TomlSyntaxUtils;
 import io.ballerina.persist.utils.BalProjectUtils;
+import io.ballerina.persist.utils.GenerationCache;
+import io.ballerina.persist.utils.ModuleSnapshot;
+import io.ballerina.persist.utils.SchemaCompiler;
+import io.ballerina.persist.utils.SchemaLoader;
+import io.ballerina.persist.utils.TimingTrace;
 import io.ballerina.projects.buildtools.CodeGeneratorTool;
 import io.ballerina.projects.buildtools.ToolConfig;
 import io.ballerina.projects.buildtools.ToolContext;
@@ -40,19 +46,22 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.Optional;
+import java.util.Set;
 
-import static io.ballerina.persist.PersistToolsConstants.CACHE_FILE;
 import static io.ballerina.persist.PersistToolsConstants.OPTION_DATASTORE;
+import static io.ballerina.persist.PersistToolsConstants.OPTION_PARALLEL;
+import static io.ballerina.persist.PersistToolsConstants.OPTION_SHARDED;
+import static io.ballerina.persist.PersistToolsConstants.OPTION_SKIP_TYPES_FORMATTING;
 import static io.ballerina.persist.PersistToolsConstants.OPTION_TEST_DATASTORE;
 import static io.ballerina.persist.PersistToolsConstants.TARGET_MODULE;
 import static io.ballerina.persist.nodegenerator.syntax.utils.TomlSyntaxUtils.getConfigDeclaration;
 import static io.ballerina.persist.nodegenerator.syntax.utils.TomlSyntaxUtils.getDependencyConfig;
 import static io.ballerina.persist.nodegenerator.syntax.utils.TomlSyntaxUtils.populateNativeDependencyConfig;
 import static io.ballerina.persist.utils.BalProjectUtils.validateDatastore;
+import static io.ballerina.persist.utils.BalProjectUtils.validateGenerationOptions;
 import static io.ballerina.persist.utils.BalProjectUtils.validateTestDatastore;
 import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
 
@@ -61,8 +70,19 @@ public class PersistCodeGeneratorTool implements CodeGeneratorTool {
 
     private static final PrintStream errStream = System.err;
 
+    private final SchemaLoader schemaLoader = new SchemaLoader();
+
     @Override
     public void execute(ToolContext toolContext) {
+        TimingTrace timingTrace = TimingTrace.create("the persist build tool", false);
+        try {
+            execute(toolContext, timingTrace);
+        } finally {
+            timingTrace.report(toolContext.currentPackage().project().sourceRoot(), errStream);
+        }
+    }
+
+    private void execute(ToolContext toolContext, TimingTrace timingTrace) {
         String datastore;
         Module entityModule;
         Path schemaFilePath;
@@ -74,11 +94,12 @@ public class PersistCodeGeneratorTool implements CodeGeneratorTool {
         Path projectPath = toolContext.currentPackage().project().sourceRoot();
         Path generatedSourceDirPath = Paths.get(projectPath.toString(), BalSyntaxConstants.GENERATED_SOURCE_DIRECTORY);
         try {
-            BalProjectUtils.validateBallerinaProject(projectPath);
-            packageName = TomlSyntaxUtils.readPackageName(projectPath.toString());
+            timingTrace.run("validate project", () -> BalProjectUtils.validateBallerinaProject(projectPath));
+            packageName = timingTrace.measure("read toml", () -> TomlSyntaxUtils.readPackageName(
+                    projectPath.toString()));
             schemaFilePath = BalProjectUtils.getSchemaFilePath(projectPath.toString());
-            HashMap<String, String> ballerinaTomlConfig = TomlSyntaxUtils.readBallerinaTomlConfig(
-                    Paths.get(projectPath.toString(), BALLERINA_TOML));
+            HashMap<String, String> ballerinaTomlConfig = timingTrace.measure("read toml",
+                    () -> TomlSyntaxUtils.readBallerinaTomlConfig(Paths.get(projectPath.toString(), BALLERINA_TOML)));
             targetModule = ballerinaTomlConfig.get(TARGET_MODULE).trim();
             datastore = ballerinaTomlConfig.get(OPTION_DATASTORE).trim();
             testDatastore = ballerinaTomlConfig.get(OPTION_TEST_DATASTORE) == null ? null :
@@ -86,6 +107,10 @@ public class PersistCodeGeneratorTool implements CodeGeneratorTool {
 
             validateDatastore(datastore);
             validateTestDatastore(datastore, testDatastore);
+            boolean skipTypesFormatting = Boolean.parseBoolean(ballerinaTomlConfig.get(
+                    OPTION_SKIP_TYPES_FORMATTING));
+            boolean sharded = Boolean.parseBoolean(ballerinaTomlConfig.get(OPTION_SHARDED));
+            validateGenerationOptions(skipTypesFormatting, sharded);
             if (!targetModule.equals(packageName)) {
                 if (!targetModule.startsWith(packageName + ".")) {
                     createDiagnostics(toolContext, PersistToolsConstants.DiagnosticMessages.INVALID_MODULE_NAME,
@@ -98,29 +123,60 @@ public class PersistCodeGeneratorTool implements CodeGeneratorTool {
             }
             validatePersistDirectory(datastore, projectPath);
             printExperimentalFeatureInfo(datastore);
+            Path cachePath = toolContext.cachePath();
+            Path configTomlPath = Paths.get(projectPath.toString(), PersistToolsConstants.CONFIG_SCRIPT_FILE);
+            Set<Artifact> artifacts = Artifact.forDatastore(datastore, testDatastore);
+            GenerationCache cache = GenerationCache.load(cachePath);
+            GenerationCache.Inputs inputs = null;
+            Set<Artifact> staleArtifacts = artifacts;
             try {
-                if (validateCache(toolContext, schemaFilePath) && Files.exists(generatedSourceDirPath)) {
+                inputs = GenerationCache.computeInputs(schemaFilePath, ballerinaTomlConfig, configTomlPath,
+                        targetModule);
+                staleArtifacts = cache.getStaleArtifacts(inputs, artifacts, generatedSourceDirPath, datastore);
+                if (staleArtifacts.isEmpty()) {
                     return;
                 }
             } catch (NoSuchAlgorithmException e) {
+                inputs = null;
                 errStream.println("INFO: unable to validate the cache. Generating sources for the schema file.");
             }
-            BalProjectUtils.validateSchemaFile(schemaFilePath);
-            entityModule = BalProjectUtils.getEntities(schemaFilePath);
-            validateEntityModule(entityModule, schemaFilePath);
-            String syntaxTree = updateBallerinaToml(
-                    Paths.get(projectPath.toString(), BALLERINA_TOML), datastore, testDatastore);
-            Utils.writeOutputString(syntaxTree,
-                    Paths.get(projectPath.toString(), BALLERINA_TOML).toAbsolutePath().toString());
+            Path snapshotPath = cachePath.resolve(PersistToolsConstants.MODULE_SNAPSHOT_FILE);
+            String snapshotKey = inputs == null ? null : ModuleSnapshot.getKey(inputs.schema(), inputs.version());
+            Optional<Module> snapshot = snapshotKey == null ? Optional.empty() : timingTrace.measure(
+                    "load model snapshot", () -> ModuleSnapshot.read(snapshotPath, snapshotKey));
+            if (snapshot.isPresent()) {
+                entityModule = snapshot.get();
+            } else {
+                Path modelPath = schemaFilePath;
+                SchemaLoader.Schema schema = timingTrace.measure("parse model", () -> schemaLoader.load(modelPath));
+                timingTrace.run("validate model", () -> BalProjectUtils.validateSchemaFile(modelPath, schemaLoader,
+                        new SchemaCompiler()));
+                entityModule = schema.getModule(timingTrace);
+                validateEntityModule(entityModule, schemaFilePath);
+            }
+            timingTrace.run("update toml", () -> updateBallerinaToml(projectPath, datastore, testDatastore));
             createGeneratedSourceDirIfNotExists(generatedSourceDirPath);
-            generateSources(datastore, entityModule, targetModule, projectPath, generatedSourceDirPath);
-            generateTestSources(testDatastore, entityModule, targetModule, projectPath, generatedSourceDirPath);
-            String modelHashVal = getHashValue(schemaFilePath);
-            Path cachePath = toolContext.cachePath();
-            updateCacheFile(cachePath, modelHashVal);
+            int parallelism = Boolean.parseBoolean(ballerinaTomlConfig.get(OPTION_PARALLEL)) ?
+                    Runtime.getRuntime().availableProcessors() : 1;
+            int writtenFileCount = generateSources(datastore, entityModule, targetModule, projectPath,
+                    generatedSourceDirPath, staleArtifacts, parallelism, skipTypesFormatting, sharded, timingTrace);
+            writtenFileCount += generateTestSources(testDatastore, entityModule, targetModule, projectPath,
+                    generatedSourceDirPath, staleArtifacts, parallelism, timingTrace);
+            if (inputs != null) {
+                updateCache(cache, inputs, configTomlPath, targetModule, artifacts, cachePath,
+                        generatedSourceDirPath, datastore);
+            }
+            if (snapshotKey != null && snapshot.isEmpty()) {
+                Module generatedModule = entityModule;
+                timingTrace.run("save model snapshot", () -> saveModuleSnapshot(snapshotPath, snapshotKey,
+                        generatedModule));
+            }
             errStream.println("Persist client and entity types generated successfully in the " + targetModule +
                     " directory.");
-        } catch (BalException | IOException | NoSuchAlgorithmException e) {
+            if (writtenFileCount > 0) {
+                errStream.printf("Updated %d generated file(s).%n", writtenFileCount);
+            }
+        } catch (BalException | IOException e) {
             createDiagnostics(toolContext, PersistToolsConstants.DiagnosticMessages.ERROR_WHILE_GENERATING_CLIENT,
                     location, e.getMessage());
         }
@@ -129,12 +185,17 @@ public class PersistCodeGeneratorTool implements CodeGeneratorTool {
     /**
      * Method to update the Ballerina.toml with persist native dependency.
      */
-    private String updateBallerinaToml(Path tomlPath, String datastore, String testDatastore)
-            throws BalException, IOException {
-        TomlSyntaxUtils.NativeDependency dependency = getDependencyConfig(datastore, testDatastore);
-        TomlSyntaxUtils.ConfigDeclaration declaration = getConfigDeclaration(tomlPath, dependency);
-
-        return populateNativeDependencyConfig(datastore, testDatastore, declaration, dependency);
+    private void updateBallerinaToml(Path projectPath, String datastore, String testDatastore)
+            throws BalException {
+        Path tomlPath = Paths.get(projectPath.toString(), BALLERINA_TOML);
+        try {
+            TomlSyntaxUtils.NativeDependency dependency = getDependencyConfig(datastore, testDatastore);
+            TomlSyntaxUtils.ConfigDeclaration declaration = getConfigDeclaration(tomlPath, dependency);
+            Utils.writeOutputString(populateNativeDependencyConfig(datastore, testDatastore, declaration,
+                    dependency), tomlPath.toAbsolutePath().toString());
+        } catch (IOException e) {
+            throw new BalException(e.getMessage());
+        }
     }
 
     private void validateModuleName(String moduleName) throws BalException {
@@ -147,40 +208,26 @@ public class PersistCodeGeneratorTool implements CodeGeneratorTool {
         }
     }
 
-    /**
-     * This method is used to validate the cache.
-     */
-    private static boolean validateCache(ToolContext toolContext, Path schemaFilePath)
-            throws IOException, NoSuchAlgorithmException {
-        Path cachePath = toolContext.cachePath();
-        String modelHashVal = getHashValue(schemaFilePath);
-        if (!Files.isDirectory(cachePath)) {
-            return false;
-        }
-        // read the cache file
-        Path cacheFilePath = Paths.get(cachePath.toString(), CACHE_FILE);
-        String cacheContent = Files.readString(Paths.get(cacheFilePath.toString()));
-        return cacheContent.equals(modelHashVal);
-    }
-
-    private static void updateCacheFile(Path cachePath, String modelHashVal) {
+    private static void updateCache(GenerationCache cache, GenerationCache.Inputs inputs, Path configTomlPath,
+                                    String targetModule, Set<Artifact> artifacts, Path cachePath,
+                                    Path generatedSourceDirPath, String datastore) {
         try {
-            Path cacheFilePath = Paths.get(cachePath.toString(), CACHE_FILE);
-            if (!Files.exists(cacheFilePath)) {
-                Files.createDirectories(cachePath);
-                Files.createFile(cacheFilePath);
-            }
-            Files.writeString(cacheFilePath, modelHashVal, StandardCharsets.UTF_8, StandardOpenOption.WRITE);
+            cache.update(inputs.withConfig(GenerationCache.digestConfigSection(configTomlPath, targetModule)),
+                    artifacts, generatedSourceDirPath, datastore);
+            cache.save(cachePath);
         } catch (IOException e) {
             errStream.println("ERROR: failed to update the cache file: " + e.getMessage());
+        } catch (NoSuchAlgorithmException e) {
+            errStream.println("INFO: unable to update the cache. " + e.getMessage());
         }
     }
 
-    private static String getHashValue(Path schemaFilePath) throws IOException, NoSuchAlgorithmException {
-        String schema = readFileToString(schemaFilePath);
-        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-        byte[] hashBytes = messageDigest.digest(schema.getBytes(StandardCharsets.UTF_8));
-        return new String(hashBytes, StandardCharsets.UTF_8);
+    private static void saveModuleSnapshot(Path snapshotPath, String snapshotKey, Module entityModule) {
+        try {
+            ModuleSnapshot.write(snapshotPath, snapshotKey, entityModule);
+        } catch (IOException e) {
+            errStream.println("ERROR: failed to update the model snapshot: " + e.getMessage());
+        }
     }
 
     public static String readFileToString(Path filePath) throws IOException {
@@ -219,10 +266,16 @@ public class PersistCodeGeneratorTool implements CodeGeneratorTool {
         }
     }
 
-    private void generateSources(String datastore, Module entityModule, String targetModule, Path projectPath,
-                                 Path generatedSourceDirPath) throws BalException {
+    private int generateSources(String datastore, Module entityModule, String targetModule, Path projectPath,
+                                Path generatedSourceDirPath, Set<Artifact> artifacts, int parallelism,
+                                boolean skipTypesFormatting, boolean sharded, TimingTrace timingTrace)
+            throws BalException {
         SourceGenerator sourceCreator = new SourceGenerator(projectPath.toString(), generatedSourceDirPath,
-                targetModule, entityModule);
+                targetModule, entityModule, artifacts);
+        sourceCreator.setParallelism(parallelism);
+        sourceCreator.setSkipTypesFormatting(skipTypesFormatting);
+        sourceCreator.setSharded(sharded);
+        sourceCreator.setTimingTrace(timingTrace);
         switch (datastore) {
             case PersistToolsConstants.SupportedDataSources.MYSQL_DB:
             case PersistToolsConstants.SupportedDataSources.MSSQL_DB:
@@ -240,19 +293,25 @@ public class PersistCodeGeneratorTool implements CodeGeneratorTool {
                 sourceCreator.createInMemorySources();
                 break;
         }
+        return sourceCreator.getWrittenFileCount();
     }
 
-    private void generateTestSources(String testDatastore, Module entityModule, String targetModule,
-                                     Path projectPath, Path generatedSourceDirPath) {
+    private int generateTestSources(String testDatastore, Module entityModule, String targetModule,
+                                    Path projectPath, Path generatedSourceDirPath, Set<Artifact> artifacts,
+                                    int parallelism, TimingTrace timingTrace) {
         if (testDatastore != null) {
             try {
                 SourceGenerator sourceCreator = new SourceGenerator(projectPath.toString(), generatedSourceDirPath,
-                        targetModule, entityModule);
+                        targetModule, entityModule, artifacts);
+                sourceCreator.setParallelism(parallelism);
+                sourceCreator.setTimingTrace(timingTrace);
                 sourceCreator.createTestDataSources(testDatastore);
+                return sourceCreator.getWrittenFileCount();
             } catch (BalException e) {
                 errStream.printf("ERROR: the test data source creation failed. %s%n", e.getMessage());
             }
         }
+        return 0;
     }
 
     private static void createDiagnostics(ToolContext toolContext, PersistToolsConstants.DiagnosticMessages error,
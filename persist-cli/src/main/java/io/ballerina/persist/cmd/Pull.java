@@ -26,8 +26,10 @@ import io.ballerina.persist.introspect.Introspector;
 import io.ballerina.persist.introspect.MsSqlInstrospector;
 import io.ballerina.persist.introspect.MySqlIntrospector;
 import io.ballerina.persist.introspect.PostgreSqlIntrospector;
+import io.ballerina.persist.introspect.TableFilter;
 import io.ballerina.persist.models.Module;
 import io.ballerina.persist.nodegenerator.SourceGenerator;
+import io.ballerina.persist.utils.IntrospectionSnapshot;
 import picocli.CommandLine;
 
 import java.io.IOException;
@@ -36,11 +38,17 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Scanner;
+import java.util.stream.Stream;
 
 import static io.ballerina.persist.PersistToolsConstants.COMPONENT_IDENTIFIER;
+import static io.ballerina.persist.PersistToolsConstants.INTROSPECTION_SNAPSHOT_FILE;
 import static io.ballerina.persist.PersistToolsConstants.PERSIST_DIRECTORY;
 import static io.ballerina.persist.utils.BalProjectUtils.validateBallerinaProject;
 import static io.ballerina.persist.utils.BalProjectUtils.validatePullCommandOptions;
@@ -79,6 +87,34 @@ public class Pull implements BLauncherCmd {
     @CommandLine.Option(names = {"--database"})
     private String database;
 
+    @CommandLine.Option(names = {"--connections"}, description = "The number of database connections over which " +
+            "the tables are read concurrently")
+    private int connectionCount = 1;
+
+    @CommandLine.Option(names = {"--fetch-size"}, description = "The number of rows fetched at a time by the " +
+            "queries which read the database schema")
+    private int fetchSize = 0;
+
+    @CommandLine.Option(names = {"--include"}, description = "A glob or `regex:` prefixed regular expression " +
+            "matching the names of the tables to introspect")
+    private List<String> includedTables = new ArrayList<>();
+
+    @CommandLine.Option(names = {"--exclude"}, description = "A glob or `regex:` prefixed regular expression " +
+            "matching the names of the tables not to introspect")
+    private List<String> excludedTables = new ArrayList<>();
+
+    @CommandLine.Option(names = {"--schema"}, description = "A glob or `regex:` prefixed regular expression " +
+            "matching the names of the schemas to introspect")
+    private List<String> schemas = new ArrayList<>();
+
+    @CommandLine.Option(names = {"--snapshot-out"}, description = "The file to which the schema read from the " +
+            "database is written")
+    private String snapshotOut;
+
+    @CommandLine.Option(names = {"--snapshot-in"}, description = "The file from which the schema is read instead " +
+            "of the database")
+    private String snapshotIn;
+
     @CommandLine.Option(names = { "-h", "--help" }, hidden = true)
     private boolean helpFlag;
 
@@ -91,25 +127,37 @@ public class Pull implements BLauncherCmd {
             return;
         }
 
+        IntrospectionSnapshot inputSnapshot = null;
+        if (snapshotIn != null) {
+            Optional<IntrospectionSnapshot> snapshot = IntrospectionSnapshot.read(Paths.get(snapshotIn));
+            if (snapshot.isEmpty()) {
+                errStream.printf("ERROR: failed to read the introspection snapshot '%s'. The file does not exist or " +
+                        "is not an introspection snapshot.%n", snapshotIn);
+                return;
+            }
+            inputSnapshot = snapshot.get();
+            datastore = inputSnapshot.getDatastore();
+        }
+
         Introspector introspector;
         switch (this.datastore) {
             case PersistToolsConstants.SupportedDataSources.MYSQL_DB:
                 introspector = new MySqlIntrospector();
-                if (Objects.isNull(port)) {
+                if (Objects.isNull(port) && inputSnapshot == null) {
                     port = "3306";
                     errStream.println("MySQL database introspection operates on the default port 3306");
                 }
                 break;
             case PersistToolsConstants.SupportedDataSources.POSTGRESQL_DB:
                 introspector = new PostgreSqlIntrospector();
-                if (Objects.isNull(port)) {
+                if (Objects.isNull(port) && inputSnapshot == null) {
                     port = "5432";
                     errStream.println("PostgreSQL database introspection operates on the default port 5432");
                 }
                 break;
             case PersistToolsConstants.SupportedDataSources.MSSQL_DB:
                 introspector = new MsSqlInstrospector();
-                if (Objects.isNull(port)) {
+                if (Objects.isNull(port) && inputSnapshot == null) {
                     port = "1433";
                     errStream.println("MSSQL database introspection operates on the default port 1433");
                 }
@@ -120,14 +168,57 @@ public class Pull implements BLauncherCmd {
         }
 
 
+        if (inputSnapshot != null && !(includedTables.isEmpty() && excludedTables.isEmpty())) {
+            errStream.println("ERROR: invalid option(s): " + System.lineSeparator() + "The tables of a snapshot " +
+                    "cannot be filtered. Use the --include and --exclude options when the snapshot is taken.");
+            return;
+        }
+        if (inputSnapshot != null && !schemas.isEmpty()) {
+            errStream.println("ERROR: invalid option(s): " + System.lineSeparator() + "The schemas of a snapshot " +
+                    "cannot be selected. Use the --schema option when the snapshot is taken.");
+            return;
+        }
+        if (!introspector.supportsRegexPatterns() && Stream.of(includedTables, excludedTables, schemas)
+                .flatMap(List::stream).anyMatch(TableFilter::isRegex)) {
+            errStream.println("ERROR: invalid option(s): " + System.lineSeparator() + "Regular expression patterns " +
+                    "are not supported for the '" + datastore + "' data store. Use glob patterns with the " +
+                    "--include, --exclude and --schema options instead.");
+            return;
+        }
+        if (!schemas.isEmpty() && !introspector.supportsSchemas()) {
+            errStream.println("ERROR: invalid option(s): " + System.lineSeparator() + "The --schema option is not " +
+                    "supported for the '" + datastore + "' data store.");
+            return;
+        }
+        try {
+            if (inputSnapshot == null) {
+                validatePullCommandOptions(datastore, host, port, user, database);
+            }
+        } catch (BalException e) {
+            errStream.println("ERROR: invalid option(s): " + System.lineSeparator() + e.getMessage());
+            return;
+        }
+        if (connectionCount < 1) {
+            errStream.println("ERROR: invalid option(s): " + System.lineSeparator() + "The number of connections is " +
+                    "invalid. The number of connections should be a positive number.");
+            return;
+        }
+        introspector.setConnectionCount(connectionCount);
+        if (fetchSize < 0) {
+            errStream.println("ERROR: invalid option(s): " + System.lineSeparator() + "The fetch size is invalid. " +
+                    "The fetch size should be zero or a positive number.");
+            return;
+        }
+        introspector.setFetchSize(fetchSize);
         try {
-            validatePullCommandOptions(datastore, host, port, user, database);
+            introspector.setTableFilter(TableFilter.of(includedTables, excludedTables));
+            introspector.setSchemaFilter(TableFilter.of(schemas, List.of()));
         } catch (BalException e) {
             errStream.println("ERROR: invalid option(s): " + System.lineSeparator() + e.getMessage());
             return;
         }
 
-        String password = readDatabasePassword(scanner, errStream);
+        String password = inputSnapshot == null ? readDatabasePassword(scanner, errStream) : null;
 
         try {
             validateBallerinaProject(Paths.get(this.sourcePath));
@@ -163,21 +254,41 @@ public class Pull implements BLauncherCmd {
         PersistConfiguration persistConfigurations = new PersistConfiguration();
         persistConfigurations.setProvider(datastore);
         persistConfigurations.setSourcePath(this.sourcePath);
-        try {
-            persistConfigurations.setDbConfig(new DatabaseConfiguration(this.host, this.user, password, this.port,
-                    this.database));
-        } catch (BalException e) {
-            errStream.println(e.getMessage());
-            return;
+        if (inputSnapshot == null) {
+            try {
+                persistConfigurations.setDbConfig(new DatabaseConfiguration(this.host, this.user, password, this.port,
+                        this.database));
+            } catch (BalException e) {
+                errStream.println(e.getMessage());
+                return;
+            }
+        }
+
+        Path snapshotPath = persistDir.resolve(INTROSPECTION_SNAPSHOT_FILE);
+        String snapshotKey = inputSnapshot == null ? getSnapshotKey(persistConfigurations) : inputSnapshot.getKey();
+        if (inputSnapshot == null && snapshotKey != null) {
+            IntrospectionSnapshot.read(snapshotPath).filter(snapshot -> snapshotKey.equals(snapshot.getKey()))
+                    .ifPresent(introspector::setPreviousSnapshot);
         }
 
         Module entityModule = null;
         try {
-            entityModule = introspector.introspectDatabase(persistConfigurations);
+            entityModule = inputSnapshot == null ? introspector.introspectDatabase(persistConfigurations) :
+                    introspector.introspectSnapshot(inputSnapshot, persistConfigurations);
         } catch (BalException e) {
             errStream.printf("ERROR: failed to introspect database: %s%n", e.getMessage());
             return;
         }
+        if (snapshotOut != null) {
+            try {
+                IntrospectionSnapshot.write(Paths.get(snapshotOut), introspector.createSnapshot(
+                        Objects.requireNonNullElse(snapshotKey, "")));
+            } catch (IOException e) {
+                errStream.println("ERROR: failed to write the introspection snapshot. " + e.getMessage());
+                return;
+            }
+            errStream.printf("The introspection snapshot is written to %s%n", snapshotOut);
+        }
 
         SourceGenerator sourceGenerator = new SourceGenerator(sourcePath, Paths.get(sourcePath, PERSIST_DIRECTORY),
                 "Introspect.db", entityModule);
@@ -189,9 +300,29 @@ public class Pull implements BLauncherCmd {
                     e.getMessage()));
             return;
         }
+        if (introspector.getReusedTableCount() > 0) {
+            errStream.printf("%d table(s) did not change since the last introspection and were not read again.%n",
+                    introspector.getReusedTableCount());
+        }
+        if (inputSnapshot == null && snapshotKey != null) {
+            try {
+                IntrospectionSnapshot.write(snapshotPath, introspector.createSnapshot(snapshotKey));
+            } catch (IOException e) {
+                errStream.println("WARNING: failed to write the introspection snapshot. " + e.getMessage());
+            }
+        }
         errStream.println("Introspection complete! The model.bal file created successfully.");
     }
 
+    private static String getSnapshotKey(PersistConfiguration persistConfigurations) {
+        try {
+            return IntrospectionSnapshot.getKey(persistConfigurations);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            errStream.println("WARNING: the introspection snapshot is not used. " + e.getMessage());
+            return null;
+        }
+    }
+
     @Override
     public String getName() {
         return COMPONENT_IDENTIFIER;
@@ -26,6 +26,8 @@ import io.ballerina.persist.nodegenerator.syntax.constants.BalSyntaxConstants;
 import io.ballerina.persist.nodegenerator.syntax.utils.TomlSyntaxUtils;
 import io.ballerina.persist.utils.BalProjectUtils;
 import io.ballerina.persist.utils.JdbcDriverLoader;
+import io.ballerina.persist.utils.SchemaCompiler;
+import io.ballerina.persist.utils.SchemaLoader;
 import io.ballerina.persist.utils.ScriptRunner;
 import io.ballerina.projects.DependencyGraph;
 import io.ballerina.projects.JvmTarget;
@@ -204,8 +206,9 @@ public class Push implements BLauncherCmd {
             Module entityModule;
             Path generatedSourceDirPath;
             try {
-                BalProjectUtils.validateSchemaFile(file);
-                entityModule = BalProjectUtils.getEntities(file);
+                SchemaLoader schemaLoader = new SchemaLoader();
+                BalProjectUtils.validateSchemaFile(file, schemaLoader, new SchemaCompiler());
+                entityModule = BalProjectUtils.getEntities(file, schemaLoader);
                 generatedSourceDirPath = Paths.get(this.sourcePath, BalSyntaxConstants.GENERATED_SOURCE_DIRECTORY);
                 HashMap<String, String> persistConfig = readBallerinaTomlConfig(
                         Paths.get(this.sourcePath, "Ballerina.toml"));
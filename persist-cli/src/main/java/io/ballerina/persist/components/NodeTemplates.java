@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.components;
+
+import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses the source templates of the generated clients once and reuses the parsed nodes. A template is parsed with
+ * placeholders in place of the parts which vary between the entities, and the parts of an entity are set on the
+ * shared node afterwards. Syntax tree nodes are immutable, so the parsed template is never changed by an entity.
+ * <p>
+ * Only the external get and get-by-key resource functions are built from templates, as they only differ between the
+ * entities in the resource path and the target type. The statements of the post, put and delete resource functions
+ * and of the query functions embed the fields and keys of each entity, so they are still parsed for each entity.
+ *
+ * @since 1.7.0
+ */
+public class NodeTemplates {
+
+    public static final String PLACEHOLDER = "_placeholder";
+
+    private static final String TARGET_TYPE = "TargetType";
+
+    // Keyed by the template with placeholders, so the entries are bounded by the templates and the native classes.
+    private static final Map<String, Node> TEMPLATES = new ConcurrentHashMap<>();
+
+    private NodeTemplates() {
+    }
+
+    /**
+     * Creates an external resource function of an entity from the source of the function, formatted with
+     * {@link #PLACEHOLDER} for the resource path and the entity name. The source is parsed once for all the entities,
+     * and the resource path and the target type of the entity in the first parameter are set on the parsed function
+     * directly.
+     *
+     * @param source       source of the function with placeholders for the entity
+     * @param resourcePath relative resource path of the entity
+     * @param entityName   name of the entity
+     */
+    public static FunctionDefinitionNode createExternalResourceFunction(String source, NodeList<Node> resourcePath,
+                                                                        String entityName) {
+        FunctionDefinitionNode function = (FunctionDefinitionNode) TEMPLATES.computeIfAbsent(source,
+                NodeParser::parseObjectMember);
+        FunctionSignatureNode signature = function.functionSignature();
+        SeparatedNodeList<ParameterNode> parameters = signature.parameters();
+        DefaultableParameterNode targetType = (DefaultableParameterNode) parameters.get(0);
+        Token typeName = ((SimpleNameReferenceNode) targetType.typeName()).name();
+        List<Node> parameterNodes = new ArrayList<>();
+        parameterNodes.add(targetType.modify().withTypeName(NodeFactory.createSimpleNameReferenceNode(
+                NodeFactory.createIdentifierToken(entityName + TARGET_TYPE, typeName.leadingMinutiae(),
+                        typeName.trailingMinutiae()))).apply());
+        for (int i = 1; i < parameters.size(); i++) {
+            parameterNodes.add(parameters.getSeparator(i - 1));
+            parameterNodes.add(parameters.get(i));
+        }
+        return function.modify()
+                .withRelativeResourcePath(resourcePath)
+                .withFunctionSignature(signature.modify()
+                        .withParameters(AbstractNodeFactory.createSeparatedNodeList(parameterNodes)).apply())
+                .apply();
+    }
+}
@@ -17,64 +17,121 @@
  */
 package io.ballerina.persist.inflector;
 
-import java.util.Arrays;
 import java.util.Locale;
 
+/**
+ * Converts the case of identifiers. An identifier is split into words in a single pass, at the boundaries between a
+ * lowercase letter or a digit and an uppercase letter, and at the runs of characters which are neither letters nor
+ * ASCII digits.
+ */
 public class CaseConverter {
+
+    private static final int CASE_OFFSET = 'a' - 'A';
+
     private CaseConverter() {}
+
     public static String toPascalCase(String word) {
-        return arrayToPascalCase(split(word));
+        StringBuilder result = new StringBuilder(word.length());
+        forEachWord(word, (start, end) -> appendCapitalized(result, word, start, end));
+        return result.toString();
     }
+
     public static String toCamelCase(String word) {
-        String pascalsCase = arrayToPascalCase(split(word));
+        String pascalsCase = toPascalCase(word);
         return pascalsCase.substring(0, 1).toLowerCase(Locale.ENGLISH) + pascalsCase.substring(1);
     }
 
     public static String toSingularPascalCase(String word) {
-        String[] words = split(word);
-        words = Arrays.stream(words).map(Singularizer::singularize).toArray(String[]::new);
-        return arrayToPascalCase(words);
+        StringBuilder result = new StringBuilder(word.length());
+        forEachWord(word, (start, end) -> appendCapitalized(result,
+                Singularizer.singularize(word.substring(start, end).toLowerCase(Locale.ENGLISH))));
+        return result.toString();
     }
 
-    private static String arrayToPascalCase(String[] words) {
-        StringBuilder result = new StringBuilder();
-        for (String  item: words) {
-            if (!item.isEmpty()) {
-                // Capitalize the first letter of each word
-                result.append(Character.toUpperCase(item.charAt(0)));
-                result.append(item.substring(1).toLowerCase(Locale.ENGLISH));
+    public static String toUpperSnakeCase(String word) {
+        StringBuilder result = new StringBuilder(word.length() + 8);
+        forEachWord(word, (start, end) -> {
+            if (!result.isEmpty()) {
+                result.append('_');
             }
-        }
+            if (isAscii(word, start, end)) {
+                for (int i = start; i < end; i++) {
+                    char character = word.charAt(i);
+                    result.append(character >= 'a' && character <= 'z' ? (char) (character - CASE_OFFSET) :
+                            character);
+                }
+            } else {
+                result.append(word.substring(start, end).toLowerCase(Locale.ENGLISH).toUpperCase(Locale.ENGLISH));
+            }
+        });
         return result.toString();
     }
 
+    private static void forEachWord(String value, WordConsumer consumer) {
+        int start = -1;
+        boolean previousLowerCaseOrDigit = false;
+        int index = 0;
+        while (index < value.length()) {
+            int codePoint = value.codePointAt(index);
+            boolean digit = codePoint >= '0' && codePoint <= '9';
+            if (digit || Character.isLetter(codePoint)) {
+                int type = Character.getType(codePoint);
+                if (start < 0) {
+                    start = index;
+                } else if (previousLowerCaseOrDigit && type == Character.UPPERCASE_LETTER) {
+                    consumer.accept(start, index);
+                    start = index;
+                }
+                previousLowerCaseOrDigit = digit || type == Character.LOWERCASE_LETTER;
+            } else {
+                if (start >= 0) {
+                    consumer.accept(start, index);
+                    start = -1;
+                }
+                previousLowerCaseOrDigit = false;
+            }
+            index += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            consumer.accept(start, value.length());
+        }
+    }
+
+    private static void appendCapitalized(StringBuilder result, String value, int start, int end) {
+        if (isAscii(value, start, end)) {
+            char first = value.charAt(start);
+            result.append(first >= 'a' && first <= 'z' ? (char) (first - CASE_OFFSET) : first);
+            for (int i = start + 1; i < end; i++) {
+                char character = value.charAt(i);
+                result.append(character >= 'A' && character <= 'Z' ? (char) (character + CASE_OFFSET) : character);
+            }
+        } else {
+            appendCapitalized(result, value.substring(start, end).toLowerCase(Locale.ENGLISH));
+        }
+    }
 
-    private static String[] split(String value) {
-        String splitUpperUpperRe = "([\\p{Ll}\\d])(\\p{Lu})";
-        String splitLowerUpperRe = "([\\p{Ll}\\d])(\\p{Lu})";
-        String splitReplaceValue = "$1\0$2";
-        String result = value.replaceAll(splitLowerUpperRe, splitReplaceValue)
-                .replaceAll(splitUpperUpperRe, splitReplaceValue);
-        String defaultStripRegexp = "[^\\p{L}\\d]+";
-        result = result.replaceAll(defaultStripRegexp, "\0");
-        int start = 0;
-        int end = result.length();
-        while (result.charAt(start) == '\0') {
-            start++;
+    private static void appendCapitalized(StringBuilder result, String word) {
+        if (!word.isEmpty()) {
+            // Capitalize the first letter of each word
+            result.append(Character.toUpperCase(word.charAt(0)));
+            result.append(word.substring(1).toLowerCase(Locale.ENGLISH));
         }
-        while (result.charAt(end - 1) == '\0') {
-            end--;
+    }
+
+    private static boolean isAscii(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
         }
-        return Arrays.stream(result.substring(start, end)
-                .split("\0"))
-                .map(String::trim)
-                .map(String::toLowerCase)
-                .toArray(String[]::new);
+        return true;
     }
 
-    public static String toUpperSnakeCase(String word) {
-        String[] words = split(word);
-        words = Arrays.stream(words).map(String::toUpperCase).toArray(String[]::new);
-        return String.join("_", words);
+    /**
+     * Receives the start and the end index of a word of an identifier.
+     */
+    @FunctionalInterface
+    private interface WordConsumer {
+        void accept(int start, int end);
     }
 }
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.inflector;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * A bounded cache of the inflected forms of words. The identifiers of a model or a database are inflected many
+ * times while the sources are generated or a database is introspected, and the cache is cleared once it holds the
+ * maximum number of words, so that it does not grow with the number of words inflected by a long running process.
+ *
+ * @since 1.7.0
+ */
+final class InflectionCache {
+
+    static final int MAX_ENTRIES = 10_000;
+
+    private final Map<String, String> inflections = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached inflection of the given word, or inflects the word and caches the result.
+     */
+    String get(String word, UnaryOperator<String> inflection) {
+        String inflectedWord = inflections.get(word);
+        if (inflectedWord != null) {
+            return inflectedWord;
+        }
+        inflectedWord = inflection.apply(word);
+        if (inflections.size() >= MAX_ENTRIES) {
+            inflections.clear();
+        }
+        inflections.put(word, inflectedWord);
+        return inflectedWord;
+    }
+}
@@ -17,36 +17,28 @@
  */
 package io.ballerina.persist.inflector;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
- * Transforms english words from singular to plural form.
+ * Transforms english words from singular to plural form. The rules are compiled once and the results of the
+ * recently pluralized words are cached.
  */
 public class Pluralizer {
 
+    private static final InflectionCache CACHE = new InflectionCache();
+
     private Pluralizer() {}
 
     public static String pluralize(String word) {
-        for (String rule : Rules.UNCOUNTABLE_RULES) {
-            if (Pattern.matches(rule, word)) {
-                return word;
-            }
-        }
-        for (String[] irregularRule: Rules.IRREGULAR_RULES) {
-            if (irregularRule[1].equals(word)) {
-                return word;
-            }
-            if (irregularRule[0].equals(word)) {
-                return irregularRule[1];
-            }
+        return CACHE.get(word, Pluralizer::inflect);
+    }
+
+    private static String inflect(String word) {
+        if (Rules.isUncountable(word)) {
+            return word;
         }
-        for (String[] pluralizationRule: Rules.PLURALIZATION_RULES) {
-            Matcher matcher = Pattern.compile(pluralizationRule[0]).matcher(word);
-            if (matcher.find()) {
-                return matcher.replaceFirst(pluralizationRule[1]);
-            }
+        String irregularWord = Rules.PLURAL_IRREGULAR_WORDS.get(word);
+        if (irregularWord != null) {
+            return irregularWord;
         }
-        return word;
+        return Rules.replaceFirst(Rules.PLURALIZATION_REPLACEMENTS, word);
     }
 }
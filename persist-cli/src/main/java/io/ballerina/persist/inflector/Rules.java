@@ -17,8 +17,16 @@
  */
 package io.ballerina.persist.inflector;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Rules for singular to plural.
@@ -177,4 +185,73 @@ public class Rules {
             "^[a-z]*sheep$",
             "species"
     );
+
+    // The rules compiled once when the class is loaded. The uncountable words are looked up in a set and only the
+    // uncountable rules which are regexes are matched, and the irregular words are looked up in a map which keeps
+    // the first of the irregular rules matching a word.
+    private static final Set<String> UNCOUNTABLE_WORDS = new HashSet<>();
+    private static final List<Pattern> UNCOUNTABLE_PATTERNS = new ArrayList<>();
+    static final Map<String, String> PLURAL_IRREGULAR_WORDS = new HashMap<>();
+    static final Map<String, String> SINGULAR_IRREGULAR_WORDS = new HashMap<>();
+    static final List<Replacement> PLURALIZATION_REPLACEMENTS = compile(PLURALIZATION_RULES);
+    static final List<Replacement> SINGULARIZATION_REPLACEMENTS = compile(SINGULARIZATION_RULES);
+
+    static {
+        for (String rule : UNCOUNTABLE_RULES) {
+            if (rule.chars().allMatch(Character::isLetter)) {
+                UNCOUNTABLE_WORDS.add(rule);
+            } else {
+                UNCOUNTABLE_PATTERNS.add(Pattern.compile(rule));
+            }
+        }
+        for (String[] irregularRule : IRREGULAR_RULES) {
+            PLURAL_IRREGULAR_WORDS.putIfAbsent(irregularRule[1], irregularRule[1]);
+            PLURAL_IRREGULAR_WORDS.putIfAbsent(irregularRule[0], irregularRule[1]);
+        }
+        for (String[][] rules : List.of(SINGULAR_IRREGULAR_RULES, IRREGULAR_RULES)) {
+            for (String[] irregularRule : rules) {
+                SINGULAR_IRREGULAR_WORDS.putIfAbsent(irregularRule[0], irregularRule[0]);
+                SINGULAR_IRREGULAR_WORDS.putIfAbsent(irregularRule[1], irregularRule[0]);
+            }
+        }
+    }
+
+    static boolean isUncountable(String word) {
+        if (UNCOUNTABLE_WORDS.contains(word)) {
+            return true;
+        }
+        for (Pattern pattern : UNCOUNTABLE_PATTERNS) {
+            if (pattern.matcher(word).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Applies the first of the given replacements which matches the word, and returns the word if none matches.
+     */
+    static String replaceFirst(List<Replacement> replacements, String word) {
+        for (Replacement replacement : replacements) {
+            Matcher matcher = replacement.pattern().matcher(word);
+            if (matcher.find()) {
+                return matcher.replaceFirst(replacement.replacement());
+            }
+        }
+        return word;
+    }
+
+    private static List<Replacement> compile(String[][] rules) {
+        List<Replacement> replacements = new ArrayList<>(rules.length);
+        for (String[] rule : rules) {
+            replacements.add(new Replacement(Pattern.compile(rule[0]), rule[1]));
+        }
+        return Collections.unmodifiableList(replacements);
+    }
+
+    /**
+     * A compiled pluralization or singularization rule.
+     */
+    record Replacement(Pattern pattern, String replacement) {
+    }
 }
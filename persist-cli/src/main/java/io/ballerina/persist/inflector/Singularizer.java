@@ -17,40 +17,28 @@
  */
 package io.ballerina.persist.inflector;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
+/**
+ * Transforms english words from plural to singular form. The rules are compiled once and the results of the
+ * recently singularized words are cached.
+ */
 public class Singularizer {
+
+    private static final InflectionCache CACHE = new InflectionCache();
+
     private Singularizer() {}
 
     public static String singularize(String word) {
-        for (String rule : Rules.UNCOUNTABLE_RULES) {
-            if (Pattern.matches(rule, word)) {
-                return word;
-            }
-        }
-        for (String[] irregularRule: Rules.SINGULAR_IRREGULAR_RULES) {
-            if (irregularRule[0].equals(word)) {
-                return word;
-            }
-            if (irregularRule[1].equals(word)) {
-                return irregularRule[0];
-            }
-        }
-        for (String[] irregularRule: Rules.IRREGULAR_RULES) {
-            if (irregularRule[0].equals(word)) {
-                return word;
-            }
-            if (irregularRule[1].equals(word)) {
-                return irregularRule[0];
-            }
+        return CACHE.get(word, Singularizer::inflect);
+    }
+
+    private static String inflect(String word) {
+        if (Rules.isUncountable(word)) {
+            return word;
         }
-        for (String[] singularizationRule: Rules.SINGULARIZATION_RULES) {
-            Matcher matcher = Pattern.compile(singularizationRule[0]).matcher(word);
-            if (matcher.find()) {
-                return matcher.replaceFirst(singularizationRule[1]);
-            }
+        String irregularWord = Rules.SINGULAR_IRREGULAR_WORDS.get(word);
+        if (irregularWord != null) {
+            return irregularWord;
         }
-        return word;
+        return Rules.replaceFirst(Rules.SINGULARIZATION_REPLACEMENTS, word);
     }
 }
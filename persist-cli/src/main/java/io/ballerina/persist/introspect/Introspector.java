@@ -36,7 +36,7 @@ import io.ballerina.persist.models.Relation;
 import io.ballerina.persist.models.SqlType;
 import io.ballerina.persist.nodegenerator.DriverResolver;
 import io.ballerina.persist.utils.DatabaseConnector;
-import io.ballerina.persist.utils.JdbcDriverLoader;
+import io.ballerina.persist.utils.IntrospectionSnapshot;
 import io.ballerina.persist.utils.ScriptRunner;
 import io.ballerina.projects.Project;
 
@@ -47,9 +47,19 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static java.lang.Integer.parseInt;
 import static java.lang.Integer.parseUnsignedInt;
@@ -64,10 +74,17 @@ public abstract class Introspector {
     protected DatabaseConnector databaseConnector;
     protected PersistConfiguration persistConfigurations;
     protected abstract String getTablesQuery();
-    protected abstract String getColumnsQuery(String tableName);
-    protected abstract String getIndexesQuery(String tableName);
-    protected abstract String getForeignKeysQuery(String tableName);
+    // The schema wide queries return the rows of all the tables of the schema, or of the given tables if the table
+    // names are not null, ordered by the table name first and with the same order as the table queries within each
+    // table, so that a schema is read in a constant number of round trips. The schema is the given one when several
+    // schemas are introspected, and the default schema of the data store if it is null.
+    protected abstract String getSchemaColumnsQuery(String schemaName, List<String> tableNames);
+    protected abstract String getSchemaIndexesQuery(String schemaName, List<String> tableNames);
+    protected abstract String getSchemaForeignKeysQuery(String schemaName, List<String> tableNames);
     protected abstract String getEnumsQuery();
+    // The fingerprint query returns a fingerprint of each table, which changes whenever the columns, foreign keys or
+    // indexes of the table change, so that an unchanged table can be taken from the last introspection snapshot.
+    protected abstract String getTableFingerprintsQuery();
     protected abstract String getBalType(SqlType sqlType);
     protected abstract boolean isEnumType(SqlColumn column);
     protected abstract List<String> extractEnumValues(String enumString);
@@ -75,25 +92,100 @@ public abstract class Introspector {
     private List<SqlEnum> sqlEnums;
     private final Module.Builder moduleBuilder;
     private final Map<String, Entity> entityMap;
-    private final List<SqlForeignKey> sqlForeignKeys;
     protected PrintStream errStream = System.err;
+    private int connectionCount = 1;
+    private int fetchSize;
+    private IntrospectionSnapshot previousSnapshot;
+    private Map<String, String> tableFingerprints;
+    private int reusedTableCount;
+    private TableFilter tableFilter = TableFilter.all();
+    private TableFilter schemaFilter = TableFilter.all();
+    private List<String> schemaNames;
+    private Map<String, String> entityBaseNames;
 
     protected Introspector() {
         this.tables = new ArrayList<>();
         this.entityMap = new HashMap<>();
-        this.sqlForeignKeys = new ArrayList<>();
+        this.entityBaseNames = new HashMap<>();
         this.sqlEnums = new ArrayList<>();
+        this.tableFingerprints = new HashMap<>();
         this.moduleBuilder = Module.newBuilder("db");
     }
 
+    /**
+     * Sets the maximum number of connections over which the tables are read concurrently. A value of one, which is
+     * the default, reads all the tables over a single connection.
+     */
+    public void setConnectionCount(int connectionCount) {
+        this.connectionCount = Math.max(1, connectionCount);
+    }
+
+    /**
+     * Sets the number of rows fetched at a time by the queries which read the database schema. A value of zero, which
+     * is the default, leaves the fetch size to the JDBC driver.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = Math.max(0, fetchSize);
+    }
+
+    /**
+     * Sets the filter which selects the tables to introspect.
+     */
+    public void setTableFilter(TableFilter tableFilter) throws BalException {
+        if (tableFilter.hasRegexPatterns() && !supportsRegexPatterns()) {
+            throw new BalException("The table name patterns of this data store cannot be regular expressions.");
+        }
+        this.tableFilter = tableFilter;
+    }
+
+    /**
+     * Sets the filter which selects the schemas to introspect. The tables of all the selected schemas are mapped to a
+     * single module in which the entities keep the schemas of their tables. Only the default schema of the data store
+     * is introspected if the filter is empty.
+     */
+    public void setSchemaFilter(TableFilter schemaFilter) throws BalException {
+        if (!schemaFilter.isEmpty() && !supportsSchemas()) {
+            throw new BalException("The tables of several schemas cannot be introspected for this data store.");
+        }
+        if (schemaFilter.hasRegexPatterns() && !supportsRegexPatterns()) {
+            throw new BalException("The schema name patterns of this data store cannot be regular expressions.");
+        }
+        this.schemaFilter = schemaFilter;
+    }
+
+    /**
+     * Sets the snapshot of the last introspection of the database. The tables whose fingerprints did not change since
+     * the snapshot was taken are taken from the snapshot instead of being read again.
+     */
+    public void setPreviousSnapshot(IntrospectionSnapshot previousSnapshot) {
+        this.previousSnapshot = previousSnapshot;
+    }
+
+    /**
+     * Returns the snapshot of the schema read by the last introspection with the given key.
+     */
+    public IntrospectionSnapshot createSnapshot(String key) {
+        return new IntrospectionSnapshot(key, persistConfigurations.getProvider(), sqlEnums, tables,
+                tableFingerprints);
+    }
+
+    /**
+     * Returns the number of tables taken from the previous snapshot by the last introspection.
+     */
+    public int getReusedTableCount() {
+        return reusedTableCount;
+    }
+
     public Module introspectDatabase(PersistConfiguration persistConfiguration) throws BalException {
         this.persistConfigurations = persistConfiguration;
         DriverResolver driverResolver = new DriverResolver(this.persistConfigurations.getSourcePath(),
                 this.persistConfigurations.getProvider());
         try {
             Project driverProject = driverResolver.resolveDriverDependencies();
-            try (Connection connection = prepareDatabaseConnection(driverProject)) {
-                readDatabaseSchema(connection);
+            Driver driver = databaseConnector.getJdbcDriver(databaseConnector.getJdbcDriverLoader(driverProject));
+            try (Connection connection = prepareDatabaseConnection(driver)) {
+                readDatabaseSchema(connection,
+                        () -> databaseConnector.getConnection(driver, persistConfigurations, true));
             } catch (SQLException e) {
                 throw new BalException("failed to read database schema: " + e.getMessage());
             }
@@ -104,10 +196,21 @@ public abstract class Introspector {
         }
     }
 
-    private Connection prepareDatabaseConnection(Project driverProject) throws BalException {
-        JdbcDriverLoader driverLoader;
-        driverLoader = databaseConnector.getJdbcDriverLoader(driverProject);
-        Driver driver = databaseConnector.getJdbcDriver(driverLoader);
+    /**
+     * Maps the schema of the given snapshot to an entity module without connecting to the database. The snapshot has
+     * to be read from a database of the data store of this introspector.
+     */
+    public Module introspectSnapshot(IntrospectionSnapshot snapshot, PersistConfiguration persistConfiguration)
+            throws BalException {
+        this.persistConfigurations = persistConfiguration;
+        this.tables = new ArrayList<>(snapshot.getTables());
+        this.sqlEnums = new ArrayList<>(snapshot.getEnums());
+        this.tableFingerprints = new HashMap<>(snapshot.getTableFingerprints());
+        mapDatabaseSchemaToModule();
+        return moduleBuilder.build();
+    }
+
+    private Connection prepareDatabaseConnection(Driver driver) throws BalException {
         try {
             return databaseConnector.getConnection(driver, persistConfigurations, true);
         } catch (SQLException e) {
@@ -116,26 +219,355 @@ public abstract class Introspector {
     }
 
     public void readDatabaseSchema(Connection connection) throws SQLException {
-        ScriptRunner sr = new ScriptRunner(connection);
-        this.tables = sr.getSQLTables(this.getTablesQuery());
-        this.sqlEnums = sr.getSQLEnums(this.getEnumsQuery());
+        readDatabaseSchema(connection, null);
+    }
+
+    /**
+     * Reads the tables, the enums and the columns, foreign keys and indexes of the tables. The tables whose
+     * fingerprints match the previous snapshot are taken from the snapshot, and only the details of the other tables
+     * are read. The tables to read are split into batches, which are the tables of each schema when several schemas
+     * are introspected, and contiguous runs of tables otherwise. If more than one connection is allowed and a
+     * connection factory is given, the batches are read by a pool of workers, each over its own connection, with the
+     * schema wide queries restricted to the tables of a batch. Every table is read by exactly one worker and the
+     * tables keep the order in which they were listed, so the result does not depend on the order in which the
+     * workers finish.
+     */
+    private void readDatabaseSchema(Connection connection, ConnectionFactory connectionFactory)
+            throws SQLException {
+        ScriptRunner sr = createScriptRunner(connection);
+        boolean multiSchema = isMultiSchema();
+        if (multiSchema) {
+            this.schemaNames = sr.getSchemaNames(this.getSchemasQuery().orElseThrow(
+                    () -> new SQLException("The schemas of this data store cannot be listed.")));
+            if (schemaNames.isEmpty()) {
+                throw new SQLException("No schemas matching the schema name patterns found in the database.");
+            }
+        }
+        this.tables = sr.getSQLTables(this.getTablesQuery(), multiSchema);
+        this.sqlEnums = sr.getSQLEnums(this.getEnumsQuery(), multiSchema);
+        this.tableFingerprints = readTableFingerprints(sr);
+        List<SqlTable> changedTables = reuseUnchangedTables();
+        List<TableBatch> batches;
+        if (multiSchema) {
+            batches = getSchemaBatches(changedTables);
+        } else {
+            int batchCount = connectionFactory == null ? 1 : Math.min(this.connectionCount, changedTables.size());
+            batches = getTableBatches(changedTables, batchCount);
+        }
+        int workerCount = connectionFactory == null ? 1 : Math.min(this.connectionCount, batches.size());
+        if (workerCount > 1) {
+            readBatchesConcurrently(sr, batches, connectionFactory, workerCount);
+        } else {
+            for (TableBatch batch : batches) {
+                readTables(sr, batch);
+            }
+        }
+    }
+
+    private boolean isMultiSchema() {
+        return !schemaFilter.isEmpty();
+    }
+
+    private ScriptRunner createScriptRunner(Connection connection) {
+        ScriptRunner scriptRunner = new ScriptRunner(connection);
+        scriptRunner.setFetchSize(this.fetchSize);
+        return scriptRunner;
+    }
+
+    /**
+     * Reads the fingerprints of the tables. The fingerprints only let later pulls skip the unchanged tables, so a
+     * database on which they cannot be read is introspected in full.
+     */
+    private Map<String, String> readTableFingerprints(ScriptRunner sr) {
+        try {
+            Optional<String> setupQuery = this.getTableFingerprintsSetupQuery();
+            if (setupQuery.isPresent()) {
+                sr.runQuery(setupQuery.get());
+            }
+            return sr.readTableFingerprints(this.getTableFingerprintsQuery(), isMultiSchema());
+        } catch (SQLException e) {
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Returns the statement which prepares the session of the connection for the fingerprint query, or an empty
+     * optional if the data store needs none.
+     */
+    protected Optional<String> getTableFingerprintsSetupQuery() {
+        return Optional.empty();
+    }
+
+    /**
+     * Replaces the tables whose fingerprints match the previous snapshot with the tables of the snapshot and returns
+     * the tables which have to be read.
+     */
+    private List<SqlTable> reuseUnchangedTables() {
+        this.reusedTableCount = 0;
+        if (previousSnapshot == null) {
+            return tables;
+        }
+        Map<String, SqlTable> snapshotTables = new HashMap<>();
+        for (SqlTable table : previousSnapshot.getTables()) {
+            snapshotTables.putIfAbsent(table.getQualifiedName(), table);
+        }
+        List<SqlTable> changedTables = new ArrayList<>();
+        for (int i = 0; i < tables.size(); i++) {
+            String tableName = tables.get(i).getQualifiedName();
+            String fingerprint = tableFingerprints.get(tableName);
+            SqlTable snapshotTable = snapshotTables.get(tableName);
+            if (fingerprint != null && snapshotTable != null &&
+                    fingerprint.equals(previousSnapshot.getTableFingerprints().get(tableName))) {
+                tables.set(i, snapshotTable);
+                reusedTableCount++;
+            } else {
+                changedTables.add(tables.get(i));
+            }
+        }
+        return changedTables;
+    }
+
+    /**
+     * Splits the tables to read into the given number of contiguous batches of the default schema. A batch is
+     * restricted to the names of its tables unless it holds all the tables of the schema.
+     */
+    private List<TableBatch> getTableBatches(List<SqlTable> tablesToRead, int batchCount) {
+        List<TableBatch> batches = new ArrayList<>();
+        if (tablesToRead.isEmpty()) {
+            return batches;
+        }
+        if (batchCount <= 1) {
+            batches.add(new TableBatch(null, tablesToRead,
+                    tablesToRead.size() == tables.size() ? null : getTableNames(tablesToRead)));
+            return batches;
+        }
+        int batchSize = (tablesToRead.size() + batchCount - 1) / batchCount;
+        for (int start = 0; start < tablesToRead.size(); start += batchSize) {
+            List<SqlTable> batch = tablesToRead.subList(start, Math.min(start + batchSize, tablesToRead.size()));
+            batches.add(new TableBatch(null, batch, getTableNames(batch)));
+        }
+        return batches;
+    }
+
+    /**
+     * Splits the tables to read into a batch per schema. A batch is restricted to the names of its tables unless it
+     * holds all the tables of its schema.
+     */
+    private List<TableBatch> getSchemaBatches(List<SqlTable> tablesToRead) {
+        Map<String, Integer> schemaTableCounts = new HashMap<>();
         for (SqlTable table : tables) {
-            sr.readColumnsOfSQLTable(table, this.getColumnsQuery(table.getTableName()));
-            this.sqlForeignKeys.addAll(sr.readForeignKeysOfSQLTable
-                    (table, this.getForeignKeysQuery(table.getTableName())));
-            sr.readIndexesOfSQLTable(table, this.getIndexesQuery(table.getTableName()));
+            schemaTableCounts.merge(table.getSchemaName(), 1, Integer::sum);
         }
+        Map<String, List<SqlTable>> tablesBySchema = new LinkedHashMap<>();
+        for (SqlTable table : tablesToRead) {
+            tablesBySchema.computeIfAbsent(table.getSchemaName(), schemaName -> new ArrayList<>()).add(table);
+        }
+        List<TableBatch> batches = new ArrayList<>();
+        tablesBySchema.forEach((schemaName, schemaTables) -> batches.add(new TableBatch(schemaName, schemaTables,
+                schemaTables.size() == schemaTableCounts.get(schemaName) ? null : getTableNames(schemaTables))));
+        return batches;
+    }
+
+    /**
+     * Reads the given batches with a pool of workers. Each worker reads the batches it takes from a shared queue over
+     * its own connection, and the calling thread is one of the workers with the given script runner.
+     */
+    private void readBatchesConcurrently(ScriptRunner sr, List<TableBatch> batches,
+                                         ConnectionFactory connectionFactory, int workerCount) throws SQLException {
+        Queue<TableBatch> pendingBatches = new ConcurrentLinkedQueue<>(batches);
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount - 1);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 1; i < workerCount; i++) {
+                results.add(executor.submit(() -> {
+                    try (Connection workerConnection = connectionFactory.connect()) {
+                        readPendingBatches(createScriptRunner(workerConnection), pendingBatches);
+                    }
+                    return null;
+                }));
+            }
+            readPendingBatches(sr, pendingBatches);
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("the database schema introspection was interrupted. " + e.getMessage(), e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void readPendingBatches(ScriptRunner sr, Queue<TableBatch> pendingBatches) throws SQLException {
+        TableBatch batch;
+        while ((batch = pendingBatches.poll()) != null) {
+            readTables(sr, batch);
+        }
+    }
+
+    private void readTables(ScriptRunner sr, TableBatch batch) throws SQLException {
+        Map<String, SqlTable> tablesByName = new HashMap<>();
+        for (SqlTable table : batch.tables()) {
+            tablesByName.putIfAbsent(table.getTableName(), table);
+        }
+        sr.readColumnsOfSQLTables(tablesByName, this.getSchemaColumnsQuery(batch.schemaName(), batch.tableNames()));
+        sr.readForeignKeysOfSQLTables(tablesByName,
+                this.getSchemaForeignKeysQuery(batch.schemaName(), batch.tableNames()));
+        sr.readIndexesOfSQLTables(tablesByName, this.getSchemaIndexesQuery(batch.schemaName(), batch.tableNames()));
+    }
+
+    private static List<String> getTableNames(List<SqlTable> batch) {
+        return batch.stream().map(SqlTable::getTableName).toList();
+    }
+
+    /**
+     * Returns a condition which restricts the given table name column to the given tables, or to the tables selected
+     * by the table filter if the table names are null.
+     */
+    protected String getTableNameCondition(String column, List<String> tableNames) {
+        if (tableNames == null) {
+            return getTableFilterCondition(column);
+        }
+        return "AND " + column + " IN (" + toSqlList(tableNames) + ")";
+    }
+
+    /**
+     * Returns a condition which restricts the given schema name column to the schemas returned by
+     * {@link #getSchemaNames(String)}, or an empty string if there are none.
+     */
+    protected String getSchemaNameCondition(String column, String schemaName) {
+        List<String> names = getSchemaNames(schemaName);
+        return names.isEmpty() ? "" : "AND " + column + " IN (" + toSqlList(names) + ")";
+    }
+
+    /**
+     * Returns the comma separated SQL literals of the schemas returned by {@link #getSchemaNames(String)}.
+     */
+    protected String getSchemaNameList(String schemaName) {
+        return toSqlList(getSchemaNames(schemaName));
+    }
+
+    /**
+     * Returns the given schema, or, if it is null, the introspected schemas when several schemas are introspected and
+     * the default schemas of the data store otherwise.
+     */
+    private List<String> getSchemaNames(String schemaName) {
+        if (schemaName != null) {
+            return List.of(schemaName);
+        }
+        return schemaNames != null ? schemaNames : getDefaultSchemaNames();
+    }
+
+    /**
+     * Returns a condition which restricts the given schema name column to the schemas selected by the schema filter.
+     */
+    protected String getSchemaFilterCondition(String column) {
+        return schemaFilter.getCondition(column, this::quoteLiteral, getRegexOperator().orElse(null));
+    }
+
+    private String toSqlList(List<String> values) {
+        StringJoiner list = new StringJoiner(", ");
+        for (String value : values) {
+            list.add(quoteLiteral(value));
+        }
+        return list.toString();
+    }
+
+    /**
+     * Returns the SQL string literal of the given value. Every value which is not written by this tool, such as the
+     * name patterns and the table and schema names, is quoted with this. The quotes are doubled, which is all the
+     * data stores which do not treat a backslash as an escape character need.
+     */
+    protected String quoteLiteral(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+
+    /**
+     * Returns the schemas introspected when no schema filter is set. The data stores which do not restrict the
+     * introspection to a schema by default return an empty list.
+     */
+    protected List<String> getDefaultSchemaNames() {
+        return List.of();
+    }
+
+    /**
+     * Returns whether the tables of several schemas can be introspected, which are the data stores whose schemas can
+     * be listed.
+     */
+    public boolean supportsSchemas() {
+        return getSchemasQuery().isPresent();
+    }
+
+    /**
+     * Returns the query which lists the schemas selected by the schema filter, or an empty optional if the schemas of
+     * the data store cannot be listed. Only the data stores which support introspecting several schemas override this.
+     */
+    protected Optional<String> getSchemasQuery() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a condition which restricts the given table name column to the tables selected by the table filter, or
+     * an empty string if every table is selected.
+     */
+    protected String getTableFilterCondition(String column) {
+        return tableFilter.getCondition(column, this::quoteLiteral, getRegexOperator().orElse(null));
+    }
+
+    /**
+     * Returns whether the name patterns can be regular expressions, which are the data stores with a regular
+     * expression operator.
+     */
+    public boolean supportsRegexPatterns() {
+        return getRegexOperator().isPresent();
+    }
+
+    /**
+     * Returns the operator which matches a column against a regular expression literal, or an empty optional if the
+     * data store has none. Only the data stores which support regular expression patterns override this.
+     */
+    protected Optional<String> getRegexOperator() {
+        return Optional.empty();
     }
 
     public void mapDatabaseSchemaToModule() throws BalException {
+        this.entityBaseNames = getEntityBaseNames();
         mapEnums();
         mapEntities();
         entityMap.forEach(moduleBuilder::addEntity);
     }
 
+    /**
+     * Returns the names from which the entity and enum names of the tables are derived, keyed by the qualified table
+     * names. A table is named after its schema and its name if a table of another introspected schema has the same
+     * name, and after its name otherwise.
+     */
+    private Map<String, String> getEntityBaseNames() {
+        Map<String, Integer> tableNameCounts = new HashMap<>();
+        for (SqlTable table : tables) {
+            tableNameCounts.merge(table.getTableName(), 1, Integer::sum);
+        }
+        Map<String, String> baseNames = new HashMap<>();
+        for (SqlTable table : tables) {
+            String baseName = table.getSchemaName() != null && tableNameCounts.get(table.getTableName()) > 1 ?
+                    table.getSchemaName() + "_" + table.getTableName() : table.getTableName();
+            baseNames.putIfAbsent(table.getQualifiedName(), baseName);
+        }
+        return baseNames;
+    }
+
     private void mapEnums() {
         this.sqlEnums.forEach(sqlEnum -> {
-            String enumName = createEnumName(sqlEnum.getEnumTableName(), sqlEnum.getEnumColumnName());
+            String tableName = sqlEnum.getEnumSchemaName() == null ? sqlEnum.getEnumTableName() :
+                    sqlEnum.getEnumSchemaName() + "." + sqlEnum.getEnumTableName();
+            String enumName = createEnumName(entityBaseNames.getOrDefault(tableName, sqlEnum.getEnumTableName()),
+                    sqlEnum.getEnumColumnName());
             Enum.Builder enumBuilder = Enum.newBuilder(enumName);
             extractEnumValues(sqlEnum.getFullEnumText())
                     .forEach(enumValue ->
@@ -144,15 +576,27 @@ public abstract class Introspector {
         });
     }
 
+    /**
+     * Maps the tables to entities and the foreign keys to relations. The fields of each entity are kept by their
+     * column names together with the field lists of its unique indexes while the entities are built, so that the
+     * fields and the cardinality of each foreign key are resolved by lookups instead of by building the owner entity
+     * and scanning its fields and indexes.
+     */
     private void mapEntities() throws BalException {
         Map<String, Entity.Builder> entityBuilderMap = new HashMap<>();
+        Map<String, String> entityNames = new HashMap<>();
+        Map<String, Map<String, EntityField>> entityFieldsByColumn = new HashMap<>();
+        Map<String, Set<List<EntityField>>> entityUniqueIndexFields = new HashMap<>();
         tables.forEach(table -> {
-            String entityName = CaseConverter.toSingularPascalCase(table.getTableName());
+            String baseName = entityBaseNames.get(table.getQualifiedName());
+            String entityName = CaseConverter.toSingularPascalCase(baseName);
 
             Entity.Builder entityBuilder = Entity.newBuilder(entityName);
             entityBuilder.setTableName(table.getTableName());
+            entityBuilder.setSchemaName(table.getSchemaName());
             List<EntityField> keys = new ArrayList<>();
-            List<EntityField> fields = new ArrayList<>();
+            Map<String, EntityField> fieldsByColumn = new HashMap<>();
+            Set<List<EntityField>> uniqueIndexFields = new HashSet<>();
             table.getColumns().forEach(column -> {
                 EntityField.Builder fieldBuilder = EntityField.newBuilder(
                         CaseConverter.toCamelCase(column.getColumnName()));
@@ -160,7 +604,7 @@ public abstract class Introspector {
                 fieldBuilder.setFieldColumnName(column.getColumnName());
                 fieldBuilder.setArrayType(false);
                 if (isEnumType(column)) {
-                    fieldBuilder.setType(createEnumName(table.getTableName(), column.getColumnName()));
+                    fieldBuilder.setType(createEnumName(baseName, column.getColumnName()));
                 } else {
                     String maxLen = column.getCharacterMaximumLength();
                     SqlType sqlType = new SqlType(
@@ -183,98 +627,125 @@ public abstract class Introspector {
 
                 EntityField entityField = fieldBuilder.build();
                 entityBuilder.addField(entityField);
-                fields.add(entityField);
+                fieldsByColumn.putIfAbsent(column.getColumnName(), entityField);
                 if (column.getIsPrimaryKey()) {
                     keys.add(entityField);
                 }
             });
             table.getIndexes().forEach(sqlIndex -> {
                 List<EntityField> indexFields = new ArrayList<>();
-                sqlIndex.getColumnNames().forEach(columnName -> fields.forEach(entityField -> {
-                    if (entityField.getFieldColumnName().equals(columnName)) {
-                        indexFields.add(entityField);
+                sqlIndex.getColumnNames().forEach(columnName -> {
+                    EntityField indexField = fieldsByColumn.get(columnName);
+                    if (indexField != null) {
+                        indexFields.add(indexField);
                     }
-                }));
+                });
                 Index index = new Index(sqlIndex.getIndexName(), indexFields, sqlIndex.getUnique());
                 if (index.isUnique()) {
                     entityBuilder.addUniqueIndex(index);
+                    uniqueIndexFields.add(List.copyOf(indexFields));
                 } else {
                     entityBuilder.addIndex(index);
                 }
             });
             entityBuilder.setKeys(keys);
             entityBuilderMap.put(entityBuilder.getEntityName(), entityBuilder);
+            entityNames.put(table.getQualifiedName(), entityName);
+            entityFieldsByColumn.put(entityName, fieldsByColumn);
+            entityUniqueIndexFields.put(entityName, uniqueIndexFields);
         });
         HashMap<String, Integer> ownerFieldNames = new HashMap<>();
         HashMap<String, Integer> assocFieldNames = new HashMap<>();
-        for (SqlForeignKey sqlForeignKey : this.sqlForeignKeys) {
-            Entity.Builder ownerEntityBuilder = entityBuilderMap
-                    .get(CaseConverter.toSingularPascalCase(sqlForeignKey.getTableName()));
-            Entity.Builder assocEntityBuilder = entityBuilderMap
-                    .get(CaseConverter.toSingularPascalCase(sqlForeignKey.getReferencedTableName()));
-            if (!new HashSet<>(sqlForeignKey.getReferencedColumnNames()).containsAll(assocEntityBuilder.getKeys()
-                    .stream().map(EntityField::getFieldColumnName).toList())) {
-                throw new BalException("bal persist does not support foreign key references to unique " +
-                        "keys.");
-            }
-            boolean isReferenceMany = inferRelationshipCardinality
-                    (ownerEntityBuilder.build(), sqlForeignKey) == Relation.RelationType.MANY;
-            String assocFieldName = isReferenceMany ?
-                    Pluralizer.pluralize(ownerEntityBuilder.getEntityName().toLowerCase(Locale.ENGLISH))
-                    : ownerEntityBuilder.getEntityName().toLowerCase(Locale.ENGLISH);
-            if (assocFieldNames.containsKey(assocEntityBuilder.getEntityName() + assocFieldName)) {
-                assocFieldNames.put(assocEntityBuilder.getEntityName() + assocFieldName,
-                        assocFieldNames.get(assocEntityBuilder.getEntityName() + assocFieldName) + 1);
-                assocFieldName = assocFieldName +
-                        assocFieldNames.get(assocEntityBuilder.getEntityName() + assocFieldName);
-            } else {
-                assocFieldNames.put(assocEntityBuilder.getEntityName() + assocFieldName, 0);
-            }
-            EntityField.Builder assocFieldBuilder = EntityField
-                    .newBuilder(assocFieldName);
-            assocFieldBuilder.setType(ownerEntityBuilder.getEntityName());
-
-            String ownerFieldName = assocEntityBuilder.getEntityName().toLowerCase(Locale.ENGLISH);
-            if (ownerFieldNames.containsKey(ownerEntityBuilder.getEntityName() + ownerFieldName)) {
-                ownerFieldNames.put(ownerEntityBuilder.getEntityName() + ownerFieldName,
-                        ownerFieldNames.get(ownerEntityBuilder.getEntityName() + ownerFieldName) + 1);
-                ownerFieldName = ownerFieldName +
-                        ownerFieldNames.get(ownerEntityBuilder.getEntityName() + ownerFieldName);
-            } else {
-                ownerFieldNames.put(ownerEntityBuilder.getEntityName() + ownerFieldName, 0);
-            }
+        for (SqlTable table : tables) {
+            for (SqlForeignKey sqlForeignKey : table.getSqlForeignKeys()) {
+                Entity.Builder ownerEntityBuilder = entityBuilderMap.get(entityNames.get(table.getQualifiedName()));
+                String referencedTableName = getReferencedTableName(table, sqlForeignKey);
+                String assocEntityName = entityNames.get(referencedTableName);
+                Entity.Builder assocEntityBuilder = assocEntityName == null ? null :
+                        entityBuilderMap.get(assocEntityName);
+                if (assocEntityBuilder == null) {
+                    errStream.printf("WARNING: the foreign key '%s' of the '%s' table is skipped as it refers to " +
+                                    "the '%s' table, which is not introspected.%n", sqlForeignKey.getConstraintName(),
+                            table.getQualifiedName(), referencedTableName);
+                    continue;
+                }
+                if (!new HashSet<>(sqlForeignKey.getReferencedColumnNames()).containsAll(assocEntityBuilder.getKeys()
+                        .stream().map(EntityField::getFieldColumnName).toList())) {
+                    throw new BalException("bal persist does not support foreign key references to unique " +
+                            "keys.");
+                }
+                Map<String, EntityField> ownerFieldsByColumn =
+                        entityFieldsByColumn.get(ownerEntityBuilder.getEntityName());
+                List<EntityField> ownerColumns = sqlForeignKey.getColumnNames().stream()
+                        .map(ownerFieldsByColumn::get).toList();
+                boolean isReferenceMany = inferRelationshipCardinality(ownerEntityBuilder.getKeys(), ownerColumns,
+                        entityUniqueIndexFields.get(ownerEntityBuilder.getEntityName())) == Relation.RelationType.MANY;
+                String assocFieldName = isReferenceMany ?
+                        Pluralizer.pluralize(ownerEntityBuilder.getEntityName().toLowerCase(Locale.ENGLISH))
+                        : ownerEntityBuilder.getEntityName().toLowerCase(Locale.ENGLISH);
+                if (assocFieldNames.containsKey(assocEntityBuilder.getEntityName() + assocFieldName)) {
+                    assocFieldNames.put(assocEntityBuilder.getEntityName() + assocFieldName,
+                            assocFieldNames.get(assocEntityBuilder.getEntityName() + assocFieldName) + 1);
+                    assocFieldName = assocFieldName +
+                            assocFieldNames.get(assocEntityBuilder.getEntityName() + assocFieldName);
+                } else {
+                    assocFieldNames.put(assocEntityBuilder.getEntityName() + assocFieldName, 0);
+                }
+                EntityField.Builder assocFieldBuilder = EntityField
+                        .newBuilder(assocFieldName);
+                assocFieldBuilder.setType(ownerEntityBuilder.getEntityName());
+
+                String ownerFieldName = assocEntityBuilder.getEntityName().toLowerCase(Locale.ENGLISH);
+                if (ownerFieldNames.containsKey(ownerEntityBuilder.getEntityName() + ownerFieldName)) {
+                    ownerFieldNames.put(ownerEntityBuilder.getEntityName() + ownerFieldName,
+                            ownerFieldNames.get(ownerEntityBuilder.getEntityName() + ownerFieldName) + 1);
+                    ownerFieldName = ownerFieldName +
+                            ownerFieldNames.get(ownerEntityBuilder.getEntityName() + ownerFieldName);
+                } else {
+                    ownerFieldNames.put(ownerEntityBuilder.getEntityName() + ownerFieldName, 0);
+                }
 
-            EntityField.Builder ownerFieldBuilder = EntityField
-                    .newBuilder(ownerFieldName);
-            ownerFieldBuilder.setType(assocEntityBuilder.getEntityName());
+                EntityField.Builder ownerFieldBuilder = EntityField
+                        .newBuilder(ownerFieldName);
+                ownerFieldBuilder.setType(assocEntityBuilder.getEntityName());
 
-            assocFieldBuilder.setArrayType(isReferenceMany);
-            assocFieldBuilder.setOptionalType(!isReferenceMany);
-            ownerFieldBuilder.setRelationRefs(sqlForeignKey.getColumnNames().stream().map(columnName ->
-                    ownerEntityBuilder.build().getFieldByColumnName(columnName).getFieldName()).toList());
+                assocFieldBuilder.setArrayType(isReferenceMany);
+                assocFieldBuilder.setOptionalType(!isReferenceMany);
+                ownerFieldBuilder.setRelationRefs(ownerColumns.stream().map(EntityField::getFieldName).toList());
 
-            EntityField ownerField = ownerFieldBuilder.build();
+                EntityField ownerField = ownerFieldBuilder.build();
 
-            assocEntityBuilder.addField(assocFieldBuilder.build());
-            ownerEntityBuilder.addField(ownerField);
+                assocEntityBuilder.addField(assocFieldBuilder.build());
+                ownerEntityBuilder.addField(ownerField);
+            }
         }
 
         entityBuilderMap.forEach((key, value) -> entityMap.put(key, value.build()));
     }
 
+    /**
+     * Returns the qualified name of the table referred to by the given foreign key of the given table. A foreign key
+     * refers to a table of the same schema unless the schema of the referenced table is known.
+     */
+    private static String getReferencedTableName(SqlTable table, SqlForeignKey foreignKey) {
+        if (table.getSchemaName() == null) {
+            return foreignKey.getReferencedTableName();
+        }
+        String schemaName = foreignKey.getReferencedSchemaName() != null ? foreignKey.getReferencedSchemaName() :
+                table.getSchemaName();
+        return schemaName + "." + foreignKey.getReferencedTableName();
+    }
+
     private String createEnumName(String tableName, String columnName) {
         return CaseConverter.toSingularPascalCase(tableName) + CaseConverter.toSingularPascalCase(columnName);
     }
 
-    private Relation.RelationType inferRelationshipCardinality(Entity ownerEntity, SqlForeignKey foreignKey) {
-        List<EntityField> ownerColumns = new ArrayList<>();
-        foreignKey.getColumnNames().forEach(columnName ->
-                ownerColumns.add(ownerEntity.getFieldByColumnName(columnName)));
-        boolean isUniqueIndexPresent = ownerEntity.getUniqueIndexes().stream()
-                .anyMatch(index -> index.getFields().equals(ownerColumns));
-        if (ownerEntity.getKeys().equals(ownerColumns)) {
+    private static Relation.RelationType inferRelationshipCardinality(List<EntityField> ownerKeys,
+                                                                      List<EntityField> ownerColumns,
+                                                                      Set<List<EntityField>> uniqueIndexFields) {
+        if (ownerKeys.equals(ownerColumns)) {
             return Relation.RelationType.ONE;
-        } else if (isUniqueIndexPresent) {
+        } else if (uniqueIndexFields.contains(ownerColumns)) {
             return Relation.RelationType.ONE;
         } else {
             return Relation.RelationType.MANY;
@@ -335,5 +806,18 @@ public abstract class Introspector {
         };
     }
 
+    /**
+     * Opens a connection for a worker reading a batch of tables.
+     */
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection connect() throws SQLException;
+    }
 
+    /**
+     * Tables of a schema read together with the schema wide queries, restricted to the given table names unless they
+     * are null. The schema is null for the default schema of the data store.
+     */
+    private record TableBatch(String schemaName, List<SqlTable> tables, List<String> tableNames) {
+    }
 }
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -42,17 +43,21 @@ public class MsSqlInstrospector extends Introspector {
     public String getTablesQuery() {
         String formatQuery = """
             SELECT
+                SCHEMA_NAME(tbl.schema_id) AS table_schema,
                 tbl.name AS table_name
             FROM sys.tables tbl
             WHERE tbl.is_ms_shipped = 0 AND tbl.type = 'U'
-            ORDER BY tbl.name;
+                %s
+                %s
+            ORDER BY table_schema, tbl.name;
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return formatQuery;
+        return String.format(formatQuery, getSchemaNameCondition("SCHEMA_NAME(tbl.schema_id)", null),
+                getTableFilterCondition("tbl.name"));
     }
 
     @Override
-    public String getColumnsQuery(String tableName) {
+    public String getSchemaColumnsQuery(String schemaName, List<String> tableNames) {
         String formatQuery = """
             SELECT
                 c.name AS column_name,
@@ -98,7 +103,7 @@ public class MsSqlInstrospector extends Introspector {
                                        ON ic.object_id = col.object_id AND ic.column_id = col.column_id
                             INNER JOIN
                         sys.tables t ON ind.object_id = t.object_id
-                    WHERE  t.name = OBJECT_NAME(c.object_id)
+                    WHERE  t.object_id = c.object_id
                       AND col.name = c.name
                       AND ind.is_primary_key = 1) = 1
                     THEN 'PRI'
@@ -112,16 +117,18 @@ public class MsSqlInstrospector extends Introspector {
                     AND c.column_id = cc.parent_column_id
             WHERE
                 obj.is_ms_shipped = 0
-              AND OBJECT_NAME(c.object_id) = '%s'
+                %s
+                %s
             ORDER BY
                 table_name, COLUMNPROPERTY(c.object_id, c.name, 'ordinal');
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return String.format(formatQuery, tableName);
+        return String.format(formatQuery, getSchemaNameCondition("OBJECT_SCHEMA_NAME(c.object_id)", schemaName),
+                getTableNameCondition("OBJECT_NAME(c.object_id)", tableNames));
     }
 
     @Override
-    public String getIndexesQuery(String tableName) {
+    public String getSchemaIndexesQuery(String schemaName, List<String> tableNames) {
         String formatQuery = """
             SELECT DISTINCT
                 ind.name AS index_name,
@@ -149,18 +156,21 @@ public class MsSqlInstrospector extends Introspector {
                     'CLUSTERED COLUMNSTORE',
                     'NONCLUSTERED COLUMNSTORE'
                 )
-              AND t.name = '%s'
+                %s
+                %s
             ORDER BY table_name, index_name, seq_in_index;
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return String.format(formatQuery, tableName);
+        return String.format(formatQuery, getSchemaNameCondition("SCHEMA_NAME(t.schema_id)", schemaName),
+                getTableNameCondition("t.name", tableNames));
     }
 
     @Override
-    public String getForeignKeysQuery(String tableName) {
+    public String getSchemaForeignKeysQuery(String schemaName, List<String> tableNames) {
         String formatQuery = """
                 SELECT OBJECT_NAME(fkc.constraint_object_id) AS constraint_name,
                        parent_table.name                        AS table_name,
+                       SCHEMA_NAME(referenced_table.schema_id)  AS referenced_table_schema,
                        referenced_table.name                    AS referenced_table_name,
                        parent_column.name                       AS column_name,
                        referenced_column.name                   AS referenced_column_name,
@@ -183,29 +193,75 @@ public class MsSqlInstrospector extends Introspector {
                                         AND fkc.parent_object_id = fk.parent_object_id
                 WHERE parent_table.is_ms_shipped = 0
                   AND referenced_table.is_ms_shipped = 0
-                  AND parent_table.name = '%s'
-                ORDER BY table_name, ordinal_position;
+                  %s
+                  %s
+                ORDER BY table_name, constraint_name, ordinal_position;
                 """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return String.format(formatQuery, tableName);
+        return String.format(formatQuery, getSchemaNameCondition("SCHEMA_NAME(parent_table.schema_id)", schemaName),
+                getTableNameCondition("parent_table.name", tableNames));
+    }
+
+    @Override
+    protected String getTableFingerprintsQuery() {
+        String formatQuery = """
+            SELECT
+                SCHEMA_NAME(tbl.schema_id) AS table_schema,
+                tbl.name AS table_name,
+                CONCAT(
+                    CONVERT(VARCHAR(33), tbl.create_date, 126), '|',
+                    CONVERT(VARCHAR(33), tbl.modify_date, 126), '|',
+                    (SELECT COUNT(*) FROM sys.index_columns AS ic WHERE ic.object_id = tbl.object_id), '|',
+                    (SELECT CHECKSUM_AGG(CHECKSUM(ind.name, ind.is_unique, ic.column_id, ic.key_ordinal))
+                        FROM sys.indexes AS ind
+                            INNER JOIN sys.index_columns AS ic
+                            ON ic.object_id = ind.object_id AND ic.index_id = ind.index_id
+                        WHERE ind.object_id = tbl.object_id)) AS fingerprint
+            FROM sys.tables tbl
+            WHERE tbl.is_ms_shipped = 0 AND tbl.type = 'U'
+                %s
+                %s;
+            """;
+        formatQuery = formatQuery.replace("\r\n", "%n");
+        return String.format(formatQuery, getSchemaNameCondition("SCHEMA_NAME(tbl.schema_id)", null),
+                getTableFilterCondition("tbl.name"));
     }
 
     @Override
     protected String getEnumsQuery() {
         String formatQuery = """
             SELECT
+                OBJECT_SCHEMA_NAME(parent_object_id) AS table_schema,
                 OBJECT_NAME(parent_object_id) AS table_name,
                 COL_NAME(parent_object_id, parent_column_id) AS column_name,
                 definition AS full_enum_type
             FROM sys.check_constraints
-            WHERE definition LIKE '%OR%'
-                AND definition LIKE '%=%'
-                AND definition NOT LIKE '%AND%'
-                AND definition NOT LIKE '%>%'
-                AND definition NOT LIKE '%<%';
+            WHERE definition LIKE '%%OR%%'
+                AND definition LIKE '%%=%%'
+                AND definition NOT LIKE '%%AND%%'
+                AND definition NOT LIKE '%%>%%'
+                AND definition NOT LIKE '%%<%%'
+                %s
+                %s;
+            """;
+        formatQuery = formatQuery.replace("\r\n", "%n");
+        return String.format(formatQuery, getSchemaNameCondition("OBJECT_SCHEMA_NAME(parent_object_id)", null),
+                getTableFilterCondition("OBJECT_NAME(parent_object_id)"));
+    }
+
+    @Override
+    protected Optional<String> getSchemasQuery() {
+        String formatQuery = """
+            SELECT
+                name AS schema_name
+            FROM sys.schemas
+            WHERE schema_id < 16384
+                AND name NOT IN ('sys', 'INFORMATION_SCHEMA', 'guest')
+                %s
+            ORDER BY schema_name;
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return formatQuery;
+        return Optional.of(String.format(formatQuery, getSchemaFilterCondition("name")));
     }
 
     @Override
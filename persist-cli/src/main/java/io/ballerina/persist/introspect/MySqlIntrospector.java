@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -50,19 +51,20 @@ public class MySqlIntrospector extends Introspector {
                 JOIN information_schema.columns AS column_info
                 ON column_info.table_name = table_info.table_name
             WHERE
-                table_info.table_schema= '%s' AND
-                column_info.table_schema = '%s' AND
+                table_info.table_schema= %s AND
+                column_info.table_schema = %s AND
                 table_info.table_type = 'BASE TABLE'
+                %s
             ORDER BY
                 table_info.table_name;
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return String.format(formatQuery, this.persistConfigurations.getDbConfig().getDatabase(),
-                this.persistConfigurations.getDbConfig().getDatabase());
+        return String.format(formatQuery, getDatabaseLiteral(), getDatabaseLiteral(),
+                getTableFilterCondition("table_info.table_name"));
     }
 
     @Override
-    public String getColumnsQuery(String tableName) {
+    public String getSchemaColumnsQuery(String schemaName, List<String> tableNames) {
         String formatQuery = """
             SELECT
                 column_name column_name,
@@ -83,17 +85,19 @@ public class MySqlIntrospector extends Introspector {
             FROM
                 information_schema.columns
             WHERE
-                table_schema = '%s'
-                AND table_name = '%s'
+                table_schema = %s
+                %s
             ORDER BY
+                table_name,
                 ordinal_position ASC;
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return String.format(formatQuery, this.persistConfigurations.getDbConfig().getDatabase(), tableName);
+        return String.format(formatQuery, getSchemaLiteral(schemaName),
+                getTableNameCondition("table_name", tableNames));
     }
 
     @Override
-    public String getIndexesQuery(String tableName) {
+    public String getSchemaIndexesQuery(String schemaName, List<String> tableNames) {
         String formatQuery = """
             SELECT
                 table_name AS table_name,
@@ -105,23 +109,26 @@ public class MySqlIntrospector extends Introspector {
             FROM
                 information_schema.statistics
             WHERE
-                table_schema = '%s'
-                AND table_name = '%s'
+                table_schema = %s
                 AND index_name != 'PRIMARY'
+                %s
             ORDER BY
+                table_name,
                 BINARY index_name,
                 seq_in_index;
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return String.format(formatQuery, this.persistConfigurations.getDbConfig().getDatabase(), tableName);
+        return String.format(formatQuery, getSchemaLiteral(schemaName),
+                getTableNameCondition("table_name", tableNames));
     }
 
     @Override
-    public String getForeignKeysQuery(String tableName) {
+    public String getSchemaForeignKeysQuery(String schemaName, List<String> tableNames) {
         String formatQuery = """
                 SELECT
                     kcu.constraint_name constraint_name,
                     kcu.column_name column_name,
+                    kcu.referenced_table_schema referenced_table_schema,
                     kcu.referenced_table_name referenced_table_name,
                     kcu.referenced_column_name referenced_column_name,
                     kcu.ordinal_position ordinal_position,
@@ -133,10 +140,10 @@ public class MySqlIntrospector extends Introspector {
                     INNER JOIN information_schema.referential_constraints AS rc ON
                     BINARY kcu.constraint_name = BINARY rc.constraint_name
                 WHERE
-                    BINARY kcu.table_schema = '%s'
-                    AND rc.constraint_schema = '%s'
-                    AND kcu.table_name = '%s'
+                    BINARY kcu.table_schema = %s
+                    AND rc.constraint_schema = %s
                     AND kcu.referenced_column_name IS NOT NULL
+                    %s
                 ORDER BY
                     BINARY kcu.table_schema,
                     BINARY kcu.table_name,
@@ -144,8 +151,64 @@ public class MySqlIntrospector extends Introspector {
                     kcu.ordinal_position;
                 """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return String.format(formatQuery, this.persistConfigurations.getDbConfig().getDatabase(),
-                this.persistConfigurations.getDbConfig().getDatabase(), tableName);
+        String schema = getSchemaLiteral(schemaName);
+        return String.format(formatQuery, schema, schema, getTableNameCondition("kcu.table_name", tableNames));
+    }
+
+    /**
+     * Returns the query of the fingerprints of the tables of the database, as MySQL has no schemas apart from the
+     * databases. The fingerprint of a table is the digest of the definitions of its columns, indexes and foreign
+     * keys in a fixed order, which relies on the length limit raised by {@link #getTableFingerprintsSetupQuery()}.
+     */
+    @Override
+    protected String getTableFingerprintsQuery() {
+        String formatQuery = """
+            SELECT
+                table_name AS table_name,
+                MD5(GROUP_CONCAT(definition ORDER BY BINARY definition SEPARATOR ',')) AS fingerprint
+            FROM (
+                SELECT
+                    table_name AS table_name,
+                    CONCAT_WS('|', 'column', column_name, ordinal_position, column_type, data_type, is_nullable,
+                        COALESCE(column_default, ''), COALESCE(character_maximum_length, ''),
+                        COALESCE(numeric_precision, ''), COALESCE(numeric_scale, ''), column_key, extra) AS definition
+                FROM
+                    information_schema.columns
+                WHERE
+                    table_schema = %s
+                    %s
+                UNION ALL
+                SELECT
+                    table_name AS table_name,
+                    CONCAT_WS('|', 'index', index_name, column_name, seq_in_index, non_unique) AS definition
+                FROM
+                    information_schema.statistics
+                WHERE
+                    table_schema = %s
+                    %s
+                UNION ALL
+                SELECT
+                    kcu.table_name AS table_name,
+                    CONCAT_WS('|', 'foreign_key', kcu.constraint_name, kcu.column_name, kcu.ordinal_position,
+                        kcu.referenced_table_name, kcu.referenced_column_name, rc.update_rule,
+                        rc.delete_rule) AS definition
+                FROM
+                    information_schema.key_column_usage AS kcu
+                    INNER JOIN information_schema.referential_constraints AS rc ON
+                    BINARY kcu.constraint_name = BINARY rc.constraint_name
+                WHERE
+                    BINARY kcu.table_schema = %s
+                    AND rc.constraint_schema = %s
+                    AND kcu.referenced_column_name IS NOT NULL
+                    %s
+            ) AS definitions
+            GROUP BY
+                table_name;
+            """;
+        formatQuery = formatQuery.replace("\r\n", "%n");
+        String database = getDatabaseLiteral();
+        return String.format(formatQuery, database, getTableFilterCondition("table_name"), database,
+                getTableFilterCondition("table_name"), database, database, getTableFilterCondition("kcu.table_name"));
     }
 
     @Override
@@ -158,13 +221,50 @@ public class MySqlIntrospector extends Introspector {
             FROM
                 information_schema.columns
             WHERE
-                table_schema = '%s'
+                table_schema = %s
                 AND data_type = 'enum'
+                %s
             ORDER BY
                 ordinal_position ASC;
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return String.format(formatQuery, this.persistConfigurations.getDbConfig().getDatabase());
+        return String.format(formatQuery, getDatabaseLiteral(),
+                getTableFilterCondition("table_name"));
+    }
+
+    /**
+     * Raises the length limit of the concatenated definitions of a table for the session, which is 1024 bytes by
+     * default and would truncate the definitions of the wide tables silently.
+     */
+    @Override
+    protected Optional<String> getTableFingerprintsSetupQuery() {
+        return Optional.of("SET SESSION group_concat_max_len = 4294967295");
+    }
+
+    /**
+     * Returns the SQL literal of the given value. MySQL treats a backslash in a string literal as an escape character
+     * in its default SQL mode, so the backslashes are escaped as well as the quotes.
+     */
+    @Override
+    protected String quoteLiteral(String value) {
+        return super.quoteLiteral(value.replace("\\", "\\\\"));
+    }
+
+    private String getDatabaseLiteral() {
+        return quoteLiteral(this.persistConfigurations.getDbConfig().getDatabase());
+    }
+
+    /**
+     * Returns the SQL literal of the given schema, or of the database if it is null, as the schema wide queries are
+     * given no schema when the tables of a single schema are introspected.
+     */
+    private String getSchemaLiteral(String schemaName) {
+        return schemaName != null ? quoteLiteral(schemaName) : getDatabaseLiteral();
+    }
+
+    @Override
+    protected Optional<String> getRegexOperator() {
+        return Optional.of("REGEXP");
     }
 
     @Override
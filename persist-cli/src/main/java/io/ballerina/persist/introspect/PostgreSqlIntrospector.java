@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,19 +42,21 @@ public class PostgreSqlIntrospector extends Introspector {
     public String getTablesQuery() {
         String formatQuery = """
             SELECT
+                namespace.nspname AS table_schema,
                 tbl.relname AS table_name
             FROM pg_class AS tbl
                 INNER JOIN pg_namespace AS namespace ON namespace.oid = tbl.relnamespace
             WHERE
-                tbl.relkind = 'r' AND namespace.nspname = 'public'
-                ORDER BY table_name;
+                tbl.relkind = 'r' AND namespace.nspname IN (%s)
+                %s
+                ORDER BY table_schema, table_name;
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return formatQuery;
+        return String.format(formatQuery, getSchemaNameList(null), getTableFilterCondition("tbl.relname"));
     }
 
     @Override
-    public String getColumnsQuery(String tableName) {
+    public String getSchemaColumnsQuery(String schemaName, List<String> tableNames) {
         String formatQuery = """
             SELECT
                 info.table_name AS table_name,
@@ -79,9 +82,9 @@ public class PostgreSqlIntrospector extends Introspector {
                         WHERE
                             constraints.constraint_type = 'PRIMARY KEY' AND
                             columns.table_schema = constraints.table_schema AND
-                            columns.table_schema = 'public' AND
+                            columns.table_schema = info.table_schema AND
                             columns.table_name = constraints.table_name AND
-                            columns.table_name = '%s'
+                            columns.table_name = info.table_name
                         )
                     THEN 'PRI'
                     ELSE 'NO'
@@ -101,7 +104,7 @@ public class PostgreSqlIntrospector extends Introspector {
                     SELECT pg_class.oid, relname, pg_namespace.nspname as namespace
                     FROM pg_class
                     JOIN pg_namespace on pg_namespace.oid = pg_class.relnamespace
-                    AND pg_namespace.nspname = 'public' WHERE reltype > 0
+                    AND pg_namespace.nspname IN (%s) WHERE reltype > 0
                 ) as oid on oid.oid = att.attrelid
                 AND relname = info.table_name
                 AND namespace = info.table_schema
@@ -109,15 +112,18 @@ public class PostgreSqlIntrospector extends Introspector {
                 ON attdef.adrelid = att.attrelid AND attdef.adnum = att.attnum AND table_schema = namespace
                 LEFT OUTER JOIN pg_catalog.pg_constraint con
                 ON con.conrelid = att.attrelid AND att.attnum = ANY(con.conkey) AND con.contype = 'c'
-                WHERE table_schema = 'public' AND table_name = '%s'
-                ORDER BY ordinal_position;
+                WHERE table_schema IN (%s)
+                %s
+                ORDER BY info.table_name, ordinal_position;
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return String.format(formatQuery, tableName, tableName);
+        String schemaNames = getSchemaNameList(schemaName);
+        return String.format(formatQuery, schemaNames, schemaNames,
+                getTableNameCondition("info.table_name", tableNames));
     }
 
     @Override
-    public String getIndexesQuery(String tableName) {
+    public String getSchemaIndexesQuery(String schemaName, List<String> tableNames) {
         String formatQuery = """
             WITH rawindex AS (
                 SELECT
@@ -156,21 +162,23 @@ public class PostgreSqlIntrospector extends Introspector {
                     ON opclass.oid = rawindex.indclass
                 LEFT JOIN pg_constraint pc ON rawindex.indexrelid = pc.conindid AND pc.contype <> 'f'
             WHERE
-                schemainfo.nspname = 'public' AND
-                rawindex.indisprimary = false AND
-                tableinfo.relname = '%s'
-            ORDER BY index_name;
+                schemainfo.nspname IN (%s) AND
+                rawindex.indisprimary = false
+                %s
+            ORDER BY table_name, index_name, seq_in_index;
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return String.format(formatQuery, tableName);
+        return String.format(formatQuery, getSchemaNameList(schemaName),
+                getTableNameCondition("tableinfo.relname", tableNames));
     }
 
     @Override
-    public String getForeignKeysQuery(String tableName) {
+    public String getSchemaForeignKeysQuery(String schemaName, List<String> tableNames) {
         String formatQuery = """
                 SELECT
                     table_name,
                     att2.attname    AS column_name,
+                    refns.nspname   AS referenced_table_schema,
                     cl.relname      AS referenced_table_name,
                     att.attname     AS referenced_column_name,
                     conname         AS constraint_name,
@@ -189,23 +197,57 @@ public class PostgreSqlIntrospector extends Introspector {
                             join pg_constraint con1 on con1.conrelid = cl.oid
                             join pg_namespace ns on cl.relnamespace = ns.oid
                     WHERE
-                        ns.nspname = 'public'
+                        ns.nspname IN (%s)
                         and con1.contype = 'f'
-                    ORDER BY colidx
+                        %s
                     ) con
                         JOIN pg_attribute att on att.attrelid = con.confrelid and att.attnum = con.child
                         JOIN pg_class cl on cl.oid = con.confrelid
+                        JOIN pg_namespace refns on refns.oid = cl.relnamespace
                         JOIN pg_attribute att2 on att2.attrelid = con.conrelid and att2.attnum = con.parent
-                WHERE table_name = '%s';
+                ORDER BY table_name, constraint_name, con.colidx;
                 """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return String.format(formatQuery, tableName);
+        return String.format(formatQuery, getSchemaNameList(schemaName),
+                getTableNameCondition("cl.relname", tableNames));
+    }
+
+    @Override
+    protected String getTableFingerprintsQuery() {
+        String formatQuery = """
+            SELECT
+                namespace.nspname AS table_schema,
+                tbl.relname AS table_name,
+                md5(concat_ws('|',
+                    (SELECT string_agg(concat_ws(':', att.attnum, att.attname,
+                            format_type(att.atttypid, att.atttypmod), att.attnotnull, att.attidentity,
+                            pg_get_expr(attdef.adbin, attdef.adrelid)), ',' ORDER BY att.attnum)
+                        FROM pg_attribute AS att
+                            LEFT JOIN pg_attrdef AS attdef
+                            ON attdef.adrelid = att.attrelid AND attdef.adnum = att.attnum
+                        WHERE att.attrelid = tbl.oid AND att.attnum > 0 AND NOT att.attisdropped),
+                    (SELECT string_agg(pg_get_indexdef(ind.indexrelid), ',' ORDER BY pg_get_indexdef(ind.indexrelid))
+                        FROM pg_index AS ind
+                        WHERE ind.indrelid = tbl.oid),
+                    (SELECT string_agg(concat_ws(':', con.conname, pg_get_constraintdef(con.oid)), ','
+                            ORDER BY con.conname)
+                        FROM pg_constraint AS con
+                        WHERE con.conrelid = tbl.oid))) AS fingerprint
+            FROM pg_class AS tbl
+                INNER JOIN pg_namespace AS namespace ON namespace.oid = tbl.relnamespace
+            WHERE
+                tbl.relkind = 'r' AND namespace.nspname IN (%s)
+                %s;
+            """;
+        formatQuery = formatQuery.replace("\r\n", "%n");
+        return String.format(formatQuery, getSchemaNameList(null), getTableFilterCondition("tbl.relname"));
     }
 
     @Override
     protected String getEnumsQuery() {
         String formatQuery = """
             SELECT
+                nsp.nspname AS table_schema,
                 rel.relname AS table_name,
                 a.attname AS column_name,
                 pg_get_constraintdef(con.oid) AS full_enum_type
@@ -218,11 +260,37 @@ public class PostgreSqlIntrospector extends Introspector {
             INNER JOIN
                 pg_catalog.pg_attribute a ON a.attrelid = rel.oid AND a.attnum = ANY(con.conkey)
             WHERE
-                nsp.nspname = 'public'
+                nsp.nspname IN (%s)
                 AND con.contype = 'c'
+                %s
+            """;
+        formatQuery = formatQuery.replace("\r\n", "%n");
+        return String.format(formatQuery, getSchemaNameList(null), getTableFilterCondition("rel.relname"));
+    }
+
+    @Override
+    protected Optional<String> getSchemasQuery() {
+        String formatQuery = """
+            SELECT
+                nspname AS schema_name
+            FROM pg_namespace
+            WHERE
+                nspname NOT LIKE 'pg!_%%' ESCAPE '!' AND nspname <> 'information_schema'
+                %s
+            ORDER BY schema_name;
             """;
         formatQuery = formatQuery.replace("\r\n", "%n");
-        return formatQuery;
+        return Optional.of(String.format(formatQuery, getSchemaFilterCondition("nspname")));
+    }
+
+    @Override
+    protected List<String> getDefaultSchemaNames() {
+        return List.of("public");
+    }
+
+    @Override
+    protected Optional<String> getRegexOperator() {
+        return Optional.of("~");
     }
 
     @Override
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.persist.introspect;
+
+import io.ballerina.persist.BalException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Selects the tables of a database to introspect by the patterns of their names. A table is introspected if it matches
+ * any of the include patterns, or if there are none, and none of the exclude patterns. The schemas to introspect are
+ * selected in the same way.
+ * <p>
+ * A pattern is a glob, in which `*` matches any sequence of characters and `?` matches a single character, or a
+ * regular expression prefixed with `regex:`. The patterns are translated into conditions of the introspection queries,
+ * so the tables which are not selected are never read. Globs become `LIKE` conditions and regular expressions use the
+ * regular expression operator of the database.
+ *
+ * @since 1.7.0
+ */
+public class TableFilter {
+
+    public static final String REGEX_PREFIX = "regex:";
+    private static final char LIKE_ESCAPE = '!';
+    private static final TableFilter ALL = new TableFilter(List.of(), List.of());
+
+    private final List<String> includePatterns;
+    private final List<String> excludePatterns;
+
+    private TableFilter(List<String> includePatterns, List<String> excludePatterns) {
+        this.includePatterns = List.copyOf(includePatterns);
+        this.excludePatterns = List.copyOf(excludePatterns);
+    }
+
+    /**
+     * Returns a filter which selects every table.
+     */
+    public static TableFilter all() {
+        return ALL;
+    }
+
+    /**
+     * Creates a filter of the given include and exclude patterns.
+     */
+    public static TableFilter of(List<String> includePatterns, List<String> excludePatterns) throws BalException {
+        for (String pattern : includePatterns) {
+            validatePattern(pattern);
+        }
+        for (String pattern : excludePatterns) {
+            validatePattern(pattern);
+        }
+        return new TableFilter(includePatterns, excludePatterns);
+    }
+
+    public boolean isEmpty() {
+        return includePatterns.isEmpty() && excludePatterns.isEmpty();
+    }
+
+    public boolean hasRegexPatterns() {
+        return includePatterns.stream().anyMatch(TableFilter::isRegex) ||
+                excludePatterns.stream().anyMatch(TableFilter::isRegex);
+    }
+
+    /**
+     * Returns a condition which restricts the given table name column to the selected tables, or an empty string if
+     * every table is selected. The given function quotes a string literal in the dialect of the database, and the
+     * regular expression operator of the database is null if it has none, in which case the filter cannot have
+     * regular expression patterns.
+     */
+    public String getCondition(String column, UnaryOperator<String> quoteLiteral, String regexOperator) {
+        StringBuilder condition = new StringBuilder();
+        if (!includePatterns.isEmpty()) {
+            StringJoiner includes = new StringJoiner(" OR ", "AND (", ")");
+            for (String pattern : includePatterns) {
+                includes.add(getPatternCondition(column, pattern, quoteLiteral, regexOperator));
+            }
+            condition.append(includes);
+        }
+        for (String pattern : excludePatterns) {
+            if (!condition.isEmpty()) {
+                condition.append(' ');
+            }
+            condition.append("AND NOT (").append(getPatternCondition(column, pattern, quoteLiteral, regexOperator))
+                    .append(')');
+        }
+        return condition.toString();
+    }
+
+    private static String getPatternCondition(String column, String pattern, UnaryOperator<String> quoteLiteral,
+                                              String regexOperator) {
+        if (isRegex(pattern)) {
+            Objects.requireNonNull(regexOperator, "the regular expression patterns are validated by the introspector");
+            return column + " " + regexOperator + " " + quoteLiteral.apply(pattern.substring(REGEX_PREFIX.length()));
+        }
+        return column + " LIKE " + quoteLiteral.apply(toLikePattern(pattern)) + " ESCAPE '" + LIKE_ESCAPE + "'";
+    }
+
+    static String toLikePattern(String glob) {
+        StringBuilder likePattern = new StringBuilder(glob.length());
+        for (char character : glob.toCharArray()) {
+            switch (character) {
+                case '*' -> likePattern.append('%');
+                case '?' -> likePattern.append('_');
+                case '%', '_', '[', LIKE_ESCAPE -> likePattern.append(LIKE_ESCAPE).append(character);
+                default -> likePattern.append(character);
+            }
+        }
+        return likePattern.toString();
+    }
+
+    public static boolean isRegex(String pattern) {
+        return pattern.startsWith(REGEX_PREFIX);
+    }
+
+    private static void validatePattern(String pattern) throws BalException {
+        if (pattern.isBlank() || pattern.equals(REGEX_PREFIX)) {
+            throw new BalException("The name pattern cannot be empty.");
+        }
+        if (isRegex(pattern)) {
+            try {
+                Pattern.compile(pattern.substring(REGEX_PREFIX.length()));
+            } catch (PatternSyntaxException e) {
+                throw new BalException("The name pattern '" + pattern + "' is not a valid regular expression. " +
+                        e.getDescription());
+            }
+        }
+    }
+}
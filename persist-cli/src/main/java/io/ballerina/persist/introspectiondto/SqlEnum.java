@@ -19,11 +19,17 @@ package io.ballerina.persist.introspectiondto;
 
 public class SqlEnum {
     private final String fullEnumText;
+    private final String enumSchemaName;
     private final String enumTableName;
     private final String enumColumnName;
 
     public SqlEnum(String fullEnumText, String enumTableName, String enumColumnName) {
+        this(fullEnumText, null, enumTableName, enumColumnName);
+    }
+
+    public SqlEnum(String fullEnumText, String enumSchemaName, String enumTableName, String enumColumnName) {
         this.fullEnumText = fullEnumText;
+        this.enumSchemaName = enumSchemaName;
         this.enumTableName = enumTableName;
         this.enumColumnName = enumColumnName;
     }
@@ -32,6 +38,10 @@ public class SqlEnum {
         return fullEnumText;
     }
 
+    public String getEnumSchemaName() {
+        return enumSchemaName;
+    }
+
     public String getEnumTableName() {
         return enumTableName;
     }
@@ -25,6 +25,7 @@ public class SqlForeignKey {
     private final String constraintName;
     private final String tableName;
     private List<String> columnNames;
+    private final String referencedSchemaName;
     private final String referencedTableName;
     private List<String> referencedColumnNames;
     private final String updateRule;
@@ -44,15 +45,27 @@ public class SqlForeignKey {
 
     public SqlForeignKey(String constraintName, String tableName, List<String> columnNames, String referencedTableName,
                          List<String> referencedColumnNames, String updateRule, String deleteRule) {
+        this(constraintName, tableName, columnNames, null, referencedTableName, referencedColumnNames, updateRule,
+                deleteRule);
+    }
+
+    public SqlForeignKey(String constraintName, String tableName, List<String> columnNames,
+                         String referencedSchemaName, String referencedTableName, List<String> referencedColumnNames,
+                         String updateRule, String deleteRule) {
         this.constraintName = constraintName;
         this.tableName = tableName;
         this.columnNames = Collections.unmodifiableList(columnNames);
+        this.referencedSchemaName = referencedSchemaName;
         this.referencedTableName = referencedTableName;
         this.referencedColumnNames = Collections.unmodifiableList(referencedColumnNames);
         this.updateRule = updateRule;
         this.deleteRule = deleteRule;
     }
 
+    public String getReferencedSchemaName() {
+        return referencedSchemaName;
+    }
+
     public String getReferencedTableName() {
         return referencedTableName;
     }
@@ -84,6 +97,7 @@ public class SqlForeignKey {
         private final String constraintName;
         private String tableName;
         private final List<String> columnNames;
+        private String referencedSchemaName;
         private String referencedTableName;
         private final List<String> referencedColumnNames;
         private String updateRule;
@@ -110,6 +124,11 @@ public class SqlForeignKey {
             return this;
         }
 
+        public Builder setReferencedSchemaName(String referencedSchemaName) {
+            this.referencedSchemaName = referencedSchemaName;
+            return this;
+        }
+
         public Builder setReferencedTableName(String referencedTableName) {
             this.referencedTableName = referencedTableName;
             return this;
@@ -131,8 +150,8 @@ public class SqlForeignKey {
         }
 
         public SqlForeignKey build() {
-            return new SqlForeignKey(constraintName, tableName, columnNames, referencedTableName, referencedColumnNames,
-                    updateRule, deleteRule);
+            return new SqlForeignKey(constraintName, tableName, columnNames, referencedSchemaName, referencedTableName,
+                    referencedColumnNames, updateRule, deleteRule);
         }
     }
 }
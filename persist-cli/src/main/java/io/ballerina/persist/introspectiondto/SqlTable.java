@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 
 public class SqlTable {
+    private final String schemaName;
     private final String tableName;
     private final List<SqlColumn> columns;
     private final List<SqlForeignKey> sqlForeignKeys;
@@ -29,16 +30,36 @@ public class SqlTable {
     private final List<SqlIndex> indexes;
 
     public SqlTable(String tableName) {
+        this(null, tableName);
+    }
+
+    public SqlTable(String schemaName, String tableName) {
+        this.schemaName = schemaName;
         this.tableName = tableName;
         this.columns = new ArrayList<>();
         this.sqlForeignKeys = new ArrayList<>();
         this.indexes = new ArrayList<>();
     }
 
+    /**
+     * Returns the schema of the table, which is only set when the tables of several schemas are introspected.
+     */
+    public String getSchemaName() {
+        return schemaName;
+    }
+
     public String getTableName() {
         return tableName;
     }
 
+    /**
+     * Returns the name of the table qualified by its schema if the schema is set, which identifies the table among
+     * the tables of all the introspected schemas.
+     */
+    public String getQualifiedName() {
+        return schemaName == null ? tableName : schemaName + "." + tableName;
+    }
+
     public List<SqlColumn> getColumns() {
         return Collections.unmodifiableList(columns);
     }
@@ -69,13 +90,19 @@ public class SqlTable {
 
     public static class Builder {
         private final String tableName;
+        private String schemaName;
 
         private Builder(String tableName) {
             this.tableName = tableName;
         }
 
+        public Builder setSchemaName(String schemaName) {
+            this.schemaName = schemaName;
+            return this;
+        }
+
         public SqlTable build() {
-            return new SqlTable(tableName);
+            return new SqlTable(schemaName, tableName);
         }
     }
 }
@@ -22,8 +22,11 @@ import io.ballerina.persist.inflector.Pluralizer;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Client to store persist entities.
@@ -37,6 +40,8 @@ public class Entity {
     private final String schemaName;
     private final String entityName;
     private List<EntityField> fields;
+    private Map<String, EntityField> fieldsByName;
+    private Map<String, EntityField> fieldsByColumnName;
     private final List<Index> indexes;
     private final List<Index> uniqueIndexes;
     private final boolean containsUnsupportedTypes;
@@ -47,7 +52,7 @@ public class Entity {
         this.keys = Collections.unmodifiableList(keys);
         this.tableName = resourceName;
         this.schemaName = schemaName;
-        this.fields = Collections.unmodifiableList(fields);
+        setFields(new ArrayList<>(fields));
         this.indexes = Collections.unmodifiableList(indexes);
         this.uniqueIndexes = Collections.unmodifiableList(uniqueIndexes);
         this.containsUnsupportedTypes = containsUnsupportedTypes;
@@ -81,26 +86,23 @@ public class Entity {
         return this.uniqueIndexes;
     }
 
+    /**
+     * Returns the first field with the given name, or null if there is no such field. The lookup takes constant time.
+     */
     public EntityField getFieldByName(String fieldName) {
-        for (EntityField field : fields) {
-            if (field.getFieldName().equals(fieldName)) {
-                return field;
-            }
-        }
-        return null;
+        return fieldsByName.get(fieldName);
     }
 
     public boolean containsUnsupportedTypes() {
         return containsUnsupportedTypes;
     }
 
+    /**
+     * Returns the first field mapped to the given column, or null if there is no such field. The lookup takes
+     * constant time.
+     */
     public EntityField getFieldByColumnName(String columnName) {
-        for (EntityField field : fields) {
-            if (field.getFieldColumnName().equals(columnName)) {
-                return field;
-            }
-        }
-        return null;
+        return fieldsByColumnName.get(columnName);
     }
 
     public boolean shouldTableMappingGenerated() {
@@ -110,10 +112,36 @@ public class Entity {
         return !entityName.equals(tableName);
     }
 
+    /**
+     * Removes the fields with the given name. The fields and their lookup indexes are rebuilt, which takes linear
+     * time in the number of fields, so removing several fields should be done with {@link #removeFields(Set)}.
+     */
     public void removeField(String fieldName) {
+        removeFields(Set.of(fieldName));
+    }
+
+    /**
+     * Removes the fields with any of the given names in a single pass over the fields.
+     */
+    public void removeFields(Set<String> fieldNames) {
         List<EntityField> newFields = new ArrayList<>(this.fields);
-        newFields.removeIf(field -> field.getFieldName().equals(fieldName));
-        this.fields = Collections.unmodifiableList(newFields);
+        if (newFields.removeIf(field -> fieldNames.contains(field.getFieldName()))) {
+            setFields(newFields);
+        }
+    }
+
+    private void setFields(List<EntityField> fields) {
+        Map<String, EntityField> nameIndex = new HashMap<>(fields.size() * 4 / 3 + 1);
+        Map<String, EntityField> columnNameIndex = new HashMap<>(fields.size() * 4 / 3 + 1);
+        for (EntityField field : fields) {
+            nameIndex.putIfAbsent(field.getFieldName(), field);
+            if (field.getFieldColumnName() != null) {
+                columnNameIndex.putIfAbsent(field.getFieldColumnName(), field);
+            }
+        }
+        this.fields = Collections.unmodifiableList(fields);
+        this.fieldsByName = Collections.unmodifiableMap(nameIndex);
+        this.fieldsByColumnName = Collections.unmodifiableMap(columnNameIndex);
     }
 
     public static Entity.Builder newBuilder(String entityName) {
@@ -19,6 +19,7 @@
 package io.ballerina.persist.models;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -33,6 +34,7 @@ import java.util.Set;
 public class Module {
 
     private final Map<String, Entity> entityMap;
+    private final Map<String, Entity> entitiesByTableName;
     private final Map<String, Enum> enumMap;
     private final String moduleName;
     private final Set<String> importModulePrefixes;
@@ -43,6 +45,13 @@ public class Module {
         this.importModulePrefixes = Collections.unmodifiableSet(importModulePrefixes);
         this.entityMap = Collections.unmodifiableMap(entityMap);
         this.enumMap = Collections.unmodifiableMap(enumMap);
+        Map<String, Entity> tableNameIndex = new HashMap<>(entityMap.size() * 4 / 3 + 1);
+        for (Entity entity : entityMap.values()) {
+            if (entity.getTableName() != null) {
+                tableNameIndex.putIfAbsent(entity.getTableName(), entity);
+            }
+        }
+        this.entitiesByTableName = Collections.unmodifiableMap(tableNameIndex);
     }
 
     public Map<String, Entity> getEntityMap() {
@@ -61,9 +70,11 @@ public class Module {
         return moduleName;
     }
 
+    /**
+     * Returns the entity mapped to the given table. The lookup takes constant time.
+     */
     public Optional<Entity> getEntityByTableName(String tableName) {
-        return entityMap.values().stream().filter(item -> item.getTableName()
-                .equals(tableName)).findAny();
+        return Optional.ofNullable(entitiesByTableName.get(tableName));
     }
 
     public static Module.Builder newBuilder(String moduleName) {
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.nodegenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes generated files only when their content changed. A changed file is written to a temporary file in the same
+ * directory and atomically moved into place, so readers never observe a partially written file and unchanged files
+ * keep their modification time.
+ *
+ * @since 1.7.0
+ */
+public class GeneratedFileWriter {
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final AtomicInteger writtenFileCount = new AtomicInteger();
+    private final AtomicInteger unchangedFileCount = new AtomicInteger();
+
+    /**
+     * Writes the given content to the given path unless the file already has the same content.
+     *
+     * @return true if the file was written, false if it was left untouched
+     */
+    public boolean write(Path path, String content) throws IOException {
+        return write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the given bytes to the given path unless the file already has the same content.
+     *
+     * @return true if the file was written, false if it was left untouched
+     */
+    public boolean write(Path path, byte[] bytes) throws IOException {
+        if (hasContent(path, bytes)) {
+            unchangedFileCount.incrementAndGet();
+            return false;
+        }
+        Path absolutePath = path.toAbsolutePath();
+        Path directory = absolutePath.getParent();
+        Path fileName = absolutePath.getFileName();
+        if (directory == null || fileName == null) {
+            throw new IOException("invalid output file path: " + path);
+        }
+        Files.createDirectories(directory);
+        Path tempPath = Files.createTempFile(directory, "." + fileName, TEMP_FILE_SUFFIX);
+        try {
+            Files.write(tempPath, bytes);
+            try {
+                Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+        writtenFileCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Returns the number of files written since this writer was created.
+     */
+    public int getWrittenFileCount() {
+        return writtenFileCount.get();
+    }
+
+    /**
+     * Returns the number of files skipped since this writer was created because their content did not change.
+     */
+    public int getUnchangedFileCount() {
+        return unchangedFileCount.get();
+    }
+
+    private static boolean hasContent(Path path, byte[] bytes) throws IOException {
+        return Files.isRegularFile(path) && Files.size(path) == bytes.length &&
+                Arrays.equals(Files.readAllBytes(path), bytes);
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.persist.nodegenerator;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.persist.BalException;
 import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.models.Entity;
 import io.ballerina.persist.models.Module;
 import io.ballerina.persist.nodegenerator.syntax.constants.BalSyntaxConstants;
 import io.ballerina.persist.nodegenerator.syntax.sources.DbModelGenSyntaxTree;
@@ -28,7 +29,9 @@ import io.ballerina.persist.nodegenerator.syntax.sources.GSheetSyntaxTree;
 import io.ballerina.persist.nodegenerator.syntax.sources.InMemorySyntaxTree;
 import io.ballerina.persist.nodegenerator.syntax.sources.RedisSyntaxTree;
 import io.ballerina.persist.nodegenerator.syntax.utils.AppScriptUtils;
+import io.ballerina.persist.nodegenerator.syntax.utils.BalSyntaxUtils;
 import io.ballerina.persist.nodegenerator.syntax.utils.SqlScriptUtils;
+import io.ballerina.persist.utils.TimingTrace;
 import io.ballerina.toml.syntax.tree.DocumentMemberDeclarationNode;
 import io.ballerina.toml.syntax.tree.DocumentNode;
 import io.ballerina.toml.syntax.tree.KeyValueNode;
@@ -40,12 +43,20 @@ import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import static io.ballerina.persist.PersistToolsConstants.GOOGLE_SHEETS_SCHEMA_FILE;
 import static io.ballerina.persist.PersistToolsConstants.SQL_SCHEMA_FILE;
@@ -61,18 +72,174 @@ public class SourceGenerator {
     private static final String persistTypesBal = "persist_types.bal";
     private static final String persistClientBal = "persist_client.bal";
     private static final String persistModelBal = "model.bal";
+    private static final String persistTestClientBal = "persist_test_client.bal";
+    private static final String persistTestInitBal = "persist_test_init.bal";
     private static final String NEW_LINE = System.lineSeparator();
+    private static final String BUILD_PHASE = "build ";
+    private static final String FORMAT_PHASE = "format ";
+    private static final String EMIT_PHASE = "emit ";
+    private static final String WRITE_PHASE = "write ";
     private final String sourcePath;
     private final String moduleNameWithPackageName;
     private final Path generatedSourceDirPath;
     private final Module entityModule;
+    private final Set<Artifact> artifacts;
+    private int parallelism = 1;
+    private boolean skipTypesFormatting = false;
+    private boolean sharded = false;
+    private TimingTrace timingTrace = TimingTrace.disabled();
+    private final GeneratedFileWriter fileWriter = new GeneratedFileWriter();
 
     public SourceGenerator(String sourcePath, Path generatedSourceDirPath, String moduleNameWithPackageName,
                            Module entityModule) {
+        this(sourcePath, generatedSourceDirPath, moduleNameWithPackageName, entityModule,
+                EnumSet.allOf(Artifact.class));
+    }
+
+    public SourceGenerator(String sourcePath, Path generatedSourceDirPath, String moduleNameWithPackageName,
+                           Module entityModule, Set<Artifact> artifacts) {
         this.sourcePath = sourcePath;
         this.moduleNameWithPackageName = moduleNameWithPackageName;
         this.entityModule = entityModule;
         this.generatedSourceDirPath = generatedSourceDirPath;
+        this.artifacts = artifacts.isEmpty() ? EnumSet.noneOf(Artifact.class) : EnumSet.copyOf(artifacts);
+    }
+
+    /**
+     * Artifacts generated for a data model. A generator only writes the artifacts it was created with, which lets
+     * the build tool regenerate just the outputs affected by a change.
+     */
+    public enum Artifact {
+        DATASTORE_CONFIG,
+        CONFIG_TOML,
+        TYPES(persistTypesBal, BalSyntaxConstants.ENTITY_TYPES_FILE_PREFIX),
+        CLIENT(persistClientBal),
+        SQL_SCRIPT(SQL_SCHEMA_FILE),
+        APP_SCRIPT(GOOGLE_SHEETS_SCHEMA_FILE),
+        TEST_CLIENT(persistTestClientBal),
+        TEST_INIT(persistTestInitBal);
+
+        private final String fileName;
+        private final String shardFilePrefix;
+
+        Artifact() {
+            this(null);
+        }
+
+        Artifact(String fileName) {
+            this(fileName, null);
+        }
+
+        Artifact(String fileName, String shardFilePrefix) {
+            this.fileName = fileName;
+            this.shardFilePrefix = shardFilePrefix;
+        }
+
+        /**
+         * Returns the name of the file written to the generated source directory for this artifact, or null if the
+         * file name depends on the data store or the artifact is written outside the generated source directory.
+         */
+        public String getFileName() {
+            return fileName;
+        }
+
+        /**
+         * Returns the prefix of the per-entity files written for this artifact in the sharded layout, or null if the
+         * artifact is always written to a single file.
+         */
+        public String getShardFilePrefix() {
+            return shardFilePrefix;
+        }
+
+        /**
+         * Returns whether the artifact is built from the entities of the model, and so has to be regenerated when the
+         * model definition file changes.
+         */
+        public boolean isModelArtifact() {
+            return this != DATASTORE_CONFIG && this != CONFIG_TOML;
+        }
+
+        public static Set<Artifact> forDatastore(String datastore, String testDatastore) {
+            Set<Artifact> artifacts = EnumSet.of(TYPES, CLIENT);
+            switch (datastore) {
+                case PersistToolsConstants.SupportedDataSources.MYSQL_DB:
+                case PersistToolsConstants.SupportedDataSources.MSSQL_DB:
+                case PersistToolsConstants.SupportedDataSources.POSTGRESQL_DB:
+                case PersistToolsConstants.SupportedDataSources.H2_DB:
+                    artifacts.addAll(EnumSet.of(DATASTORE_CONFIG, CONFIG_TOML, SQL_SCRIPT));
+                    break;
+                case PersistToolsConstants.SupportedDataSources.GOOGLE_SHEETS:
+                    artifacts.addAll(EnumSet.of(DATASTORE_CONFIG, CONFIG_TOML, APP_SCRIPT));
+                    break;
+                case PersistToolsConstants.SupportedDataSources.REDIS:
+                    artifacts.addAll(EnumSet.of(DATASTORE_CONFIG, CONFIG_TOML));
+                    break;
+                default:
+                    break;
+            }
+            if (testDatastore != null) {
+                artifacts.add(TEST_CLIENT);
+                if (testDatastore.equals(H2_DB)) {
+                    artifacts.add(TEST_INIT);
+                }
+            }
+            return artifacts;
+        }
+
+        public static String getDatastoreConfigFileName(String datastore) {
+            return datastore.equals(PersistToolsConstants.SupportedDataSources.GOOGLE_SHEETS) ?
+                    BalSyntaxConstants.PATH_SHEET_CONFIGURATION_BAL_FILE :
+                    BalSyntaxConstants.PATH_DB_CONFIGURATION_BAL_FILE;
+        }
+    }
+
+    /**
+     * Sets the maximum number of artifacts built concurrently. A value of one, which is the default, builds the
+     * artifacts one after another on the calling thread.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Writes the persist_types.bal file with canonical whitespace without running it through the formatter. The
+     * types of a model which cannot be emitted canonically and the other artifacts are still formatted.
+     */
+    public void setSkipTypesFormatting(boolean skipTypesFormatting) {
+        this.skipTypesFormatting = skipTypesFormatting;
+    }
+
+    /**
+     * Splits the entity types into one file per entity, next to a shared types file holding the enums. Combined with
+     * the write-if-changed output, a change to one entity only rewrites the types file of that entity.
+     */
+    public void setSharded(boolean sharded) {
+        this.sharded = sharded;
+    }
+
+    /**
+     * Sets the trace recording the time spent building, formatting and writing each artifact.
+     */
+    public void setTimingTrace(TimingTrace timingTrace) {
+        this.timingTrace = timingTrace;
+    }
+
+    /**
+     * Returns the number of generated files which were written because their content changed.
+     */
+    public int getWrittenFileCount() {
+        return this.fileWriter.getWrittenFileCount();
+    }
+
+    /**
+     * Returns the number of generated files which were left untouched because their content did not change.
+     */
+    public int getUnchangedFileCount() {
+        return this.fileWriter.getUnchangedFileCount();
+    }
+
+    private boolean shouldGenerate(Artifact artifact) {
+        return this.artifacts.contains(artifact);
     }
 
     public void createDbModel() throws BalException {
@@ -93,152 +260,316 @@ public class SourceGenerator {
 
     public void createDbSources(String datasource) throws BalException {
         DbSyntaxTree dbSyntaxTree = new DbSyntaxTree();
-        try {
-            addDataSourceConfigBalFile(this.generatedSourceDirPath, BalSyntaxConstants.PATH_DB_CONFIGURATION_BAL_FILE,
-                    dbSyntaxTree.getDataStoreConfigSyntax(datasource));
-            addConfigTomlFile(this.sourcePath, dbSyntaxTree.getConfigTomlSyntax(
-                    this.moduleNameWithPackageName, datasource), this.moduleNameWithPackageName);
-            addDataTypesBalFile(dbSyntaxTree.getDataTypesSyntax(entityModule),
-                    this.generatedSourceDirPath.resolve(persistTypesBal).toAbsolutePath(),
-                    this.moduleNameWithPackageName);
-            addClientFile(dbSyntaxTree.getClientSyntax(entityModule, datasource),
-                    this.generatedSourceDirPath.resolve(persistClientBal).toAbsolutePath(),
-                    this.moduleNameWithPackageName);
-            addSqlScriptFile(this.entityModule.getModuleName(),
-                    SqlScriptUtils.generateSqlScript(this.entityModule.getEntityMap().values(), datasource),
-                    generatedSourceDirPath);
-        } catch (BalException e) {
-            throw new BalException(e.getMessage());
+        List<ArtifactTask> tasks = new ArrayList<>();
+        if (shouldGenerate(Artifact.DATASTORE_CONFIG)) {
+            tasks.add(getDataSourceConfigBalFileTask(BalSyntaxConstants.PATH_DB_CONFIGURATION_BAL_FILE,
+                    () -> dbSyntaxTree.getDataStoreConfigSyntax(datasource)));
+        }
+        if (shouldGenerate(Artifact.CONFIG_TOML)) {
+            tasks.add(getConfigTomlFileTask(() -> dbSyntaxTree.getConfigTomlSyntax(
+                    this.moduleNameWithPackageName, datasource)));
         }
+        if (shouldGenerate(Artifact.TYPES)) {
+            tasks.addAll(getDataTypesBalFileTasks(() -> dbSyntaxTree.getDataTypesSyntax(entityModule), ""));
+        }
+        if (shouldGenerate(Artifact.CLIENT)) {
+            tasks.add(getClientFileTask(() -> dbSyntaxTree.getClientSyntax(entityModule, datasource),
+                    persistClientBal));
+        }
+        if (shouldGenerate(Artifact.SQL_SCRIPT)) {
+            tasks.add(new ArtifactTask(SQL_SCHEMA_FILE, () -> this.timingTrace.measure(BUILD_PHASE + SQL_SCHEMA_FILE,
+                    () -> getSqlScript(this.entityModule.getModuleName(), SqlScriptUtils.generateSqlScript(
+                            this.entityModule.getEntityMap().values(), datasource))),
+                    content -> writeSqlScriptFile(this.fileWriter, content, generatedSourceDirPath)));
+        }
+        generate(tasks);
     }
 
     public void createTestDataSources(String testDatastore) throws BalException {
+        List<ArtifactTask> tasks = new ArrayList<>();
         if (testDatastore.equals(H2_DB)) {
             DbSyntaxTree dbSyntaxTree = new DbSyntaxTree();
-            addClientFile(dbSyntaxTree.getTestClientSyntax(entityModule),
-                    this.generatedSourceDirPath.resolve("persist_test_client.bal").toAbsolutePath(),
-                    this.moduleNameWithPackageName);
-            addTestInitFile(dbSyntaxTree.getTestInitSyntax(SqlScriptUtils.
-                            generateSqlScript(this.entityModule.getEntityMap().values(), testDatastore)),
-                    this.generatedSourceDirPath.resolve("persist_test_init.bal").toAbsolutePath());
-        } else {
+            if (shouldGenerate(Artifact.TEST_CLIENT)) {
+                tasks.add(getClientFileTask(() -> dbSyntaxTree.getTestClientSyntax(entityModule),
+                        persistTestClientBal));
+            }
+            if (shouldGenerate(Artifact.TEST_INIT)) {
+                tasks.add(getTestInitFileTask(() -> dbSyntaxTree.getTestInitSyntax(SqlScriptUtils.
+                        generateSqlScript(this.entityModule.getEntityMap().values(), testDatastore))));
+            }
+        } else if (shouldGenerate(Artifact.TEST_CLIENT)) {
             InMemorySyntaxTree inMemorySyntaxTree = new InMemorySyntaxTree();
-            addClientFile(inMemorySyntaxTree.getTestClientSyntax(entityModule),
-            this.generatedSourceDirPath.resolve("persist_test_client.bal").toAbsolutePath(),
-            this.moduleNameWithPackageName);
+            tasks.add(getClientFileTask(() -> inMemorySyntaxTree.getTestClientSyntax(entityModule),
+                    persistTestClientBal));
         }
-
+        generate(tasks);
     }
 
     public void createRedisSources() throws BalException {
         RedisSyntaxTree redisSyntaxTree = new RedisSyntaxTree();
-        try {
-            addDataSourceConfigBalFile(this.generatedSourceDirPath, BalSyntaxConstants.PATH_DB_CONFIGURATION_BAL_FILE,
-            redisSyntaxTree.getDataStoreConfigSyntax());
-            addConfigTomlFile(this.sourcePath, redisSyntaxTree.getConfigTomlSyntax(
-                    this.moduleNameWithPackageName), this.moduleNameWithPackageName);
-            addDataTypesBalFile(redisSyntaxTree.getDataTypesSyntax(this.entityModule),
-                    this.generatedSourceDirPath.resolve(persistTypesBal).toAbsolutePath(),
-                    this.moduleNameWithPackageName);
-            addClientFile(redisSyntaxTree.getClientSyntax(this.entityModule),
-                    this.generatedSourceDirPath.resolve(persistClientBal).toAbsolutePath(),
-                    this.moduleNameWithPackageName);
-        } catch (BalException e) {
-            throw new BalException(e.getMessage());
+        List<ArtifactTask> tasks = new ArrayList<>();
+        if (shouldGenerate(Artifact.DATASTORE_CONFIG)) {
+            tasks.add(getDataSourceConfigBalFileTask(BalSyntaxConstants.PATH_DB_CONFIGURATION_BAL_FILE,
+                    redisSyntaxTree::getDataStoreConfigSyntax));
+        }
+        if (shouldGenerate(Artifact.CONFIG_TOML)) {
+            tasks.add(getConfigTomlFileTask(() -> redisSyntaxTree.getConfigTomlSyntax(
+                    this.moduleNameWithPackageName)));
         }
+        if (shouldGenerate(Artifact.TYPES)) {
+            tasks.addAll(getDataTypesBalFileTasks(() -> redisSyntaxTree.getDataTypesSyntax(this.entityModule),
+                    PersistToolsConstants.SupportedDataSources.REDIS));
+        }
+        if (shouldGenerate(Artifact.CLIENT)) {
+            tasks.add(getClientFileTask(() -> redisSyntaxTree.getClientSyntax(this.entityModule),
+                    persistClientBal));
+        }
+        generate(tasks);
     }
 
     public void createInMemorySources() throws BalException {
         InMemorySyntaxTree inMemorySyntaxTree = new InMemorySyntaxTree();
-        try {
-            createGeneratedDirectory(this.generatedSourceDirPath);
-            addDataTypesBalFile(inMemorySyntaxTree.getDataTypesSyntax(this.entityModule),
-                    this.generatedSourceDirPath.resolve(persistTypesBal).toAbsolutePath(),
-                    this.moduleNameWithPackageName);
-            addClientFile(inMemorySyntaxTree.getClientSyntax(this.entityModule),
-                    this.generatedSourceDirPath.resolve(persistClientBal).toAbsolutePath(),
-                    this.moduleNameWithPackageName);
-        } catch (BalException e) {
-            throw new BalException(e.getMessage());
+        createGeneratedDirectory(this.generatedSourceDirPath);
+        List<ArtifactTask> tasks = new ArrayList<>();
+        if (shouldGenerate(Artifact.TYPES)) {
+            tasks.addAll(getDataTypesBalFileTasks(() -> inMemorySyntaxTree.getDataTypesSyntax(this.entityModule),
+                    PersistToolsConstants.SupportedDataSources.IN_MEMORY_TABLE));
         }
+        if (shouldGenerate(Artifact.CLIENT)) {
+            tasks.add(getClientFileTask(() -> inMemorySyntaxTree.getClientSyntax(this.entityModule),
+                    persistClientBal));
+        }
+        generate(tasks);
     }
 
     public void createGSheetSources() throws BalException {
         GSheetSyntaxTree gSheetSyntaxTree = new GSheetSyntaxTree();
-        try {
-            addDataSourceConfigBalFile(this.generatedSourceDirPath,
-                    BalSyntaxConstants.PATH_SHEET_CONFIGURATION_BAL_FILE, gSheetSyntaxTree.getDataStoreConfigSyntax());
-            addConfigTomlFile(this.sourcePath, gSheetSyntaxTree.getConfigTomlSyntax(this.moduleNameWithPackageName),
-                    this.moduleNameWithPackageName);
-            addDataTypesBalFile(gSheetSyntaxTree.getDataTypesSyntax(entityModule),
-                    this.generatedSourceDirPath.resolve(persistTypesBal).toAbsolutePath(),
-                    this.moduleNameWithPackageName);
-            addClientFile(gSheetSyntaxTree.getClientSyntax(entityModule),
-                    this.generatedSourceDirPath.resolve(persistClientBal).toAbsolutePath(),
-                    this.moduleNameWithPackageName);
-            addGoogleScriptFile(this.entityModule.getModuleName(),
-                    AppScriptUtils.generateJavaScriptFile(this.entityModule.getEntityMap().values()),
-                    generatedSourceDirPath);
-        } catch (BalException e) {
-            throw new BalException(e.getMessage());
-        }
-    }
-    
-    private void addDataSourceConfigBalFile(Path generatedSourceDirPath, String fileName, SyntaxTree syntaxTree)
-            throws BalException {
-        Path configFilePath = generatedSourceDirPath.resolve(fileName);
-        if (!Files.exists(configFilePath)) {
+        List<ArtifactTask> tasks = new ArrayList<>();
+        if (shouldGenerate(Artifact.DATASTORE_CONFIG)) {
+            tasks.add(getDataSourceConfigBalFileTask(BalSyntaxConstants.PATH_SHEET_CONFIGURATION_BAL_FILE,
+                    gSheetSyntaxTree::getDataStoreConfigSyntax));
+        }
+        if (shouldGenerate(Artifact.CONFIG_TOML)) {
+            tasks.add(getConfigTomlFileTask(() -> gSheetSyntaxTree.getConfigTomlSyntax(
+                    this.moduleNameWithPackageName)));
+        }
+        if (shouldGenerate(Artifact.TYPES)) {
+            tasks.addAll(getDataTypesBalFileTasks(() -> gSheetSyntaxTree.getDataTypesSyntax(entityModule),
+                    PersistToolsConstants.SupportedDataSources.GOOGLE_SHEETS));
+        }
+        if (shouldGenerate(Artifact.CLIENT)) {
+            tasks.add(getClientFileTask(() -> gSheetSyntaxTree.getClientSyntax(entityModule), persistClientBal));
+        }
+        if (shouldGenerate(Artifact.APP_SCRIPT)) {
+            tasks.add(new ArtifactTask(GOOGLE_SHEETS_SCHEMA_FILE, () -> this.timingTrace.measure(
+                    BUILD_PHASE + GOOGLE_SHEETS_SCHEMA_FILE, () -> getGoogleScript(this.entityModule.getModuleName(),
+                            AppScriptUtils.generateJavaScriptFile(this.entityModule.getEntityMap().values()))),
+                    content -> writeGoogleScriptFile(this.fileWriter, content, generatedSourceDirPath)));
+        }
+        generate(tasks);
+    }
+
+    /**
+     * Builds the content of every artifact and then writes them in the order they were added. When a parallelism
+     * greater than one is set, the artifacts are built concurrently on a bounded fork-join pool, and all of them are
+     * joined before anything is written.
+     */
+    private void generate(List<ArtifactTask> tasks) throws BalException {
+        List<String> contents = new ArrayList<>();
+        if (this.parallelism <= 1 || tasks.size() <= 1) {
+            for (ArtifactTask task : tasks) {
+                contents.add(task.builder().build());
+            }
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(Math.min(this.parallelism, tasks.size()));
             try {
-                writeOutputFile(Formatter.format(syntaxTree.toSourceCode()), configFilePath.toAbsolutePath());
-            } catch (Exception e) {
-                throw new BalException("failed to generate the persist_db_config.bal file. "
-                        + e.getMessage());
+                List<ForkJoinTask<String>> results = new ArrayList<>();
+                for (ArtifactTask task : tasks) {
+                    results.add(pool.submit(() -> task.builder().build()));
+                }
+                for (ForkJoinTask<String> result : results) {
+                    contents.add(result.get());
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof BalException balException) {
+                    throw balException;
+                }
+                throw new BalException(cause.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BalException("the source generation was interrupted. " + e.getMessage());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            ArtifactTask task = tasks.get(i);
+            String content = contents.get(i);
+            if (task.name() == null) {
+                task.writer().write(content);
+            } else {
+                this.timingTrace.run(WRITE_PHASE + task.name(), () -> task.writer().write(content));
             }
         }
     }
 
-    private void addConfigTomlFile(String sourcePath, SyntaxTree syntaxTree, String moduleName)
+    private ArtifactTask getDataSourceConfigBalFileTask(String fileName, SyntaxTreeSupplier syntaxTree) {
+        Path configFilePath = this.generatedSourceDirPath.resolve(fileName).toAbsolutePath();
+        return new ArtifactTask(fileName, () -> {
+            if (Files.exists(configFilePath)) {
+                return null;
+            }
+            try {
+                String source = this.timingTrace.measure(BUILD_PHASE + fileName, syntaxTree::get).toSourceCode();
+                return this.timingTrace.measure(FORMAT_PHASE + fileName, () -> Formatter.format(source));
+            } catch (Exception e) {
+                throw new BalException("failed to generate the persist_db_config.bal file. " + e.getMessage());
+            }
+        }, content -> {
+            if (content == null) {
+                return;
+            }
+            try {
+                writeOutputFile(content, configFilePath);
+            } catch (Exception e) {
+                throw new BalException("failed to generate the persist_db_config.bal file. " + e.getMessage());
+            }
+        });
+    }
+
+    private ArtifactTask getConfigTomlFileTask(SyntaxTreeSupplier syntaxTree) {
+        Path configPath = Paths.get(this.sourcePath, PersistToolsConstants.CONFIG_SCRIPT_FILE).toAbsolutePath();
+        String errorMessage = "could not update Config.toml file inside the Ballerina project. ";
+        String fileName = PersistToolsConstants.CONFIG_SCRIPT_FILE;
+        return new ArtifactTask(fileName, () -> {
+            SyntaxTree configSyntaxTree = this.timingTrace.measure(BUILD_PHASE + fileName, syntaxTree::get);
+            try {
+                if (!Files.exists(configPath)) {
+                    return configSyntaxTree.toSourceCode();
+                }
+                return getUpdateConfigTomlSyntax(configPath, this.moduleNameWithPackageName, configSyntaxTree)
+                        .toSourceCode();
+            } catch (IOException e) {
+                throw new BalException(errorMessage + e.getMessage());
+            }
+        }, content -> {
+            try {
+                writeOutputFile(content, configPath);
+            } catch (IOException e) {
+                throw new BalException(errorMessage + e.getMessage());
+            }
+        });
+    }
+
+    private List<ArtifactTask> getDataTypesBalFileTasks(SyntaxTreeSupplier syntaxTree, String datastore)
             throws BalException {
-        Path configPath = Paths.get(sourcePath, PersistToolsConstants.CONFIG_SCRIPT_FILE).toAbsolutePath();
-        try {
-            if (!Files.exists(configPath.toAbsolutePath())) {
-                writeOutputFile(syntaxTree.toSourceCode(), configPath);
-            } else {
-                writeOutputFile(getUpdateConfigTomlSyntax(configPath, moduleName, syntaxTree).toSourceCode(),
-                        configPath);
+        List<ArtifactTask> tasks = new ArrayList<>();
+        Map<String, String> entityTypesFileNames = new HashMap<>();
+        if (this.sharded && !this.entityModule.getEntityMap().isEmpty()) {
+            String errorMessage = String.format("could not write the type code for the `%s` data model " +
+                    "to the %%s file.", this.moduleNameWithPackageName);
+            tasks.add(getFormattedFileTask(() -> BalSyntaxUtils.generateEnumTypeSyntaxTree(this.entityModule),
+                    this.generatedSourceDirPath.resolve(persistTypesBal).toAbsolutePath(),
+                    String.format(errorMessage, persistTypesBal)));
+            String phaseName = BalSyntaxConstants.ENTITY_TYPES_FILE_PREFIX + "*" + BalSyntaxConstants.BAL_EXTENSION;
+            for (Entity entity : this.entityModule.getEntityMap().values()) {
+                String fileName = BalSyntaxUtils.getEntityTypesFileName(entity);
+                String collidingEntityName = entityTypesFileNames.putIfAbsent(fileName, entity.getEntityName());
+                if (collidingEntityName != null) {
+                    throw new BalException(String.format("the types of the `%s` and `%s` entities are both " +
+                            "written to the %s file in the sharded layout. rename one of the entities or " +
+                            "generate the types without the sharded layout.", collidingEntityName,
+                            entity.getEntityName(), fileName));
+                }
+                tasks.add(getFormattedFileTask(phaseName, () -> BalSyntaxUtils.generateEntityTypeSyntaxTree(
+                        this.entityModule, entity, datastore), this.generatedSourceDirPath.resolve(fileName)
+                        .toAbsolutePath(), String.format(errorMessage, fileName)));
             }
-        } catch (IOException e) {
-            throw new BalException("could not update Config.toml file inside the Ballerina project. " + e.getMessage());
+        } else {
+            tasks.add(getDataTypesBalFileTask(syntaxTree, datastore));
         }
+        tasks.add(new ArtifactTask(null, () -> null, content -> deleteStaleEntityTypesFiles(
+                entityTypesFileNames.keySet())));
+        return tasks;
     }
 
-    private void addDataTypesBalFile(SyntaxTree syntaxTree, Path path, String moduleName) throws BalException {
-        try {
-            writeOutputFile(Formatter.format(syntaxTree.toSourceCode()), path);
-        } catch (FormatterException | IOException e) {
-            throw new BalException(String.format("could not write the type code for the `%s` data model " +
-                    "to the persist_types.bal file.", moduleName) + e.getMessage());
+    /**
+     * Deletes the per-entity types files which are not part of the current layout, e.g. those of removed entities or
+     * all of them when switching back from the sharded layout.
+     */
+    private void deleteStaleEntityTypesFiles(Set<String> entityTypesFileNames) throws BalException {
+        if (!Files.isDirectory(this.generatedSourceDirPath)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.generatedSourceDirPath,
+                BalSyntaxConstants.ENTITY_TYPES_FILE_PREFIX + "*" + BalSyntaxConstants.BAL_EXTENSION)) {
+            for (Path file : files) {
+                Path fileName = file.getFileName();
+                if (fileName != null && !entityTypesFileNames.contains(fileName.toString())) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new BalException("could not delete the stale entity types files. " + e.getMessage());
         }
     }
 
-    private void addClientFile(SyntaxTree syntaxTree, Path path, String moduleName) throws BalException {
-        try {
-            writeOutputFile(Formatter.format(syntaxTree.toSourceCode()), path);
-        } catch (FormatterException | IOException e) {
-            throw new BalException(String.format("could not write the client code for the `%s` data model " +
-                    "to the persist_client.bal file.", moduleName) + e.getMessage());
+    private ArtifactTask getDataTypesBalFileTask(SyntaxTreeSupplier syntaxTree, String datastore) {
+        ArtifactTask formattedFileTask = getFormattedFileTask(syntaxTree,
+                this.generatedSourceDirPath.resolve(persistTypesBal).toAbsolutePath(),
+                String.format("could not write the type code for the `%s` data model " +
+                        "to the persist_types.bal file.", this.moduleNameWithPackageName));
+        if (!this.skipTypesFormatting) {
+            return formattedFileTask;
         }
+        // The formatter-free emit is traced as its own phase, so that the build phase is recorded once by the
+        // formatted task when the model is not supported by the emit.
+        return new ArtifactTask(formattedFileTask.name(), () -> {
+            String content = this.timingTrace.measure(EMIT_PHASE + formattedFileTask.name(),
+                    () -> BalSyntaxUtils.generateCanonicalTypeSource(this.entityModule, datastore));
+            return content != null ? content : formattedFileTask.builder().build();
+        }, formattedFileTask.writer());
     }
 
-    private void addTestInitFile(SyntaxTree syntaxTree, Path path) throws BalException {
-        try {
-            writeOutputFile(Formatter.format(syntaxTree.toSourceCode()), path);
-        } catch (FormatterException | IOException e) {
-            throw new BalException(String.format("could not write the db initialization scripts to the `%s` file. %s",
-                    path.getFileName(), e.getMessage()));
-        }
+    private ArtifactTask getClientFileTask(SyntaxTreeSupplier syntaxTree, String fileName) {
+        return getFormattedFileTask(syntaxTree, this.generatedSourceDirPath.resolve(fileName).toAbsolutePath(),
+                String.format("could not write the client code for the `%s` data model " +
+                        "to the persist_client.bal file.", this.moduleNameWithPackageName));
+    }
+
+    private ArtifactTask getTestInitFileTask(SyntaxTreeSupplier syntaxTree) {
+        Path path = this.generatedSourceDirPath.resolve(persistTestInitBal).toAbsolutePath();
+        return getFormattedFileTask(syntaxTree, path, String.format(
+                "could not write the db initialization scripts to the `%s` file. ", path.getFileName()));
+    }
+
+    private ArtifactTask getFormattedFileTask(SyntaxTreeSupplier syntaxTree, Path path, String errorMessage) {
+        return getFormattedFileTask(String.valueOf(path.getFileName()), syntaxTree, path, errorMessage);
     }
-    
+
+    /**
+     * Returns the task building, formatting and writing a file, which is traced under the given name. The per-entity
+     * types files share one name, so that the trace has a single entry for all of them.
+     */
+    private ArtifactTask getFormattedFileTask(String name, SyntaxTreeSupplier syntaxTree, Path path,
+                                              String errorMessage) {
+        return new ArtifactTask(name, () -> {
+            String source = this.timingTrace.measure(BUILD_PHASE + name, syntaxTree::get).toSourceCode();
+            try {
+                return this.timingTrace.measure(FORMAT_PHASE + name, () -> Formatter.format(source));
+            } catch (FormatterException e) {
+                throw new BalException(errorMessage + e.getMessage());
+            }
+        }, content -> {
+            try {
+                writeOutputFile(content, path);
+            } catch (IOException e) {
+                throw new BalException(errorMessage + e.getMessage());
+            }
+        });
+    }
+
     private void createGeneratedDirectory(Path path) throws BalException {
         if (Objects.nonNull(path)) {
             try {
@@ -251,13 +582,14 @@ public class SourceGenerator {
     }
 
     private void writeOutputFile(String syntaxTree, Path outPath) throws IOException {
-        try (PrintWriter writer = new PrintWriter(outPath.toString(), StandardCharsets.UTF_8)) {
-            writer.println(syntaxTree);
-        }
+        this.fileWriter.write(outPath, syntaxTree + NEW_LINE);
     }
 
     public static void addSqlScriptFile(String moduleName, String[] sqlScripts, Path filePath) throws BalException {
-        Path path = Paths.get(String.valueOf(filePath), SQL_SCHEMA_FILE);
+        writeSqlScriptFile(new GeneratedFileWriter(), getSqlScript(moduleName, sqlScripts), filePath);
+    }
+
+    private static String getSqlScript(String moduleName, String[] sqlScripts) {
         StringBuilder sqlScript = new StringBuilder();
         sqlScript.append(PersistToolsConstants.SqlScriptComments.AUTOGENERATED_FILE_COMMENT).append(NEW_LINE)
                 .append(NEW_LINE);
@@ -268,18 +600,21 @@ public class SourceGenerator {
         for (String script : sqlScripts) {
             sqlScript.append(script).append(NEW_LINE);
         }
+        return sqlScript.toString();
+    }
+
+    private static void writeSqlScriptFile(GeneratedFileWriter fileWriter, String sqlScript, Path filePath)
+            throws BalException {
+        Path path = Paths.get(String.valueOf(filePath), SQL_SCHEMA_FILE);
         try {
-            Files.deleteIfExists(path);
-            Files.createFile(path);
-            Files.writeString(path, sqlScript);
+            fileWriter.write(path, sqlScript);
         } catch (IOException e) {
             throw new BalException(String.format("could not write the SQL script to the %s file. %s",
                     SQL_SCHEMA_FILE, e.getMessage()));
         }
     }
 
-    private static void addGoogleScriptFile(String moduleName, String gsScripts, Path filePath) throws BalException {
-        Path path = Paths.get(String.valueOf(filePath), GOOGLE_SHEETS_SCHEMA_FILE);
+    private static String getGoogleScript(String moduleName, String gsScripts) {
         StringBuilder gsScript = new StringBuilder();
         gsScript.append(PersistToolsConstants.AppScriptComments.AUTOGENERATED_FILE_COMMENT).append(NEW_LINE)
                 .append(NEW_LINE);
@@ -287,17 +622,52 @@ public class SourceGenerator {
                 moduleName)).append(NEW_LINE);
         gsScript.append(PersistToolsConstants.AppScriptComments.COMMENT_SHOULD_BE_VERIFIED_AND_EXECUTED)
                 .append(NEW_LINE).append(NEW_LINE);
-            gsScript.append(gsScripts);
+        gsScript.append(gsScripts);
+        return gsScript.toString();
+    }
+
+    private static void writeGoogleScriptFile(GeneratedFileWriter fileWriter, String gsScript, Path filePath)
+            throws BalException {
+        Path path = Paths.get(String.valueOf(filePath), GOOGLE_SHEETS_SCHEMA_FILE);
         try {
-            Files.deleteIfExists(path);
-            Files.createFile(path);
-            Files.writeString(path, gsScript);
+            fileWriter.write(path, gsScript);
         } catch (IOException e) {
             throw new BalException(String.format("could not write the google AppScript code to the %s file. %s",
                     GOOGLE_SHEETS_SCHEMA_FILE, e.getMessage()));
         }
     }
 
+    /**
+     * Supplies the syntax tree of an artifact.
+     */
+    @FunctionalInterface
+    private interface SyntaxTreeSupplier {
+        SyntaxTree get() throws BalException;
+    }
+
+    /**
+     * Builds the content of an artifact.
+     */
+    @FunctionalInterface
+    private interface ContentBuilder {
+        String build() throws BalException;
+    }
+
+    /**
+     * Writes the built content of an artifact.
+     */
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(String content) throws BalException;
+    }
+
+    /**
+     * An artifact to generate. The name is the file name of the artifact in the timing trace, and null for the tasks
+     * which do not generate a file.
+     */
+    private record ArtifactTask(String name, ContentBuilder builder, ContentWriter writer) {
+    }
+
     private SyntaxTree getUpdateConfigTomlSyntax(Path configPath, String moduleName, SyntaxTree newConfigSyntaxTree)
             throws IOException {
         boolean configExists = false;
@@ -207,10 +207,8 @@ public class DbClientSyntax implements ClientSyntax {
 
     @Override
     public FunctionDefinitionNode getGetFunction(Entity entity) {
-        return (FunctionDefinitionNode) NodeParser.parseObjectMember(
-                String.format(BalSyntaxConstants.EXTERNAL_SQL_GET_METHOD_TEMPLATE,
-                        entity.getClientResourceName(),
-                        entity.getEntityName(), BalSyntaxConstants.SQL, this.nativeClass));
+        return BalSyntaxUtils.generateGetFunction(entity, BalSyntaxConstants.EXTERNAL_SQL_GET_METHOD_TEMPLATE,
+                this.nativeClass, BalSyntaxConstants.SQL);
     }
 
     @Override
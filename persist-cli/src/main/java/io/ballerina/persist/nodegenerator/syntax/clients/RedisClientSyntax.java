@@ -116,9 +116,8 @@ public class RedisClientSyntax  implements ClientSyntax {
 
     @Override
     public FunctionDefinitionNode getGetFunction(Entity entity) {
-        return (FunctionDefinitionNode) NodeParser.parseObjectMember(
-                String.format(BalSyntaxConstants.EXTERNAL_REDIS_GET_METHOD_TEMPLATE, entity.getClientResourceName(),
-                        entity.getEntityName(), BalSyntaxConstants.REDIS, this.nativeClass));
+        return BalSyntaxUtils.generateGetFunction(entity, BalSyntaxConstants.EXTERNAL_REDIS_GET_METHOD_TEMPLATE,
+                this.nativeClass, BalSyntaxConstants.REDIS);
     }
 
     @Override
@@ -148,6 +148,7 @@ public class BalSyntaxConstants {
     public static final String MODULES_SOURCE_DIRECTORY = "modules";
     public static final String PATH_DB_CONFIGURATION_BAL_FILE = "persist_db_config.bal";
     public static final String PATH_SHEET_CONFIGURATION_BAL_FILE = "persist_sheet_config.bal";
+    public static final String ENTITY_TYPES_FILE_PREFIX = "persist_types_";
     public static final String PERSIST_DEPENDENCY = "platform.java21.dependency";
     public static final String KEYWORD_JBALLERINA_JAVA_PREFIX = "jballerina.java";
     public static final String KEYWORD_HTTP = "http";
@@ -303,6 +304,8 @@ public class BalSyntaxConstants {
     public static final String SQL_GENERATED_ANNOTATION_NAME = "sql:Generated";
     public static final String SQL_DB_NAME_ANNOTATION =
             String.format("@%s { value: \"%s\" }", SQL_DB_NAME_ANNOTATION_NAME, "%s");
+    public static final String SQL_SCHEMA_NAME_ANNOTATION =
+            String.format("@%s { value: \"%s\" }", SQL_SCHEMA_NAME_ANNOTATION_NAME, "%s");
     public static final String SQL_VARCHAR_MAPPING_ANNOTATION =
             String.format("@%s { length: %s }", SQL_VARCHAR_MAPPING_ANNOTATION_NAME, "%s");
     public static final String SQL_CHAR_MAPPING_ANNOTATION =
@@ -43,6 +43,7 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.persist.PersistToolsConstants;
 import io.ballerina.persist.components.Client;
 import io.ballerina.persist.components.Function;
+import io.ballerina.persist.components.NodeTemplates;
 import io.ballerina.persist.components.TypeDescriptor;
 import io.ballerina.persist.models.Entity;
 import io.ballerina.persist.models.EntityField;
@@ -57,11 +58,14 @@ import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -153,28 +157,23 @@ public class BalSyntaxUtils {
     }
 
     public static FunctionDefinitionNode generateGetFunction(Entity entity, String className, String moduleName) {
-        return (FunctionDefinitionNode) NodeParser.parseObjectMember(
-                String.format(BalSyntaxConstants.EXTERNAL_GET_METHOD_TEMPLATE,
-                        entity.getClientResourceName(), entity.getEntityName(), moduleName, className));
+        return generateGetFunction(entity, BalSyntaxConstants.EXTERNAL_GET_METHOD_TEMPLATE, className, moduleName);
     }
 
-    public static FunctionDefinitionNode generateGetByKeyFunction(Entity entity, String className, String moduleName) {
-        StringBuilder keyBuilder = new StringBuilder();
-        for (EntityField keyField : entity.getKeys()) {
-            if (keyBuilder.length() > 0) {
-                keyBuilder.append("/");
-            }
-            keyBuilder.append(BalSyntaxConstants.OPEN_BRACKET);
-            keyBuilder.append(keyField.getFieldType());
-            keyBuilder.append(BalSyntaxConstants.SPACE);
-            keyBuilder.append(keyField.getFieldName());
-            keyBuilder.append(BalSyntaxConstants.CLOSE_BRACKET);
-        }
+    public static FunctionDefinitionNode generateGetFunction(Entity entity, String template, String className,
+                                                             String moduleName) {
+        return NodeTemplates.createExternalResourceFunction(
+                String.format(template, NodeTemplates.PLACEHOLDER, NodeTemplates.PLACEHOLDER, moduleName, className),
+                getResourcePath(List.of(), entity.getClientResourceName()), entity.getEntityName());
+    }
 
-        return (FunctionDefinitionNode) NodeParser.parseObjectMember(
-                String.format(BalSyntaxConstants.EXTERNAL_GET_BY_KEY_METHOD_TEMPLATE,
-                        entity.getClientResourceName(),
-                        keyBuilder, entity.getEntityName(), moduleName, className));
+    public static FunctionDefinitionNode generateGetByKeyFunction(Entity entity, String className, String moduleName) {
+        String keyTemplate = BalSyntaxConstants.OPEN_BRACKET + PersistToolsConstants.BallerinaTypes.STRING +
+                BalSyntaxConstants.SPACE + NodeTemplates.PLACEHOLDER + BalSyntaxConstants.CLOSE_BRACKET;
+        return NodeTemplates.createExternalResourceFunction(
+                String.format(BalSyntaxConstants.EXTERNAL_GET_BY_KEY_METHOD_TEMPLATE, NodeTemplates.PLACEHOLDER,
+                        keyTemplate, NodeTemplates.PLACEHOLDER, moduleName, className),
+                getResourcePath(entity.getKeys(), entity.getClientResourceName()), entity.getEntityName());
     }
 
     public static Function generatePostFunction(Entity entity, List<EntityField> primaryKeys, String parameterType) {
@@ -291,6 +290,22 @@ public class BalSyntaxUtils {
 
     private static NodeList<Node> getResourcePath(NodeList<Node> resourcePaths, List<EntityField> keys,
                                                   StringBuilder filterKeys, StringBuilder path, String tableName) {
+        for (Node resourcePath : getResourcePath(keys, tableName)) {
+            resourcePaths = resourcePaths.add(resourcePath);
+        }
+        for (EntityField entry : keys) {
+            filterKeys.append(BalSyntaxConstants.DOUBLE_QUOTE)
+                    .append(stripEscapeCharacter(entry.getFieldName()))
+                    .append(BalSyntaxConstants.DOUBLE_QUOTE).append(BalSyntaxConstants.COLON).
+                    append(entry.getFieldName()).append(BalSyntaxConstants.COMMA_WITH_SPACE);
+            path.append(BalSyntaxConstants.BACK_SLASH).append(BalSyntaxConstants.OPEN_BRACKET).
+                    append(entry.getFieldName()).append(BalSyntaxConstants.CLOSE_BRACKET);
+        }
+        return resourcePaths;
+    }
+
+    private static NodeList<Node> getResourcePath(List<EntityField> keys, String tableName) {
+        NodeList<Node> resourcePaths = AbstractNodeFactory.createEmptyNodeList();
         resourcePaths = resourcePaths.add(AbstractNodeFactory.createIdentifierToken(tableName));
         for (EntityField entry : keys) {
             resourcePaths = resourcePaths.add(AbstractNodeFactory.createToken(SyntaxKind.SLASH_TOKEN));
@@ -304,12 +319,6 @@ public class BalSyntaxUtils {
                     null,
                     AbstractNodeFactory.createIdentifierToken(entry.getFieldName()),
                     AbstractNodeFactory.createToken(SyntaxKind.CLOSE_BRACKET_TOKEN)));
-            filterKeys.append(BalSyntaxConstants.DOUBLE_QUOTE)
-                    .append(stripEscapeCharacter(entry.getFieldName()))
-                    .append(BalSyntaxConstants.DOUBLE_QUOTE).append(BalSyntaxConstants.COLON).
-                    append(entry.getFieldName()).append(BalSyntaxConstants.COMMA_WITH_SPACE);
-            path.append(BalSyntaxConstants.BACK_SLASH).append(BalSyntaxConstants.OPEN_BRACKET).
-                    append(entry.getFieldName()).append(BalSyntaxConstants.CLOSE_BRACKET);
         }
         return resourcePaths;
     }
@@ -338,6 +347,7 @@ public class BalSyntaxUtils {
         boolean areAnnotationsAdded = false;
         for (Entity entity : entityModule.getEntityMap().values()) {
             if (entity.shouldTableMappingGenerated()
+                || (entity.getSchemaName() != null && !entity.getSchemaName().isEmpty())
                 || (entity.getIndexes() != null && !entity.getIndexes().isEmpty())
                 || (entity.getUniqueIndexes() != null && !entity.getUniqueIndexes().isEmpty())) {
                 areAnnotationsAdded = true;
@@ -376,11 +386,75 @@ public class BalSyntaxUtils {
     }
 
     public static SyntaxTree generateTypeSyntaxTree(Module entityModule, String datastore) {
+        return generateTypeSyntaxTree(entityModule.getModuleName(), entityModule.getImportModulePrefixes(),
+                entityModule.getEnumMap().values(), entityModule.getEntityMap().values(), datastore);
+    }
+
+    /**
+     * Generates the syntax tree of the shared types file of the sharded layout, which holds the enums of the model.
+     */
+    public static SyntaxTree generateEnumTypeSyntaxTree(Module entityModule) {
+        return generateTypeSyntaxTree(entityModule.getModuleName(), Collections.emptySet(),
+                entityModule.getEnumMap().values(), Collections.emptyList(), BalSyntaxConstants.EMPTY_STRING);
+    }
+
+    /**
+     * Generates the syntax tree of the types file of a single entity in the sharded layout. Only the modules used by
+     * the types of the entity are imported, as unused imports are not allowed in a Ballerina source file.
+     */
+    public static SyntaxTree generateEntityTypeSyntaxTree(Module entityModule, Entity entity, String datastore) {
+        Set<String> modulePrefixes = new LinkedHashSet<>();
+        for (String modulePrefix : entityModule.getImportModulePrefixes()) {
+            if (isModulePrefixUsed(entity, modulePrefix)) {
+                modulePrefixes.add(modulePrefix);
+            }
+        }
+        return generateTypeSyntaxTree(entityModule.getModuleName(), modulePrefixes, Collections.emptyList(),
+                List.of(entity), datastore);
+    }
+
+    /**
+     * Returns the name of the types file of the given entity in the sharded layout.
+     */
+    public static String getEntityTypesFileName(Entity entity) {
+        return BalSyntaxConstants.ENTITY_TYPES_FILE_PREFIX +
+                getStringWithUnderScore(stripEscapeCharacter(entity.getEntityName())).toLowerCase(Locale.ENGLISH) +
+                BalSyntaxConstants.BAL_EXTENSION;
+    }
+
+    private static boolean isModulePrefixUsed(Entity entity, String modulePrefix) {
+        String qualifier = modulePrefix + BalSyntaxConstants.COLON;
+        for (EntityField field : entity.getFields()) {
+            if (field.getFieldType().startsWith(qualifier)) {
+                return true;
+            }
+            Relation relation = field.getRelation();
+            if (relation == null) {
+                if (modulePrefix.equals(BalSyntaxConstants.CONSTRAINT) && getConstraintField(field) != null) {
+                    return true;
+                }
+                continue;
+            }
+            if (relation.getKeyColumns().stream().anyMatch(key -> key.getType().startsWith(qualifier))) {
+                return true;
+            }
+            if (modulePrefix.equals(BalSyntaxConstants.CONSTRAINT) && relation.getAssocEntity().getFields().stream()
+                    .anyMatch(assocField -> relation.getReferences().contains(assocField.getFieldName()) &&
+                            getConstraintField(assocField) != null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static SyntaxTree generateTypeSyntaxTree(String moduleName, Collection<String> modulePrefixes,
+                                                     Collection<Enum> enums, Collection<Entity> entities,
+                                                     String datastore) {
         NodeList<ImportDeclarationNode> imports = AbstractNodeFactory.createEmptyNodeList();
         NodeList<ModuleMemberDeclarationNode> moduleMembers = AbstractNodeFactory.createEmptyNodeList();
         MinutiaeList commentMinutiaeList = createCommentMinutiaeList(String.format(
-                BalSyntaxConstants.AUTO_GENERATED_COMMENT_WITH_REASON, entityModule.getModuleName()));
-        for (String modulePrefix : entityModule.getImportModulePrefixes()) {
+                BalSyntaxConstants.AUTO_GENERATED_COMMENT_WITH_REASON, moduleName));
+        for (String modulePrefix : modulePrefixes) {
             if (imports.isEmpty()) {
                 imports = imports.add(getImportDeclarationNodeWithAutogeneratedComment(
                         modulePrefix,
@@ -391,16 +465,16 @@ public class BalSyntaxUtils {
         }
         boolean includeAutoGeneratedComment = imports.isEmpty();
 
-        for (Enum enumValue: entityModule.getEnumMap().values()) {
+        for (Enum enumValue: enums) {
             moduleMembers = moduleMembers.add(createEnumDeclaration(enumValue, includeAutoGeneratedComment,
-                    entityModule.getModuleName()));
+                    moduleName));
 
             if (includeAutoGeneratedComment) {
                 includeAutoGeneratedComment = false;
             }
         }
 
-        for (Entity entity : entityModule.getEntityMap().values()) {
+        for (Entity entity : entities) {
             boolean hasRelations = false;
             for (EntityField field : entity.getFields()) {
                 if (field.getRelation() != null) {
@@ -410,7 +484,7 @@ public class BalSyntaxUtils {
             }
 
             moduleMembers = moduleMembers.add(createEntityRecord(entity, includeAutoGeneratedComment,
-                    entityModule.getModuleName(), false));
+                    moduleName, false));
 
             if (includeAutoGeneratedComment) {
                 includeAutoGeneratedComment = false;
@@ -424,13 +498,262 @@ public class BalSyntaxUtils {
             moduleMembers = moduleMembers.add(createInsertRecord(entity, datastore));
             moduleMembers = moduleMembers.add(createUpdateRecord(entity));
         }
-        Token eofToken = AbstractNodeFactory.createIdentifierToken(BalSyntaxConstants.EMPTY_STRING);
+        Token eofToken;
+        if (includeAutoGeneratedComment) {
+            // a file without declarations still carries the auto-generated comment
+            eofToken = AbstractNodeFactory.createIdentifierToken(BalSyntaxConstants.EMPTY_STRING,
+                    commentMinutiaeList, AbstractNodeFactory.createEmptyMinutiaeList());
+        } else {
+            eofToken = AbstractNodeFactory.createIdentifierToken(BalSyntaxConstants.EMPTY_STRING);
+        }
         ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, moduleMembers, eofToken);
         TextDocument textDocument = TextDocuments.from(BalSyntaxConstants.EMPTY_STRING);
         SyntaxTree balTree = SyntaxTree.from(textDocument);
         return balTree.modifyWith(modulePartNode);
     }
 
+    /**
+     * Generates the source of the persist_types.bal file with the whitespace the Ballerina formatter would produce,
+     * so that it can be written without a formatter pass. The output is byte-identical to formatting the tree returned
+     * by {@link #generateTypeSyntaxTree(Module, String)}. Returns null when the model contains a construct that is not
+     * emitted canonically (e.g. unsupported types or empty records), in which case the formatted path has to be used.
+     */
+    public static String generateCanonicalTypeSource(Module entityModule, String datastore) {
+        if (entityModule.getEntityMap().isEmpty()) {
+            return null;
+        }
+        List<String> importPrefixes = new ArrayList<>(entityModule.getImportModulePrefixes());
+        if (!importPrefixes.stream().sorted().toList().equals(importPrefixes)) {
+            // the formatter may reorder the imports, which is not replicated here
+            return null;
+        }
+        List<String> members = new ArrayList<>();
+        for (Enum enumValue : entityModule.getEnumMap().values()) {
+            String enumDeclaration = createCanonicalEnumDeclaration(enumValue);
+            if (enumDeclaration == null) {
+                return null;
+            }
+            members.add(enumDeclaration);
+        }
+        for (Entity entity : entityModule.getEntityMap().values()) {
+            boolean hasRelations = entity.getFields().stream().anyMatch(field -> field.getRelation() != null);
+            List<String> entityMembers = new ArrayList<>();
+            entityMembers.add(createCanonicalEntityRecord(entity));
+            entityMembers.add(createCanonicalOptionalizedRecord(entity));
+            if (hasRelations) {
+                entityMembers.add(createCanonicalRecordWithRelation(entity));
+            }
+            entityMembers.add(String.format("public type %sTargetType typedesc<%s%s>;", entity.getEntityName().trim(),
+                    entity.getEntityName().trim(), hasRelations ? "WithRelations" : "Optionalized"));
+            entityMembers.add(createCanonicalInsertRecord(entity, datastore));
+            entityMembers.add(createCanonicalUpdateRecord(entity));
+            if (entityMembers.contains(null)) {
+                return null;
+            }
+            members.addAll(entityMembers);
+        }
+
+        String newLine = BalSyntaxConstants.NEWLINE;
+        StringBuilder source = new StringBuilder();
+        source.append(BalSyntaxConstants.AUTOGENERATED_FILE_COMMENT).append(newLine).append(newLine);
+        source.append(String.format(BalSyntaxConstants.AUTO_GENERATED_COMMENT_WITH_REASON,
+                entityModule.getModuleName())).append(newLine);
+        source.append(BalSyntaxConstants.COMMENT_SHOULD_NOT_BE_MODIFIED).append(newLine).append(newLine);
+        for (String modulePrefix : importPrefixes) {
+            source.append("import ballerina/").append(modulePrefix).append(BalSyntaxConstants.SEMICOLON)
+                    .append(newLine);
+        }
+        if (!importPrefixes.isEmpty()) {
+            source.append(newLine);
+        }
+        source.append(String.join(newLine + newLine, members)).append(newLine);
+        return source.toString();
+    }
+
+    private static String createCanonicalEnumDeclaration(Enum enumValue) {
+        if (enumValue.getMembers().isEmpty()) {
+            return null;
+        }
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < enumValue.getMembers().size(); i++) {
+            EnumMember member = enumValue.getMembers().get(i);
+            String line = getEnumMemberString(member);
+            lines.add(i != enumValue.getMembers().size() - 1 ? line + "," : line);
+        }
+        return createCanonicalBlock(String.format("public enum %s {", enumValue.getEnumName().trim()), lines, "}");
+    }
+
+    private static String createCanonicalEntityRecord(Entity entity) {
+        // a null line stands for the empty line the formatter keeps for a relation field without key columns
+        List<String> lines = new ArrayList<>();
+        for (EntityField field : entity.getFields()) {
+            if (Objects.equals(field.getFieldType(), PersistToolsConstants.UNSUPPORTED_TYPE)) {
+                return null;
+            }
+            if (entity.getKeys().stream().anyMatch(key -> key == field)) {
+                if (!addCanonicalConstraint(lines, getConstraintField(field))) {
+                    return null;
+                }
+                lines.add(getKeyFieldString(field));
+            } else if (field.getRelation() != null) {
+                if (!field.getRelation().isOwner() || field.getRelation().getKeyColumns().isEmpty()) {
+                    lines.add(null);
+                    continue;
+                }
+                for (Relation.Key key : field.getRelation().getKeyColumns()) {
+                    if (!addCanonicalForeignKeyConstraints(lines, field)) {
+                        return null;
+                    }
+                    lines.add(getForeignKeyFieldString(key, false));
+                }
+            } else {
+                if (!addCanonicalConstraint(lines, getConstraintField(field))) {
+                    return null;
+                }
+                lines.add(getFieldString(field));
+            }
+        }
+        if (lines.isEmpty() || lines.get(0) == null) {
+            return null;
+        }
+        for (int i = 1; i < lines.size(); i++) {
+            if (lines.get(i) == null && lines.get(i - 1) == null) {
+                return null;
+            }
+        }
+        return createCanonicalRecord(entity.getEntityName().trim(), lines);
+    }
+
+    private static String createCanonicalOptionalizedRecord(Entity entity) {
+        List<String> lines = new ArrayList<>();
+        for (EntityField field : entity.getFields()) {
+            if (field.getRelation() != null) {
+                int size = lines.size();
+                if (!addCanonicalForeignKeyConstraints(lines, field)) {
+                    return null;
+                }
+                if (!field.getRelation().isOwner()) {
+                    if (lines.size() != size) {
+                        return null;
+                    }
+                    continue;
+                }
+                for (Relation.Key key : field.getRelation().getKeyColumns()) {
+                    lines.add(getForeignKeyFieldString(key, true));
+                }
+            } else {
+                if (!addCanonicalConstraint(lines, getConstraintField(field))) {
+                    return null;
+                }
+                lines.add(getOptionalFieldString(field));
+            }
+        }
+        return createCanonicalRecord(entity.getEntityName().trim() + "Optionalized", lines);
+    }
+
+    private static String createCanonicalRecordWithRelation(Entity entity) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("*%sOptionalized;", entity.getEntityName()));
+        for (EntityField field : entity.getFields()) {
+            if (field.getRelation() != null) {
+                lines.add(getRelationFieldString(field));
+            }
+        }
+        return createCanonicalRecord(entity.getEntityName().trim() + "WithRelations", lines);
+    }
+
+    private static String createCanonicalInsertRecord(Entity entity, String datastore) {
+        boolean isAutoGenerated = entity.getFields().stream().anyMatch(EntityField::isDbGenerated);
+        if (!isAutoGenerated || PersistToolsConstants.SUPPORTED_NOSQL_DB_PROVIDERS.contains(datastore)) {
+            return String.format("public type %sInsert %s;", entity.getEntityName(), entity.getEntityName());
+        }
+        List<String> lines = new ArrayList<>();
+        for (EntityField field : entity.getFields()) {
+            if (entity.getKeys().stream().anyMatch(key -> key == field)) {
+                continue;
+            }
+            if (field.getRelation() != null) {
+                if (field.getRelation().isOwner()) {
+                    for (Relation.Key key : field.getRelation().getKeyColumns()) {
+                        lines.add(getForeignKeyFieldString(key, false));
+                    }
+                }
+            } else {
+                lines.add(getFieldString(field));
+            }
+        }
+        return createCanonicalRecord(entity.getEntityName().trim() + "Insert", lines);
+    }
+
+    private static String createCanonicalUpdateRecord(Entity entity) {
+        List<String> lines = new ArrayList<>();
+        for (EntityField field : entity.getFields()) {
+            if (entity.getKeys().stream().anyMatch(key -> key == field)) {
+                continue;
+            }
+            if (field.getRelation() != null) {
+                if (field.getRelation().isOwner()) {
+                    for (Relation.Key key : field.getRelation().getKeyColumns()) {
+                        if (!addCanonicalForeignKeyConstraints(lines, field)) {
+                            return null;
+                        }
+                        lines.add(getForeignKeyFieldString(key, true));
+                    }
+                }
+            } else {
+                if (!addCanonicalConstraint(lines, getConstraintField(field))) {
+                    return null;
+                }
+                lines.add(getOptionalFieldString(field));
+            }
+        }
+        return createCanonicalRecord(entity.getEntityName().trim() + "Update", lines);
+    }
+
+    private static boolean addCanonicalForeignKeyConstraints(List<String> lines, EntityField field) {
+        Relation relation = field.getRelation();
+        for (EntityField assocField : relation.getAssocEntity().getFields()) {
+            if (relation.getReferences().contains(assocField.getFieldName()) &&
+                    !addCanonicalConstraint(lines, getConstraintField(assocField))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean addCanonicalConstraint(List<String> lines, String params) {
+        if (params == null) {
+            return true;
+        }
+        String[] param = params.split(BalSyntaxConstants.COLON, 2);
+        if (!param[1].matches("[\\w.]+")) {
+            // the formatter rewrites the whitespace of non-trivial expressions, which is not replicated here
+            return false;
+        }
+        lines.add("@constraint:String {");
+        lines.add("    " + param[0] + ": " + param[1]);
+        lines.add("}");
+        return true;
+    }
+
+    private static String createCanonicalRecord(String typeName, List<String> lines) {
+        if (lines.isEmpty()) {
+            return null;
+        }
+        return createCanonicalBlock(String.format("public type %s record {|", typeName), lines, "|};");
+    }
+
+    private static String createCanonicalBlock(String header, List<String> lines, String footer) {
+        StringBuilder block = new StringBuilder(header).append(BalSyntaxConstants.NEWLINE);
+        for (String line : lines) {
+            if (line != null) {
+                block.append("    ").append(line);
+            }
+            block.append(BalSyntaxConstants.NEWLINE);
+        }
+        return block.append(footer).toString();
+    }
+
     private static ImportDeclarationNode getImportDeclarationNode(String moduleName) {
         Token orgNameToken = AbstractNodeFactory.createIdentifierToken(BalSyntaxConstants.KEYWORD_BALLERINA);
         ImportOrgNameNode importOrgNameNode = NodeFactory.createImportOrgNameNode(
@@ -475,33 +798,20 @@ public class BalSyntaxUtils {
             }
             if (entity.getKeys().stream().anyMatch(key -> key == field)) {
                 addConstrainAnnotationToField(field, recordFields);
-                recordFields.append(BalSyntaxConstants.KEYWORD_READONLY);
-                recordFields.append(BalSyntaxConstants.SPACE);
-                recordFields.append(field.getFieldType());
-                if (field.isArrayType()) {
-                    recordFields.append(BalSyntaxConstants.ARRAY);
-                }
-                recordFields.append(BalSyntaxConstants.SPACE);
-                recordFields.append(field.getFieldName());
-                if (field.isOptionalField()) {
-                    recordFields.append(BalSyntaxConstants.QUESTION_MARK);
-                }
-                recordFields.append(BalSyntaxConstants.SEMICOLON);
+                recordFields.append(getKeyFieldString(field));
                 recordFields.append(BalSyntaxConstants.SPACE);
             } else if (field.getRelation() != null) {
                 if (field.getRelation().isOwner()) {
                     for (Relation.Key key : field.getRelation().getKeyColumns()) {
                         addConstraintsAnnotationForForeignKey(field, recordFields);
-                        recordFields.append(key.getType());
-                        recordFields.append(BalSyntaxConstants.SPACE);
-                        recordFields.append(key.getField());
-                        recordFields.append(BalSyntaxConstants.SEMICOLON);
+                        recordFields.append(getForeignKeyFieldString(key, false));
                         recordFields.append(BalSyntaxConstants.SPACE);
                     }
                 }
             } else {
                 addConstrainAnnotationToField(field, recordFields);
-                addFieldString(recordFields, field);
+                recordFields.append(getFieldString(field));
+                recordFields.append(BalSyntaxConstants.SPACE);
             }
             recordFields.append(BalSyntaxConstants.NEWLINE);
         }
@@ -663,6 +973,11 @@ public class BalSyntaxUtils {
                     entity.getTableName()));
             recordString.append(BalSyntaxConstants.NEWLINE);
         }
+        if (entity.getSchemaName() != null && !entity.getSchemaName().isEmpty()) {
+            recordString.append(String.format(BalSyntaxConstants.SQL_SCHEMA_NAME_ANNOTATION,
+                    entity.getSchemaName()));
+            recordString.append(BalSyntaxConstants.NEWLINE);
+        }
     }
 
 
@@ -673,15 +988,7 @@ public class BalSyntaxUtils {
         StringBuilder enumMembers = new StringBuilder();
         for (int i = 0; i < enumValue.getMembers().size(); i++) {
             EnumMember member = enumValue.getMembers().get(i);
-            enumMembers.append(member.getIdentifier());
-            if (member.getValue() != null) {
-                enumMembers.append(BalSyntaxConstants.SPACE);
-                enumMembers.append(BalSyntaxConstants.EQUAL);
-                enumMembers.append(BalSyntaxConstants.SPACE);
-                enumMembers.append(BalSyntaxConstants.DOUBLE_QUOTE);
-                enumMembers.append(member.getValue());
-                enumMembers.append(BalSyntaxConstants.DOUBLE_QUOTE);
-            }
+            enumMembers.append(getEnumMemberString(member));
 
             if (i != enumValue.getMembers().size() - 1) {
                 enumMembers.append(BalSyntaxConstants.COMMA_WITH_SPACE);
@@ -709,11 +1016,7 @@ public class BalSyntaxUtils {
                 addConstraintsAnnotationForForeignKey(field, recordFields);
                 if (field.getRelation().isOwner()) {
                         for (Relation.Key key : field.getRelation().getKeyColumns()) {
-                            recordFields.append(key.getType());
-                            recordFields.append(BalSyntaxConstants.SPACE);
-                            recordFields.append(key.getField());
-                            recordFields.append(BalSyntaxConstants.QUESTION_MARK);
-                            recordFields.append(BalSyntaxConstants.SEMICOLON);
+                            recordFields.append(getForeignKeyFieldString(key, true));
                             recordFields.append(BalSyntaxConstants.SPACE);
                         }
 
@@ -721,13 +1024,7 @@ public class BalSyntaxUtils {
                 }
             } else {
                 addConstrainAnnotationToField(field, recordFields);
-                recordFields.append(field.isOptionalType() ? field.getFieldType() + (field.isArrayType() ?
-                        BalSyntaxConstants.ARRAY : "") + BalSyntaxConstants.QUESTION_MARK : field.getFieldType() +
-                        (field.isArrayType() ? BalSyntaxConstants.ARRAY : ""));
-                recordFields.append(BalSyntaxConstants.SPACE);
-                recordFields.append(field.getFieldName());
-                recordFields.append(BalSyntaxConstants.QUESTION_MARK);
-                recordFields.append(BalSyntaxConstants.SEMICOLON);
+                recordFields.append(getOptionalFieldString(field));
                 recordFields.append(BalSyntaxConstants.SPACE);
             }
 
@@ -905,14 +1202,7 @@ public class BalSyntaxUtils {
         recordFields.append(String.format("*%sOptionalized;", entity.getEntityName()));
         for (EntityField field : entity.getFields()) {
             if (field.getRelation() != null) {
-                recordFields.append(String.format("%sOptionalized", field.getFieldType()));
-                if (field.isArrayType()) {
-                    recordFields.append("[]");
-                }
-                recordFields.append(BalSyntaxConstants.SPACE);
-                recordFields.append(field.getFieldName());
-                recordFields.append(BalSyntaxConstants.QUESTION_MARK);
-                recordFields.append(BalSyntaxConstants.SEMICOLON);
+                recordFields.append(getRelationFieldString(field));
                 recordFields.append(BalSyntaxConstants.SPACE);
             }
 
@@ -935,25 +1225,14 @@ public class BalSyntaxUtils {
                     if (field.getRelation().isOwner()) {
                             for (Relation.Key key : field.getRelation().getKeyColumns()) {
                                 addConstraintsAnnotationForForeignKey(field, recordFields);
-                                recordFields.append(key.getType());
-                                recordFields.append(" ");
-                                recordFields.append(key.getField());
-                                recordFields.append(BalSyntaxConstants.QUESTION_MARK);
-                                recordFields.append(BalSyntaxConstants.SEMICOLON);
+                                recordFields.append(getForeignKeyFieldString(key, true));
                                 recordFields.append(BalSyntaxConstants.SPACE);
                             }
 
                     }
                 } else {
                     addConstrainAnnotationToField(field, recordFields);
-                    recordFields.append(field.isOptionalType()
-                            ? field.getFieldType() + (field.isArrayType() ? BalSyntaxConstants.ARRAY : "") +
-                            BalSyntaxConstants.QUESTION_MARK : field.getFieldType() + (field.isArrayType() ?
-                            BalSyntaxConstants.ARRAY : ""));
-                    recordFields.append(BalSyntaxConstants.SPACE);
-                    recordFields.append(field.getFieldName());
-                    recordFields.append(BalSyntaxConstants.QUESTION_MARK);
-                    recordFields.append(BalSyntaxConstants.SEMICOLON);
+                    recordFields.append(getOptionalFieldString(field));
                     recordFields.append(BalSyntaxConstants.SPACE);
                 }
             }
@@ -978,16 +1257,14 @@ public class BalSyntaxUtils {
             if (field.getRelation() != null) {
                 if (field.getRelation().isOwner()) {
                         for (Relation.Key key : field.getRelation().getKeyColumns()) {
-                            recordFields.append(key.getType());
-                            recordFields.append(BalSyntaxConstants.SPACE);
-                            recordFields.append(key.getField());
-                            recordFields.append(BalSyntaxConstants.SEMICOLON);
+                            recordFields.append(getForeignKeyFieldString(key, false));
                             recordFields.append(BalSyntaxConstants.SPACE);
                         }
 
                 }
             } else {
-                addFieldString(recordFields, field);
+                recordFields.append(getFieldString(field));
+                recordFields.append(BalSyntaxConstants.SPACE);
             }
         }
         StringBuilder recordString = new StringBuilder();
@@ -996,15 +1273,48 @@ public class BalSyntaxUtils {
         return NodeParser.parseModuleMemberDeclaration(recordString.toString());
     }
 
-    private static void addFieldString(StringBuilder recordFields, EntityField field) {
-        recordFields.append(field.getFieldType());
-        recordFields.append(field.isArrayType() ? BalSyntaxConstants.ARRAY : "");
-        recordFields.append(field.isOptionalType() ? BalSyntaxConstants.QUESTION_MARK : "");
-        recordFields.append(BalSyntaxConstants.SPACE);
-        recordFields.append(field.getFieldName());
-        recordFields.append(field.isOptionalField() ? BalSyntaxConstants.QUESTION_MARK : "");
-        recordFields.append(BalSyntaxConstants.SEMICOLON);
-        recordFields.append(BalSyntaxConstants.SPACE);
+    // The field strings are shared by the syntax tree of the types and their canonical source, so that both declare
+    // the same fields.
+    private static String getFieldString(EntityField field) {
+        return getFieldTypeString(field) + BalSyntaxConstants.SPACE + field.getFieldName() +
+                (field.isOptionalField() ? BalSyntaxConstants.QUESTION_MARK : "") + BalSyntaxConstants.SEMICOLON;
+    }
+
+    private static String getOptionalFieldString(EntityField field) {
+        return getFieldTypeString(field) + BalSyntaxConstants.SPACE + field.getFieldName() +
+                BalSyntaxConstants.QUESTION_MARK + BalSyntaxConstants.SEMICOLON;
+    }
+
+    private static String getFieldTypeString(EntityField field) {
+        return field.getFieldType() + (field.isArrayType() ? BalSyntaxConstants.ARRAY : "") +
+                (field.isOptionalType() ? BalSyntaxConstants.QUESTION_MARK : "");
+    }
+
+    private static String getKeyFieldString(EntityField field) {
+        return BalSyntaxConstants.KEYWORD_READONLY + BalSyntaxConstants.SPACE + field.getFieldType() +
+                (field.isArrayType() ? BalSyntaxConstants.ARRAY : "") + BalSyntaxConstants.SPACE +
+                field.getFieldName() + (field.isOptionalField() ? BalSyntaxConstants.QUESTION_MARK : "") +
+                BalSyntaxConstants.SEMICOLON;
+    }
+
+    private static String getForeignKeyFieldString(Relation.Key key, boolean optional) {
+        return key.getType() + BalSyntaxConstants.SPACE + key.getField() +
+                (optional ? BalSyntaxConstants.QUESTION_MARK : "") + BalSyntaxConstants.SEMICOLON;
+    }
+
+    private static String getRelationFieldString(EntityField field) {
+        return field.getFieldType() + "Optionalized" + (field.isArrayType() ? BalSyntaxConstants.ARRAY : "") +
+                BalSyntaxConstants.SPACE + field.getFieldName() + BalSyntaxConstants.QUESTION_MARK +
+                BalSyntaxConstants.SEMICOLON;
+    }
+
+    private static String getEnumMemberString(EnumMember member) {
+        if (member.getValue() == null) {
+            return member.getIdentifier();
+        }
+        return member.getIdentifier() + BalSyntaxConstants.SPACE + BalSyntaxConstants.EQUAL +
+                BalSyntaxConstants.SPACE + BalSyntaxConstants.DOUBLE_QUOTE + member.getValue() +
+                BalSyntaxConstants.DOUBLE_QUOTE;
     }
 
     public static ImportDeclarationNode getImportDeclarationNodeWithAutogeneratedComment(
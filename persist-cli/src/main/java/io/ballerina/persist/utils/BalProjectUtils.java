@@ -61,7 +61,7 @@ import io.ballerina.toml.syntax.tree.AbstractNodeFactory;
 import io.ballerina.toml.syntax.tree.DocumentMemberDeclarationNode;
 import io.ballerina.toml.syntax.tree.NodeList;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
 import java.io.IOException;
 import java.io.PrintStream;
@@ -69,14 +69,19 @@ import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -112,6 +117,19 @@ public class BalProjectUtils {
     private static final PrintStream errStream = System.err;
 
     public static Module getEntities(Path schemaFile) throws BalException {
+        return getEntities(schemaFile, new SchemaLoader());
+    }
+
+    /**
+     * Returns the entity module of the model definition file, reusing the module the given loader built before if
+     * the file did not change.
+     */
+    public static Module getEntities(Path schemaFile, SchemaLoader loader) throws BalException {
+        return loader.load(schemaFile).getModule();
+    }
+
+    static Module createModule(Path schemaFile, SyntaxTree balSyntaxTree, TimingTrace timingTrace)
+            throws BalException {
         Path schemaFilename = schemaFile.getFileName();
         String moduleName;
         if (schemaFilename != null) {
@@ -122,17 +140,24 @@ public class BalProjectUtils {
         Module.Builder moduleBuilder = Module.newBuilder(moduleName);
 
         try {
-            SyntaxTree balSyntaxTree = SyntaxTree.from(TextDocuments.from(Files.readString(schemaFile)));
-            populateEnums(moduleBuilder, balSyntaxTree);
-            populateEntities(moduleBuilder, balSyntaxTree);
-            Module entityModule = moduleBuilder.build();
+            Module entityModule = timingTrace.measure("build entity model", () -> {
+                try {
+                    populateEnums(moduleBuilder, balSyntaxTree);
+                    populateEntities(moduleBuilder, balSyntaxTree);
+                } catch (IOException e) {
+                    throw new BalException(e.getMessage());
+                }
+                return moduleBuilder.build();
+            });
             if (entityModule.getEntityMap().values().stream().allMatch(Entity::containsUnsupportedTypes)) {
                 throw new BalException("all entities contain at least one unsupported data type.");
             }
-            inferEnumDetails(entityModule);
-            inferRelationDetails(entityModule);
+            timingTrace.run("infer relations", () -> {
+                inferEnumDetails(entityModule);
+                inferRelationDetails(entityModule);
+            });
             return entityModule;
-        } catch (IOException | BalException | RuntimeException e) {
+        } catch (BalException | RuntimeException e) {
             throw new BalException(e.getMessage());
         }
     }
@@ -145,27 +170,68 @@ public class BalProjectUtils {
         Utils.writeToTargetFile(sourceContent, generatedCmdOutPath.toAbsolutePath().toString());
     }
 
+    /**
+     * Validates the model definition file. The file is first parsed and checked for syntax errors. A file without
+     * syntax errors is then validated from the schema validation cache in the `target` directory of the project, and
+     * only compiled if its digest is not recorded as valid in the cache yet, in which case the resulting diagnostics
+     * are recorded in the cache.
+     */
     public static void validateSchemaFile(Path schemaPath) throws BalException {
-        BuildOptions.BuildOptionsBuilder buildOptionsBuilder = BuildOptions.builder();
-        buildOptionsBuilder.setOffline(true);
-        SingleFileProject buildProject = SingleFileProject.load(schemaPath.toAbsolutePath(),
-                buildOptionsBuilder.build());
-        Package currentPackage = buildProject.currentPackage();
-        PackageCompilation compilation = currentPackage.getCompilation();
-        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        if (diagnosticResult.hasErrors()) {
-            StringBuilder errorMessage = new StringBuilder();
-            errorMessage.append(String.format("the model definition file(%s) has errors.", schemaPath.getFileName()));
-            int validErrors = 0;
-            for (Diagnostic diagnostic : diagnosticResult.errors()) {
-                errorMessage.append(System.lineSeparator());
-                errorMessage.append(diagnostic);
-                validErrors += 1;
+        validateSchemaFile(schemaPath, new SchemaLoader(), new SchemaCompiler());
+    }
+
+    /**
+     * Validates the model definition file as {@link #validateSchemaFile(Path)} does, parsing it with the given loader
+     * and compiling it with the given compiler, which reuse the syntax tree and the package they built before.
+     */
+    public static void validateSchemaFile(Path schemaPath, SchemaLoader loader, SchemaCompiler compiler)
+            throws BalException {
+        String fileName = String.valueOf(schemaPath.getFileName());
+        SchemaLoader.Schema schema = loader.load(schemaPath);
+        List<String> syntaxErrors = new ArrayList<>();
+        for (Diagnostic diagnostic : schema.getSyntaxTree().diagnostics()) {
+            if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
+                syntaxErrors.add(diagnostic.toString());
+            }
+        }
+        if (!syntaxErrors.isEmpty()) {
+            throw new BalException(getSchemaErrorMessage(fileName, String.join(System.lineSeparator(),
+                    syntaxErrors)));
+        }
+
+        // the cache is only kept for model definition files in the persist directory of a project
+        Path persistDirectory = schemaPath.toAbsolutePath().getParent();
+        Path projectPath = persistDirectory != null && PersistToolsConstants.PERSIST_DIRECTORY
+                .equals(String.valueOf(persistDirectory.getFileName())) ? persistDirectory.getParent() : null;
+        SchemaValidationCache cache = projectPath != null ? SchemaValidationCache.load(projectPath) : null;
+        String key = null;
+        if (cache != null) {
+            try {
+                key = SchemaValidationCache.getKey(fileName, schema.getContent());
+            } catch (IOException | NoSuchAlgorithmException e) {
+                // validate without the cache
             }
-            if (validErrors > 0) {
-                throw new BalException(errorMessage.toString());
+        }
+        String diagnostics = cache != null && key != null ? cache.getDiagnostics(fileName, key).orElse(null) : null;
+        // recorded errors are compiled again, as they may be caused by the environment (e.g. unresolved packages)
+        if (diagnostics == null || !diagnostics.isEmpty()) {
+            diagnostics = compiler.compile(schemaPath, schema.getContent());
+            if (cache != null && key != null) {
+                try {
+                    cache.putDiagnostics(fileName, key, diagnostics);
+                } catch (IOException e) {
+                    // the cache is an optimization, failing to update it does not fail the validation
+                }
             }
         }
+        if (!diagnostics.isEmpty()) {
+            throw new BalException(getSchemaErrorMessage(fileName, diagnostics));
+        }
+    }
+
+    private static String getSchemaErrorMessage(String fileName, String diagnostics) {
+        return String.format("the model definition file(%s) has errors.", fileName) + System.lineSeparator() +
+                diagnostics;
     }
 
     public static Project buildDriverFile(Path driverPath) throws BalException {
@@ -488,26 +554,50 @@ public class BalProjectUtils {
         }
     }
 
+    /**
+     * Infers the relations between the entities of the given module, which are keyed by their names. The relation
+     * fields of each entity are indexed by their type once, so the fields on the other side of a relation are found
+     * without scanning the fields of the associated entity, and the foreign key fields referenced by the relations are
+     * removed from each entity in a single pass once every relation is inferred.
+     */
     public static void inferRelationDetails(Module entityModule) {
         Map<String, Entity> entityMap = entityModule.getEntityMap();
+        Map<String, Map<String, List<EntityField>>> relationFieldIndex = new HashMap<>();
         for (Entity entity : entityMap.values()) {
-            List<EntityField> fields = entity.getFields();
-            HashMap<String, List<EntityField>> relationFields = new HashMap<>();
-            fields.stream().filter(field -> entityMap.get(field.getFieldType()) != null && field.getRelation() == null)
-                    .forEach(field -> {
-                        if (relationFields.containsKey(field.getFieldType())) {
-                            relationFields.get(field.getFieldType()).add(field);
-                        } else {
-                            List<EntityField> fieldList = new ArrayList<>();
-                            fieldList.add(field);
-                            relationFields.put(field.getFieldType(), fieldList);
-                        }
-                    });
-            for (List<EntityField> fieldList : relationFields.values()) {
+            Map<String, List<EntityField>> fieldsByType = null;
+            for (EntityField field : entity.getFields()) {
+                if (entityMap.containsKey(field.getFieldType())) {
+                    if (fieldsByType == null) {
+                        fieldsByType = new LinkedHashMap<>();
+                    }
+                    fieldsByType.computeIfAbsent(field.getFieldType(), type -> new ArrayList<>()).add(field);
+                }
+            }
+            if (fieldsByType != null) {
+                relationFieldIndex.put(entity.getEntityName(), fieldsByType);
+            }
+        }
+        Map<String, Set<String>> removedFields = new HashMap<>();
+        for (Entity entity : entityMap.values()) {
+            Map<String, List<EntityField>> fieldsByType = relationFieldIndex.get(entity.getEntityName());
+            if (fieldsByType == null) {
+                continue;
+            }
+            Set<String> removedEntityFields = removedFields.getOrDefault(entity.getEntityName(),
+                    Collections.emptySet());
+            List<List<EntityField>> relationFields = new ArrayList<>(fieldsByType.size());
+            for (List<EntityField> fields : fieldsByType.values()) {
+                List<EntityField> fieldList = getUnresolvedRelationFields(fields, removedEntityFields);
+                if (!fieldList.isEmpty()) {
+                    relationFields.add(fieldList);
+                }
+            }
+            for (List<EntityField> fieldList : relationFields) {
                 Entity assocEntity = entityMap.get(fieldList.get(0).getFieldType());
-                List<EntityField> assocFields = assocEntity.getFields().stream()
-                        .filter(assocField -> assocField.getFieldType()
-                                .equals(entity.getEntityName()) && assocField.getRelation() == null).toList();
+                List<EntityField> assocFields = getUnresolvedRelationFields(
+                        relationFieldIndex.getOrDefault(assocEntity.getEntityName(), Collections.emptyMap())
+                                .getOrDefault(entity.getEntityName(), Collections.emptyList()),
+                        removedFields.getOrDefault(assocEntity.getEntityName(), Collections.emptySet()));
                 for (int i = 0; i < fieldList.size(); i++) {
                     EntityField field = fieldList.get(i);
                     EntityField assocField = assocFields.get(i);
@@ -548,15 +638,29 @@ public class BalProjectUtils {
                                     false, Relation.RelationType.ONE, field.getRelationRefs()));
                         }
                     }
-                    if (field.getRelationRefs() != null) {
-                        field.getRelationRefs().forEach(entity::removeField);
+                    if (field.getRelationRefs() != null && !field.getRelationRefs().isEmpty()) {
+                        removedFields.computeIfAbsent(entity.getEntityName(), key -> new HashSet<>())
+                                .addAll(field.getRelationRefs());
                     }
-                    if (assocField.getRelationRefs() != null) {
-                        assocField.getRelationRefs().forEach(assocEntity::removeField);
+                    if (assocField.getRelationRefs() != null && !assocField.getRelationRefs().isEmpty()) {
+                        removedFields.computeIfAbsent(assocEntity.getEntityName(), key -> new HashSet<>())
+                                .addAll(assocField.getRelationRefs());
                     }
                 }
             }
         }
+        removedFields.forEach((entityName, fieldNames) -> entityMap.get(entityName).removeFields(fieldNames));
+    }
+
+    private static List<EntityField> getUnresolvedRelationFields(List<EntityField> fields,
+                                                                 Set<String> removedFieldNames) {
+        List<EntityField> unresolvedFields = new ArrayList<>(fields.size());
+        for (EntityField field : fields) {
+            if (field.getRelation() == null && !removedFieldNames.contains(field.getFieldName())) {
+                unresolvedFields.add(field);
+            }
+        }
+        return unresolvedFields;
     }
 
     public static void inferEnumDetails(Module entityModule) {
@@ -735,6 +839,18 @@ public class BalProjectUtils {
         }
     }
 
+    /**
+     * Validates the formatting and the layout options of the generation. The types files of the sharded layout are
+     * always formatted, so skipping the formatting of the types cannot be combined with the sharded layout.
+     */
+    public static void validateGenerationOptions(boolean skipTypesFormatting, boolean sharded) throws BalException {
+        if (skipTypesFormatting && sharded) {
+            throw new BalException("the skip types formatting option cannot be used with the sharded layout, " +
+                    "as the types files of the sharded layout are always formatted. remove one of the options " +
+                    "and try again.");
+        }
+    }
+
     public static void printTestClientUsageSteps(String testDatastore, String packageName, String module) {
 
         String yellowColor = "\u001B[33m";
@@ -0,0 +1,267 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.nodegenerator.SourceGenerator.Artifact;
+import io.ballerina.persist.nodegenerator.syntax.constants.BalSyntaxConstants;
+import io.ballerina.toml.syntax.tree.DocumentMemberDeclarationNode;
+import io.ballerina.toml.syntax.tree.SyntaxTree;
+import io.ballerina.toml.syntax.tree.TableArrayNode;
+import io.ballerina.toml.syntax.tree.TableNode;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static io.ballerina.persist.PersistToolsConstants.CACHE_FILE;
+
+/**
+ * Content-addressed cache used by the persist build tool to skip generation when none of its inputs changed.
+ * The cache records a digest for each input (the model definition file, the `[[tool.persist]]` options, the persist
+ * section of the Config.toml file and the tool version) and for every file generated for each artifact, including
+ * the per-entity files of the sharded layout, so that only the artifacts affected by a change are regenerated.
+ *
+ * @since 1.7.0
+ */
+public class GenerationCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String KEY_SCHEMA = "input.schema";
+    private static final String KEY_OPTIONS = "input.options";
+    private static final String KEY_CONFIG = "input.config";
+    private static final String KEY_VERSION = "input.version";
+    private static final String OUTPUT_KEY_PREFIX = "output.";
+
+    private final Properties entries;
+
+    private GenerationCache(Properties entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the cache stored in the given directory. A missing or unreadable cache file results in an empty cache,
+     * which marks every artifact as stale.
+     */
+    public static GenerationCache load(Path cachePath) {
+        Properties entries = new Properties();
+        Path cacheFilePath = cachePath.resolve(CACHE_FILE);
+        if (Files.isRegularFile(cacheFilePath)) {
+            try (Reader reader = Files.newBufferedReader(cacheFilePath, StandardCharsets.UTF_8)) {
+                entries.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                entries.clear();
+            }
+        }
+        return new GenerationCache(entries);
+    }
+
+    public static Inputs computeInputs(Path schemaFilePath, Map<String, String> toolOptions, Path configTomlPath,
+                                       String moduleName) throws IOException, NoSuchAlgorithmException {
+        StringBuilder options = new StringBuilder();
+        new TreeMap<>(toolOptions).forEach((key, value) -> options.append(key).append('=').append(value).append('\n'));
+        return new Inputs(digest(Files.readAllBytes(schemaFilePath)),
+                digest(options.toString().getBytes(StandardCharsets.UTF_8)),
+                digestConfigSection(configTomlPath, moduleName), digest(readToolVersion()));
+    }
+
+    /**
+     * Computes the digest of the tables in the Config.toml file which belong to the given module.
+     */
+    public static String digestConfigSection(Path configTomlPath, String moduleName)
+            throws IOException, NoSuchAlgorithmException {
+        StringBuilder section = new StringBuilder();
+        if (Files.isRegularFile(configTomlPath)) {
+            SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(Files.readString(configTomlPath)));
+            for (DocumentMemberDeclarationNode member : syntaxTree.rootNode().members()) {
+                String tableName;
+                if (member instanceof TableNode node) {
+                    tableName = node.identifier().toSourceCode().trim();
+                } else if (member instanceof TableArrayNode node) {
+                    tableName = node.identifier().toSourceCode().trim();
+                } else {
+                    continue;
+                }
+                if (tableName.equals(moduleName) || tableName.startsWith(moduleName + ".")) {
+                    section.append(member.toSourceCode().trim()).append('\n');
+                }
+            }
+        }
+        return digest(section.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the artifacts which have to be regenerated, either because an input they depend on changed or because
+     * their generated file is missing or was modified after the last generation.
+     */
+    public Set<Artifact> getStaleArtifacts(Inputs inputs, Set<Artifact> artifacts, Path generatedSourceDirPath,
+                                           String datastore) throws IOException, NoSuchAlgorithmException {
+        Set<Artifact> staleArtifacts = EnumSet.noneOf(Artifact.class);
+        if (!inputs.version().equals(entries.getProperty(KEY_VERSION)) ||
+                !inputs.options().equals(entries.getProperty(KEY_OPTIONS))) {
+            staleArtifacts.addAll(artifacts);
+            return staleArtifacts;
+        }
+        boolean schemaChanged = !inputs.schema().equals(entries.getProperty(KEY_SCHEMA));
+        boolean configChanged = !inputs.config().equals(entries.getProperty(KEY_CONFIG));
+        for (Artifact artifact : artifacts) {
+            if ((schemaChanged && artifact.isModelArtifact()) ||
+                    (configChanged && artifact == Artifact.CONFIG_TOML)) {
+                staleArtifacts.add(artifact);
+                continue;
+            }
+            if (artifact == Artifact.CONFIG_TOML) {
+                continue;
+            }
+            if (isOutputChanged(artifact, generatedSourceDirPath, datastore)) {
+                staleArtifacts.add(artifact);
+            }
+        }
+        return staleArtifacts;
+    }
+
+    /**
+     * Returns whether the files of the given artifact differ from the recorded ones. A file which was recorded but is
+     * missing, a file which was not recorded, such as a new per-entity file, and a file whose content changed all
+     * make the artifact stale.
+     */
+    private boolean isOutputChanged(Artifact artifact, Path generatedSourceDirPath, String datastore)
+            throws IOException, NoSuchAlgorithmException {
+        String keyPrefix = getOutputKeyPrefix(artifact);
+        Set<String> recordedFileNames = new TreeSet<>();
+        for (String key : entries.stringPropertyNames()) {
+            if (key.startsWith(keyPrefix)) {
+                recordedFileNames.add(key.substring(keyPrefix.length()));
+            }
+        }
+        List<String> outputFileNames = getOutputFileNames(artifact, generatedSourceDirPath, datastore);
+        if (recordedFileNames.isEmpty() || !recordedFileNames.equals(new TreeSet<>(outputFileNames))) {
+            return true;
+        }
+        for (String fileName : outputFileNames) {
+            if (!entries.getProperty(keyPrefix + fileName).equals(
+                    digest(Files.readAllBytes(generatedSourceDirPath.resolve(fileName))))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records the given inputs and the digests of the files currently generated for the given artifacts.
+     */
+    public void update(Inputs inputs, Set<Artifact> artifacts, Path generatedSourceDirPath, String datastore)
+            throws IOException, NoSuchAlgorithmException {
+        entries.clear();
+        entries.setProperty(KEY_SCHEMA, inputs.schema());
+        entries.setProperty(KEY_OPTIONS, inputs.options());
+        entries.setProperty(KEY_CONFIG, inputs.config());
+        entries.setProperty(KEY_VERSION, inputs.version());
+        for (Artifact artifact : artifacts) {
+            if (artifact == Artifact.CONFIG_TOML) {
+                continue;
+            }
+            for (String fileName : getOutputFileNames(artifact, generatedSourceDirPath, datastore)) {
+                entries.setProperty(getOutputKeyPrefix(artifact) + fileName,
+                        digest(Files.readAllBytes(generatedSourceDirPath.resolve(fileName))));
+            }
+        }
+    }
+
+    public void save(Path cachePath) throws IOException {
+        Files.createDirectories(cachePath);
+        try (Writer writer = Files.newBufferedWriter(cachePath.resolve(CACHE_FILE), StandardCharsets.UTF_8)) {
+            entries.store(writer, null);
+        }
+    }
+
+    private static String getOutputKeyPrefix(Artifact artifact) {
+        return OUTPUT_KEY_PREFIX + artifact.name() + '.';
+    }
+
+    /**
+     * Returns the names of the files of the given artifact which exist in the generated source directory. Besides its
+     * main file, an artifact written in the sharded layout owns every file starting with its shard file prefix.
+     */
+    private static List<String> getOutputFileNames(Artifact artifact, Path generatedSourceDirPath, String datastore)
+            throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        String fileName = artifact == Artifact.DATASTORE_CONFIG ? Artifact.getDatastoreConfigFileName(datastore) :
+                artifact.getFileName();
+        if (Files.isRegularFile(generatedSourceDirPath.resolve(fileName))) {
+            fileNames.add(fileName);
+        }
+        if (artifact.getShardFilePrefix() != null && Files.isDirectory(generatedSourceDirPath)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(generatedSourceDirPath,
+                    artifact.getShardFilePrefix() + "*" + BalSyntaxConstants.BAL_EXTENSION)) {
+                for (Path file : files) {
+                    fileNames.add(String.valueOf(file.getFileName()));
+                }
+            }
+        }
+        Collections.sort(fileNames);
+        return fileNames;
+    }
+
+    static byte[] readToolVersion() throws IOException {
+        StringBuilder version = new StringBuilder();
+        version.append(Objects.toString(GenerationCache.class.getPackage().getImplementationVersion(), ""));
+        ClassLoader classloader = Thread.currentThread().getContextClassLoader();
+        try (InputStream inputStream = classloader.getResourceAsStream(
+                PersistToolsConstants.TomlFileConstants.VERSION_PROPERTIES_FILE)) {
+            if (inputStream != null) {
+                version.append('\n').append(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return version.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String digest(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content));
+    }
+
+    /**
+     * Digests of the inputs of a generation.
+     */
+    public record Inputs(String schema, String options, String config, String version) {
+
+        public Inputs withConfig(String config) {
+            return new Inputs(schema, options, config, version);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.configuration.PersistConfiguration;
+import io.ballerina.persist.introspectiondto.SqlColumn;
+import io.ballerina.persist.introspectiondto.SqlEnum;
+import io.ballerina.persist.introspectiondto.SqlForeignKey;
+import io.ballerina.persist.introspectiondto.SqlIndex;
+import io.ballerina.persist.introspectiondto.SqlTable;
+import io.ballerina.persist.nodegenerator.GeneratedFileWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compact binary form of the schema read from a database, i.e. the tables with their columns, foreign keys and indexes,
+ * and the enums, together with a fingerprint of each table. The pull command stores the snapshot of the last
+ * introspection in the persist directory, and the next pull of the same database reads the details of only the tables
+ * whose fingerprints changed and takes the other tables from the snapshot.
+ * <p>
+ * A snapshot can also be exported to and imported from any file with the `--snapshot-out` and `--snapshot-in` options
+ * of the pull command, so that the schema of a database is mapped to an entity model without connecting to it.
+ * <p>
+ * The strings of the schema are stored once in a string table and referenced by their position. A snapshot is keyed by
+ * the database it was read from and the tool version, and a snapshot with another format is ignored.
+ *
+ * @since 1.7.0
+ */
+public class IntrospectionSnapshot {
+
+    private static final int MAGIC = 0x50494e54;
+    private static final int FORMAT_VERSION = 2;
+    private static final int NONE = -1;
+
+    private final String key;
+    private final String datastore;
+    private final List<SqlEnum> enums;
+    private final List<SqlTable> tables;
+    private final Map<String, String> tableFingerprints;
+
+    public IntrospectionSnapshot(String key, String datastore, List<SqlEnum> enums, List<SqlTable> tables,
+                                 Map<String, String> tableFingerprints) {
+        this.key = key;
+        this.datastore = datastore;
+        this.enums = Collections.unmodifiableList(enums);
+        this.tables = Collections.unmodifiableList(tables);
+        this.tableFingerprints = Collections.unmodifiableMap(tableFingerprints);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the data store of the database the snapshot was read from, e.g. `mysql`.
+     */
+    public String getDatastore() {
+        return datastore;
+    }
+
+    public List<SqlEnum> getEnums() {
+        return enums;
+    }
+
+    public List<SqlTable> getTables() {
+        return tables;
+    }
+
+    /**
+     * Returns the fingerprints of the tables keyed by their qualified names, i.e. the table names prefixed with the
+     * schemas of the tables of a multi-schema introspection. A table without a fingerprint is read again by the next
+     * pull.
+     */
+    public Map<String, String> getTableFingerprints() {
+        return tableFingerprints;
+    }
+
+    /**
+     * Computes the key of the snapshot of the database of the given configuration.
+     */
+    public static String getKey(PersistConfiguration persistConfiguration)
+            throws IOException, NoSuchAlgorithmException {
+        return persistConfiguration.getProvider() + "://" + persistConfiguration.getDbConfig().getHost() + ':' +
+                persistConfiguration.getDbConfig().getPort() + '/' + persistConfiguration.getDbConfig().getDatabase() +
+                ':' + GenerationCache.digest(GenerationCache.readToolVersion());
+    }
+
+    /**
+     * Writes the given snapshot. The file is left untouched if it already holds the same snapshot.
+     */
+    public static void write(Path snapshotPath, IntrospectionSnapshot snapshot) throws IOException {
+        new GeneratedFileWriter().write(snapshotPath, serialize(snapshot));
+    }
+
+    /**
+     * Reads the snapshot from the given file. An empty optional is returned if the file is missing, has another format
+     * or is corrupted. The file is read rather than memory mapped, as the pull command overwrites it once the database
+     * is read.
+     */
+    public static Optional<IntrospectionSnapshot> read(Path snapshotPath) {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return Optional.empty();
+        }
+        try {
+            return deserialize(ByteBuffer.wrap(Files.readAllBytes(snapshotPath)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    static byte[] serialize(IntrospectionSnapshot snapshot) throws IOException {
+        return new SnapshotWriter().write(snapshot);
+    }
+
+    static Optional<IntrospectionSnapshot> deserialize(ByteBuffer buffer) {
+        try {
+            return new SnapshotReader(buffer).read();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException |
+                 IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static class SnapshotWriter {
+
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final List<String> stringTable = new ArrayList<>();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(body);
+
+        private byte[] write(IntrospectionSnapshot snapshot) throws IOException {
+            writeString(snapshot.getDatastore());
+            out.writeInt(snapshot.getEnums().size());
+            for (SqlEnum sqlEnum : snapshot.getEnums()) {
+                writeString(sqlEnum.getFullEnumText());
+                writeString(sqlEnum.getEnumSchemaName());
+                writeString(sqlEnum.getEnumTableName());
+                writeString(sqlEnum.getEnumColumnName());
+            }
+            out.writeInt(snapshot.getTables().size());
+            for (SqlTable table : snapshot.getTables()) {
+                writeString(table.getSchemaName());
+                writeString(table.getTableName());
+                writeString(snapshot.getTableFingerprints().get(table.getQualifiedName()));
+                writeTable(table);
+            }
+            out.flush();
+
+            ByteArrayOutputStream snapshotBytes = new ByteArrayOutputStream(body.size() + stringTable.size() * 16);
+            DataOutputStream header = new DataOutputStream(snapshotBytes);
+            header.writeInt(MAGIC);
+            header.writeInt(FORMAT_VERSION);
+            writeRawString(header, snapshot.getKey());
+            header.writeInt(stringTable.size());
+            for (String value : stringTable) {
+                writeRawString(header, value);
+            }
+            header.flush();
+            body.writeTo(snapshotBytes);
+            return snapshotBytes.toByteArray();
+        }
+
+        private void writeTable(SqlTable table) throws IOException {
+            out.writeInt(table.getColumns().size());
+            for (SqlColumn column : table.getColumns()) {
+                writeString(column.getColumnName());
+                writeString(column.getTableName());
+                writeString(column.getDataType());
+                writeString(column.getFullDataType());
+                writeString(column.getCharacterMaximumLength());
+                writeString(column.getNumericPrecision());
+                writeString(column.getNumericScale());
+                writeString(column.getColumnDefault());
+                writeString(column.getIsNullable());
+                out.writeBoolean(column.getIsPrimaryKey());
+                out.writeBoolean(column.isDbGenerated());
+                writeString(column.getCheckConstraint());
+            }
+            out.writeInt(table.getSqlForeignKeys().size());
+            for (SqlForeignKey foreignKey : table.getSqlForeignKeys()) {
+                writeString(foreignKey.getConstraintName());
+                writeString(foreignKey.getTableName());
+                writeStrings(foreignKey.getColumnNames());
+                writeString(foreignKey.getReferencedSchemaName());
+                writeString(foreignKey.getReferencedTableName());
+                writeStrings(foreignKey.getReferencedColumnNames());
+                writeString(foreignKey.getUpdateRule());
+                writeString(foreignKey.getDeleteRule());
+            }
+            out.writeInt(table.getIndexes().size());
+            for (SqlIndex index : table.getIndexes()) {
+                writeString(index.getIndexName());
+                writeString(index.getTableName());
+                writeStrings(index.getColumnNames());
+                out.writeBoolean(index.getUnique());
+            }
+        }
+
+        private void writeStrings(List<String> values) throws IOException {
+            out.writeInt(values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                out.writeInt(NONE);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index == null) {
+                index = stringTable.size();
+                strings.put(value, index);
+                stringTable.add(value);
+            }
+            out.writeInt(index);
+        }
+
+        private static void writeRawString(DataOutputStream stream, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            stream.writeInt(bytes.length);
+            stream.write(bytes);
+        }
+    }
+
+    private static class SnapshotReader {
+
+        private final ByteBuffer buffer;
+        private String[] stringTable;
+
+        private SnapshotReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private Optional<IntrospectionSnapshot> read() {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            String key = readRawString();
+            stringTable = new String[buffer.getInt()];
+            for (int i = 0; i < stringTable.length; i++) {
+                stringTable[i] = readRawString();
+            }
+
+            String datastore = readString();
+            int enumCount = buffer.getInt();
+            List<SqlEnum> enums = new ArrayList<>(Math.min(enumCount, buffer.remaining()));
+            for (int i = 0; i < enumCount; i++) {
+                enums.add(new SqlEnum(readString(), readString(), readString(), readString()));
+            }
+            int tableCount = buffer.getInt();
+            List<SqlTable> tables = new ArrayList<>(Math.min(tableCount, buffer.remaining()));
+            Map<String, String> tableFingerprints = new HashMap<>();
+            for (int i = 0; i < tableCount; i++) {
+                String schemaName = readString();
+                SqlTable table = SqlTable.newBuilder(readString()).setSchemaName(schemaName).build();
+                String fingerprint = readString();
+                if (fingerprint != null) {
+                    tableFingerprints.put(table.getQualifiedName(), fingerprint);
+                }
+                readTable(table);
+                tables.add(table);
+            }
+            if (buffer.hasRemaining()) {
+                return Optional.empty();
+            }
+            return Optional.of(new IntrospectionSnapshot(key, datastore, enums, tables, tableFingerprints));
+        }
+
+        private void readTable(SqlTable table) {
+            int columnCount = buffer.getInt();
+            for (int i = 0; i < columnCount; i++) {
+                table.addColumn(SqlColumn.newBuilder(readString())
+                        .setTableName(readString())
+                        .setDataType(readString())
+                        .setFullDataType(readString())
+                        .setCharacterMaximumLength(readString())
+                        .setNumericPrecision(readString())
+                        .setNumericScale(readString())
+                        .setColumnDefault(readString())
+                        .setIsNullable(readString())
+                        .setIsPrimaryKey(readBoolean())
+                        .setIsDbGenerated(readBoolean())
+                        .setCheckConstraint(readString())
+                        .build());
+            }
+            int foreignKeyCount = buffer.getInt();
+            for (int i = 0; i < foreignKeyCount; i++) {
+                SqlForeignKey.Builder foreignKeyBuilder = SqlForeignKey.Builder.newBuilder(readString());
+                foreignKeyBuilder.setTableName(readString());
+                readStrings().forEach(foreignKeyBuilder::addColumnName);
+                foreignKeyBuilder.setReferencedSchemaName(readString());
+                foreignKeyBuilder.setReferencedTableName(readString());
+                readStrings().forEach(foreignKeyBuilder::addReferencedColumnName);
+                foreignKeyBuilder.setUpdateRule(readString());
+                foreignKeyBuilder.setDeleteRule(readString());
+                table.addForeignKey(foreignKeyBuilder.build());
+            }
+            int indexCount = buffer.getInt();
+            for (int i = 0; i < indexCount; i++) {
+                SqlIndex.Builder indexBuilder = SqlIndex.Builder.newBuilder(readString());
+                indexBuilder.setTableName(readString());
+                readStrings().forEach(indexBuilder::addColumnName);
+                indexBuilder.setUnique(readBoolean());
+                table.addIndex(indexBuilder.build());
+            }
+        }
+
+        private List<String> readStrings() {
+            int count = buffer.getInt();
+            List<String> values = new ArrayList<>(Math.min(count, buffer.remaining()));
+            for (int i = 0; i < count; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        private boolean readBoolean() {
+            return buffer.get() != 0;
+        }
+
+        private String readString() {
+            int index = buffer.getInt();
+            return index == NONE ? null : stringTable[index];
+        }
+
+        private String readRawString() {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,548 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.RecordFieldNode;
+import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.EntityField;
+import io.ballerina.persist.models.Enum;
+import io.ballerina.persist.models.EnumMember;
+import io.ballerina.persist.models.Index;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.models.Relation;
+import io.ballerina.persist.models.SqlType;
+import io.ballerina.persist.nodegenerator.GeneratedFileWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compact binary form of a fully inferred entity module, i.e. with the relations, keys, indexes and enums resolved.
+ * The persist build tool stores the snapshot of the last generated model in its cache directory and loads it when
+ * the model definition file did not change, so the model does not have to be parsed, validated and inferred again.
+ * <p>
+ * The strings of the module are stored once in a string table and referenced by their position, and the entities,
+ * fields and enums are referenced by their position in the module. The annotations of the fields are stored as
+ * source code and parsed back together in a single pass. A snapshot is keyed by the digests of the model definition
+ * file and the tool version, and a snapshot with another key or format is ignored.
+ *
+ * @since 1.7.0
+ */
+public class ModuleSnapshot {
+
+    private static final int MAGIC = 0x50455253;
+    private static final int FORMAT_VERSION = 1;
+    private static final int NONE = -1;
+    private static final String ANNOTATION_HOLDER_TYPE = "PersistAnnotationHolder";
+
+    private ModuleSnapshot() {
+    }
+
+    /**
+     * Computes the key of the snapshot of the given model definition file digest and tool version digest.
+     */
+    public static String getKey(String schemaDigest, String versionDigest) {
+        return schemaDigest + ':' + versionDigest;
+    }
+
+    /**
+     * Writes the snapshot of the given module with the given key. The file is left untouched if it already holds the
+     * same snapshot.
+     */
+    public static void write(Path snapshotPath, String key, Module module) throws IOException {
+        new GeneratedFileWriter().write(snapshotPath, serialize(key, module));
+    }
+
+    /**
+     * Reads the snapshot with the given key from the given file. An empty optional is returned if the file is
+     * missing, has another key or format, or is corrupted.
+     */
+    public static Optional<Module> read(Path snapshotPath, String key) {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return Optional.empty();
+        }
+        try {
+            return deserialize(ByteBuffer.wrap(Files.readAllBytes(snapshotPath)), key);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    static byte[] serialize(String key, Module module) throws IOException {
+        return new SnapshotWriter(module).write(key);
+    }
+
+    static Optional<Module> deserialize(ByteBuffer buffer, String key) {
+        try {
+            return new SnapshotReader(buffer).read(key);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException |
+                 IllegalArgumentException | IllegalStateException | ClassCastException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static class SnapshotWriter {
+
+        private final Module module;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final List<String> stringTable = new ArrayList<>();
+        private final Map<Entity, Integer> entityIndexes = new IdentityHashMap<>();
+        private final Map<Enum, Integer> enumIndexes = new IdentityHashMap<>();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(body);
+
+        private SnapshotWriter(Module module) {
+            this.module = module;
+            module.getEntityMap().values().forEach(entity -> entityIndexes.putIfAbsent(entity, entityIndexes.size()));
+            module.getEnumMap().values().forEach(enumValue -> enumIndexes.putIfAbsent(enumValue, enumIndexes.size()));
+        }
+
+        private byte[] write(String key) throws IOException {
+            writeString(module.getModuleName());
+            out.writeInt(module.getImportModulePrefixes().size());
+            for (String prefix : module.getImportModulePrefixes()) {
+                writeString(prefix);
+            }
+            out.writeInt(module.getEnumMap().size());
+            for (Map.Entry<String, Enum> entry : module.getEnumMap().entrySet()) {
+                writeString(entry.getKey());
+                writeEnum(entry.getValue());
+            }
+            out.writeInt(module.getEntityMap().size());
+            for (Map.Entry<String, Entity> entry : module.getEntityMap().entrySet()) {
+                writeString(entry.getKey());
+                writeEntity(entry.getValue());
+            }
+            out.flush();
+
+            ByteArrayOutputStream snapshot = new ByteArrayOutputStream(body.size() + stringTable.size() * 16);
+            DataOutputStream header = new DataOutputStream(snapshot);
+            header.writeInt(MAGIC);
+            header.writeInt(FORMAT_VERSION);
+            writeRawString(header, key);
+            header.writeInt(stringTable.size());
+            for (String value : stringTable) {
+                writeRawString(header, value);
+            }
+            header.flush();
+            body.writeTo(snapshot);
+            return snapshot.toByteArray();
+        }
+
+        private void writeEnum(Enum enumValue) throws IOException {
+            writeString(enumValue.getEnumName());
+            List<EnumMember> members = enumValue.getMembers() == null ? List.of() : enumValue.getMembers();
+            out.writeInt(members.size());
+            for (EnumMember member : members) {
+                writeString(member.getIdentifier());
+                writeString(member.getValue());
+            }
+        }
+
+        private void writeEntity(Entity entity) throws IOException {
+            writeString(entity.getEntityName());
+            writeString(entity.getTableName());
+            writeString(entity.getSchemaName());
+            out.writeBoolean(entity.containsUnsupportedTypes());
+            List<EntityField> fields = entity.getFields();
+            Map<EntityField, Integer> fieldIndexes = new IdentityHashMap<>();
+            out.writeInt(fields.size());
+            for (EntityField field : fields) {
+                fieldIndexes.putIfAbsent(field, fieldIndexes.size());
+                writeField(field);
+            }
+            writeFieldReferences(entity.getKeys(), fieldIndexes);
+            writeIndexes(entity.getIndexes(), fieldIndexes);
+            writeIndexes(entity.getUniqueIndexes(), fieldIndexes);
+        }
+
+        private void writeField(EntityField field) throws IOException {
+            writeString(field.getFieldName());
+            writeString(field.getFieldColumnName());
+            writeString(field.getFieldType());
+            out.writeBoolean(field.isArrayType());
+            out.writeBoolean(field.isOptionalType());
+            out.writeBoolean(field.isOptionalField());
+            out.writeBoolean(field.isDbGenerated());
+            writeSqlType(field.getSqlType());
+            writeStrings(field.getRelationRefs());
+            out.writeInt(field.getAnnotation().size());
+            for (AnnotationNode annotationNode : field.getAnnotation()) {
+                writeString(annotationNode.toSourceCode().trim());
+            }
+            Enum enumValue = field.getEnum();
+            out.writeInt(enumValue == null ? NONE : enumIndexes.getOrDefault(enumValue, NONE));
+            writeRelation(field.getRelation());
+        }
+
+        private void writeSqlType(SqlType sqlType) throws IOException {
+            out.writeBoolean(sqlType != null);
+            if (sqlType == null) {
+                return;
+            }
+            writeString(sqlType.getTypeName());
+            writeString(sqlType.getFullDataType());
+            writeString(sqlType.getColumnDefaultValue());
+            out.writeInt(sqlType.getNumericPrecision());
+            out.writeInt(sqlType.getNumericScale());
+            out.writeInt(sqlType.getMaxLength());
+            writeString(sqlType.getDatastore());
+        }
+
+        private void writeRelation(Relation relation) throws IOException {
+            out.writeBoolean(relation != null);
+            if (relation == null) {
+                return;
+            }
+            out.writeBoolean(relation.isOwner());
+            out.writeInt(relation.getRelationType().ordinal());
+            Entity assocEntity = relation.getAssocEntity();
+            out.writeInt(assocEntity == null ? NONE : entityIndexes.getOrDefault(assocEntity, NONE));
+            List<Relation.Key> keys = relation.getKeyColumns() == null ? List.of() : relation.getKeyColumns();
+            out.writeInt(keys.size());
+            for (Relation.Key key : keys) {
+                writeString(key.getField());
+                writeString(key.getColumnName());
+                writeString(key.getReference());
+                writeString(key.getReferenceColumnName());
+                writeString(key.getType());
+            }
+            writeStrings(relation.getReferences());
+        }
+
+        private void writeIndexes(List<Index> indexes, Map<EntityField, Integer> fieldIndexes) throws IOException {
+            out.writeInt(indexes.size());
+            for (Index index : indexes) {
+                writeString(index.getIndexName());
+                writeFieldReferences(index.getFields(), fieldIndexes);
+            }
+        }
+
+        /**
+         * Writes the fields of the entity by their position. A field which is not one of the fields of the entity,
+         * such as the fields of an index built before the entity field was completed, is written in full.
+         */
+        private void writeFieldReferences(List<EntityField> fields, Map<EntityField, Integer> fieldIndexes)
+                throws IOException {
+            out.writeInt(fields.size());
+            for (EntityField field : fields) {
+                Integer fieldIndex = fieldIndexes.get(field);
+                out.writeInt(fieldIndex == null ? NONE : fieldIndex);
+                if (fieldIndex == null) {
+                    writeField(field);
+                }
+            }
+        }
+
+        private void writeStrings(List<String> values) throws IOException {
+            out.writeInt(values == null ? 0 : values.size());
+            if (values != null) {
+                for (String value : values) {
+                    writeString(value);
+                }
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                out.writeInt(NONE);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index == null) {
+                index = stringTable.size();
+                strings.put(value, index);
+                stringTable.add(value);
+            }
+            out.writeInt(index);
+        }
+
+        private static void writeRawString(DataOutputStream stream, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            stream.writeInt(bytes.length);
+            stream.write(bytes);
+        }
+    }
+
+    private static class SnapshotReader {
+
+        private final ByteBuffer buffer;
+        private String[] stringTable;
+        private final List<Enum> enums = new ArrayList<>();
+        private final List<Entity> entities = new ArrayList<>();
+        private final List<PendingLink> pendingLinks = new ArrayList<>();
+        private final List<PendingAnnotations> pendingAnnotations = new ArrayList<>();
+
+        private SnapshotReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private Optional<Module> read(String key) {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || !key.equals(readRawString())) {
+                return Optional.empty();
+            }
+            stringTable = new String[buffer.getInt()];
+            for (int i = 0; i < stringTable.length; i++) {
+                stringTable[i] = readRawString();
+            }
+
+            Module.Builder moduleBuilder = Module.newBuilder(readString());
+            int prefixCount = buffer.getInt();
+            for (int i = 0; i < prefixCount; i++) {
+                moduleBuilder.addImportModulePrefix(readString());
+            }
+            int enumCount = buffer.getInt();
+            for (int i = 0; i < enumCount; i++) {
+                String enumKey = readString();
+                Enum enumValue = readEnum();
+                enums.add(enumValue);
+                moduleBuilder.addEnum(enumKey, enumValue);
+            }
+            int entityCount = buffer.getInt();
+            for (int i = 0; i < entityCount; i++) {
+                String entityKey = readString();
+                Entity entity = readEntity();
+                entities.add(entity);
+                moduleBuilder.addEntity(entityKey, entity);
+            }
+            for (PendingLink pendingLink : pendingLinks) {
+                pendingLink.resolve(enums, entities);
+            }
+            parseAnnotations();
+            return Optional.of(moduleBuilder.build());
+        }
+
+        private Enum readEnum() {
+            Enum.Builder enumBuilder = Enum.newBuilder(readString());
+            int memberCount = buffer.getInt();
+            for (int i = 0; i < memberCount; i++) {
+                enumBuilder.addMember(new EnumMember(readString(), readString()));
+            }
+            return enumBuilder.build();
+        }
+
+        private Entity readEntity() {
+            Entity.Builder entityBuilder = Entity.newBuilder(readString());
+            entityBuilder.setTableName(readString());
+            entityBuilder.setSchemaName(readString());
+            entityBuilder.setContainsUnsupportedTypes(readBoolean());
+            int fieldCount = buffer.getInt();
+            List<EntityField> fields = new ArrayList<>(fieldCount);
+            for (int i = 0; i < fieldCount; i++) {
+                EntityField field = readField();
+                fields.add(field);
+                entityBuilder.addField(field);
+            }
+            entityBuilder.setKeys(readFieldReferences(fields));
+            int indexCount = buffer.getInt();
+            for (int i = 0; i < indexCount; i++) {
+                entityBuilder.addIndex(new Index(readString(), readFieldReferences(fields), false));
+            }
+            int uniqueIndexCount = buffer.getInt();
+            for (int i = 0; i < uniqueIndexCount; i++) {
+                entityBuilder.addUniqueIndex(new Index(readString(), readFieldReferences(fields), true));
+            }
+            return entityBuilder.build();
+        }
+
+        private EntityField readField() {
+            EntityField.Builder fieldBuilder = EntityField.newBuilder(readString());
+            fieldBuilder.setFieldColumnName(readString());
+            String fieldType = readString();
+            fieldBuilder.setArrayType(readBoolean());
+            fieldBuilder.setOptionalType(readBoolean());
+            fieldBuilder.setOptionalField(readBoolean());
+            fieldBuilder.setIsDbGenerated(readBoolean());
+            fieldBuilder.setSqlType(readSqlType());
+            fieldBuilder.setRelationRefs(readStrings());
+            int annotationCount = buffer.getInt();
+            List<String> annotations = new ArrayList<>(annotationCount);
+            for (int i = 0; i < annotationCount; i++) {
+                annotations.add(readString());
+            }
+            List<AnnotationNode> annotationNodes = new ArrayList<>(annotationCount);
+            fieldBuilder.setAnnotations(annotationNodes);
+            if (fieldType != null) {
+                fieldBuilder.setType(fieldType);
+            }
+            EntityField field = fieldBuilder.build();
+            if (!annotations.isEmpty()) {
+                pendingAnnotations.add(new PendingAnnotations(annotations, annotationNodes));
+            }
+            int enumIndex = buffer.getInt();
+            PendingRelation relation = readRelation();
+            if (enumIndex != NONE || relation != null) {
+                pendingLinks.add(new PendingLink(field, enumIndex, relation));
+            }
+            return field;
+        }
+
+        private SqlType readSqlType() {
+            if (!readBoolean()) {
+                return null;
+            }
+            String typeName = readString();
+            String fullDataType = readString();
+            String columnDefaultValue = readString();
+            int numericPrecision = buffer.getInt();
+            int numericScale = buffer.getInt();
+            int maxLength = buffer.getInt();
+            String datastore = readString();
+            return datastore == null ?
+                    new SqlType(typeName, fullDataType, columnDefaultValue, numericPrecision, numericScale,
+                            maxLength) :
+                    new SqlType(typeName, fullDataType, columnDefaultValue, numericPrecision, numericScale,
+                            maxLength, datastore);
+        }
+
+        private PendingRelation readRelation() {
+            if (!readBoolean()) {
+                return null;
+            }
+            boolean owner = readBoolean();
+            Relation.RelationType relationType = Relation.RelationType.values()[buffer.getInt()];
+            int assocEntityIndex = buffer.getInt();
+            int keyCount = buffer.getInt();
+            List<Relation.Key> keys = new ArrayList<>(keyCount);
+            for (int i = 0; i < keyCount; i++) {
+                keys.add(new Relation.Key(readString(), readString(), readString(), readString(), readString()));
+            }
+            return new PendingRelation(owner, relationType, assocEntityIndex, keys, readStrings());
+        }
+
+        private List<EntityField> readFieldReferences(List<EntityField> fields) {
+            int count = buffer.getInt();
+            List<EntityField> references = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int fieldIndex = buffer.getInt();
+                references.add(fieldIndex == NONE ? readField() : fields.get(fieldIndex));
+            }
+            return references;
+        }
+
+        /**
+         * Parses the annotations of every annotated field as the fields of a single record type and hands the parsed
+         * nodes to the fields they belong to.
+         */
+        private void parseAnnotations() {
+            if (pendingAnnotations.isEmpty()) {
+                return;
+            }
+            StringBuilder source = new StringBuilder("type ").append(ANNOTATION_HOLDER_TYPE).append(" record {|");
+            for (int i = 0; i < pendingAnnotations.size(); i++) {
+                source.append(System.lineSeparator());
+                for (String annotation : pendingAnnotations.get(i).sources()) {
+                    source.append(annotation).append(System.lineSeparator());
+                }
+                source.append("int field").append(i).append(';');
+            }
+            source.append(System.lineSeparator()).append("|};");
+            ModuleMemberDeclarationNode declaration = NodeParser.parseModuleMemberDeclaration(source.toString());
+            if (declaration.hasDiagnostics()) {
+                throw new IllegalStateException("the annotations of the snapshot are invalid");
+            }
+            RecordTypeDescriptorNode recordNode = (RecordTypeDescriptorNode)
+                    ((TypeDefinitionNode) declaration).typeDescriptor();
+            if (recordNode.fields().size() != pendingAnnotations.size()) {
+                throw new IllegalStateException("the annotations of the snapshot are invalid");
+            }
+            for (int i = 0; i < pendingAnnotations.size(); i++) {
+                Node fieldNode = recordNode.fields().get(i);
+                PendingAnnotations annotations = pendingAnnotations.get(i);
+                ((RecordFieldNode) fieldNode).metadata().ifPresent(metadata ->
+                        metadata.annotations().forEach(annotations.nodes()::add));
+                if (annotations.nodes().size() != annotations.sources().size()) {
+                    throw new IllegalStateException("the annotations of the snapshot are invalid");
+                }
+            }
+        }
+
+        private List<String> readStrings() {
+            int count = buffer.getInt();
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        private boolean readBoolean() {
+            return buffer.get() != 0;
+        }
+
+        private String readString() {
+            int index = buffer.getInt();
+            return index == NONE ? null : stringTable[index];
+        }
+
+        private String readRawString() {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private record PendingRelation(boolean owner, Relation.RelationType relationType, int assocEntityIndex,
+                                   List<Relation.Key> keys, List<String> references) {
+    }
+
+    private record PendingAnnotations(List<String> sources, List<AnnotationNode> nodes) {
+    }
+
+    /**
+     * The enum and the relation of a field, which refer to enums and entities by their position and are linked once
+     * every entity of the module is read.
+     */
+    private record PendingLink(EntityField field, int enumIndex, PendingRelation relation) {
+
+        private void resolve(List<Enum> enums, List<Entity> entities) {
+            if (enumIndex != NONE) {
+                field.setEnum(enums.get(enumIndex));
+            }
+            if (relation != null) {
+                Relation.Builder relationBuilder = Relation.newBuilder();
+                relationBuilder.setOwner(relation.owner());
+                relationBuilder.setRelationType(relation.relationType());
+                relationBuilder.setAssocEntity(relation.assocEntityIndex() == NONE ? null :
+                        entities.get(relation.assocEntityIndex()));
+                relationBuilder.setKeys(relation.keys());
+                relationBuilder.setReferences(relation.references());
+                field.setRelation(relationBuilder.build());
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.SingleFileProject;
+import io.ballerina.tools.diagnostics.Diagnostic;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles model definition files. A compiler keeps the package of the last file it compiled, and a file compiled
+ * again, e.g. while watching it for changes, is compiled by updating the content of that package, which reuses the
+ * loaded project and its resolved dependencies. The package is only kept for the lifetime of the compiler, so a
+ * compiler is created for each run of a command.
+ *
+ * @since 1.7.0
+ */
+public class SchemaCompiler {
+
+    private Path compiledSchemaPath;
+    private Package compiledSchemaPackage;
+
+    /**
+     * Compiles the model definition file with the given content and returns its error diagnostics, which are empty if
+     * the file compiled without errors.
+     */
+    public synchronized String compile(Path schemaPath, String content) {
+        Path absolutePath = schemaPath.toAbsolutePath().normalize();
+        Package currentPackage;
+        if (absolutePath.equals(compiledSchemaPath) && compiledSchemaPackage != null) {
+            io.ballerina.projects.Module defaultModule = compiledSchemaPackage.getDefaultModule();
+            DocumentId documentId = defaultModule.documentIds().iterator().next();
+            currentPackage = defaultModule.document(documentId).modify().withContent(content).apply().module()
+                    .packageInstance();
+        } else {
+            BuildOptions.BuildOptionsBuilder buildOptionsBuilder = BuildOptions.builder();
+            buildOptionsBuilder.setOffline(true);
+            SingleFileProject buildProject = SingleFileProject.load(absolutePath, buildOptionsBuilder.build());
+            currentPackage = buildProject.currentPackage();
+        }
+        compiledSchemaPath = absolutePath;
+        compiledSchemaPackage = currentPackage;
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        List<String> errors = new ArrayList<>();
+        if (diagnosticResult.hasErrors()) {
+            for (Diagnostic diagnostic : diagnosticResult.errors()) {
+                errors.add(diagnostic.toString());
+            }
+        }
+        return String.join(System.lineSeparator(), errors);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.models.Module;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads model definition files. A loader parses each file once per content, and the parsed syntax tree and the
+ * entity module built from it are shared by every phase which loads the same file through the loader. The loaded
+ * schema is keyed by the normalized path and checked against the digest of the content, so an edited file is parsed
+ * again and replaces the schema loaded before. The schemas are only kept for the lifetime of the loader, so a loader
+ * is created for each run of a command, like the {@link SchemaCompiler}.
+ *
+ * @since 1.7.0
+ */
+public class SchemaLoader {
+
+    private final Map<Path, Schema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the parsed model definition file at the given path, parsing it only if it was not loaded before with
+     * the same content.
+     */
+    public Schema load(Path schemaPath) throws BalException {
+        Path path = schemaPath.toAbsolutePath().normalize();
+        Path fileName = path.getFileName();
+        if (fileName == null) {
+            throw new BalException("the model definition file name is invalid.");
+        }
+        byte[] content;
+        String digest;
+        try {
+            content = Files.readAllBytes(path);
+            digest = GenerationCache.digest(content);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new BalException(String.format("failed to read the model definition file(%s). %s", fileName,
+                    e.getMessage()));
+        }
+        Schema schema = schemas.get(path);
+        if (schema != null && schema.getDigest().equals(digest)) {
+            return schema;
+        }
+        String source = new String(content, StandardCharsets.UTF_8);
+        schema = new Schema(path, source, digest, SyntaxTree.from(TextDocuments.from(source), fileName.toString()));
+        schemas.put(path, schema);
+        return schema;
+    }
+
+    /**
+     * A parsed model definition file.
+     */
+    public static class Schema {
+
+        private final Path path;
+        private final String content;
+        private final String digest;
+        private final SyntaxTree syntaxTree;
+        private Module module;
+
+        private Schema(Path path, String content, String digest, SyntaxTree syntaxTree) {
+            this.path = path;
+            this.content = content;
+            this.digest = digest;
+            this.syntaxTree = syntaxTree;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        public String getDigest() {
+            return digest;
+        }
+
+        public SyntaxTree getSyntaxTree() {
+            return syntaxTree;
+        }
+
+        /**
+         * Returns the entity module of the model definition file, building it from the syntax tree on first use.
+         * The module is shared, so callers must not modify it.
+         */
+        public Module getModule() throws BalException {
+            return getModule(TimingTrace.disabled());
+        }
+
+        /**
+         * Returns the entity module of the model definition file, recording the phases of building it in the given
+         * trace if it is built by this call.
+         */
+        public synchronized Module getModule(TimingTrace timingTrace) throws BalException {
+            if (module == null) {
+                module = BalProjectUtils.createModule(path, syntaxTree, timingTrace);
+            }
+            return module;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.nodegenerator.GeneratedFileWriter;
+import io.ballerina.projects.Project;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+import static io.ballerina.persist.PersistToolsConstants.SCHEMA_VALIDATION_CACHE_FILE;
+import static io.ballerina.persist.PersistToolsConstants.TARGET_DIRECTORY;
+
+/**
+ * Cache of the compilation diagnostics of the model definition files of a project, stored in the `target` directory
+ * of the project. The diagnostics of each file are recorded with the digest of the file name, the file content, the
+ * persist tool version and the Ballerina compiler version, and only the diagnostics of the last compiled content of
+ * each file are kept. A model definition file which was already compiled is validated from the cache without
+ * compiling it again.
+ *
+ * @since 1.7.0
+ */
+public class SchemaValidationCache {
+
+    private static final String BALLERINA_VERSION = "ballerina.version";
+    private static final char KEY_SEPARATOR = '\n';
+
+    private final Path cacheFilePath;
+    private final Properties entries;
+
+    private SchemaValidationCache(Path cacheFilePath, Properties entries) {
+        this.cacheFilePath = cacheFilePath;
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the validation cache of the given project. A missing or unreadable cache file results in an empty cache.
+     */
+    public static SchemaValidationCache load(Path projectPath) {
+        Path cacheFilePath = projectPath.resolve(TARGET_DIRECTORY).resolve(SCHEMA_VALIDATION_CACHE_FILE);
+        Properties entries = new Properties();
+        if (Files.isRegularFile(cacheFilePath)) {
+            try (Reader reader = Files.newBufferedReader(cacheFilePath, StandardCharsets.UTF_8)) {
+                entries.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                entries.clear();
+            }
+        }
+        return new SchemaValidationCache(cacheFilePath, entries);
+    }
+
+    /**
+     * Computes the key of a model definition file with the given name and content.
+     */
+    public static String getKey(String fileName, String content) throws IOException, NoSuchAlgorithmException {
+        String compilerVersion = Objects.toString(System.getProperty(BALLERINA_VERSION), "") + '\n' +
+                Objects.toString(Project.class.getPackage().getImplementationVersion(), "");
+        String key = fileName + '\n' + compilerVersion + '\n' +
+                new String(GenerationCache.readToolVersion(), StandardCharsets.UTF_8) + '\n' + content;
+        return GenerationCache.digest(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the recorded error diagnostics of the model definition file with the given name and key. An empty
+     * string means the file compiled without errors, and an empty optional means the file was not compiled with this
+     * key before.
+     */
+    public Optional<String> getDiagnostics(String fileName, String key) {
+        String entry = entries.getProperty(fileName);
+        if (entry == null || !entry.startsWith(key + KEY_SEPARATOR)) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.substring(key.length() + 1));
+    }
+
+    /**
+     * Records the error diagnostics of the model definition file with the given name and key, replacing those of its
+     * previous content, and saves the cache.
+     */
+    public void putDiagnostics(String fileName, String key, String diagnostics) throws IOException {
+        entries.setProperty(fileName, key + KEY_SEPARATOR + diagnostics);
+        StringWriter writer = new StringWriter();
+        entries.store(writer, null);
+        new GeneratedFileWriter().write(cacheFilePath, writer.toString());
+    }
+}
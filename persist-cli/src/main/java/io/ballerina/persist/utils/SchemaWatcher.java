@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a model definition file for changes. The directory of the file is registered with a {@link WatchService},
+ * and the events of a burst of edits, e.g. an editor saving the file through a temporary file, are debounced into a
+ * single change which is reported once the file stayed untouched for the debounce period.
+ *
+ * @since 1.7.0
+ */
+public class SchemaWatcher implements Closeable {
+
+    private final Path schemaFileName;
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final WatchKey watchKey;
+
+    public SchemaWatcher(Path schemaFilePath, long debounceMillis) throws IOException {
+        Path absolutePath = schemaFilePath.toAbsolutePath().normalize();
+        Path directory = absolutePath.getParent();
+        this.schemaFileName = absolutePath.getFileName();
+        if (directory == null || schemaFileName == null) {
+            throw new IOException("invalid model definition file path: " + schemaFilePath);
+        }
+        this.debounceMillis = debounceMillis;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        try {
+            this.watchKey = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for a change of the model definition file followed by the debounce period without any change. The
+     * watch ends when the watched directory is no longer accessible or the watcher is closed.
+     *
+     * @return true if the file changed, false if the watch ended
+     */
+    public boolean awaitChange() throws InterruptedException {
+        try {
+            WatchKey key = watchService.take();
+            boolean changed = pollEvents(key);
+            while (true) {
+                if (!key.reset()) {
+                    return false;
+                }
+                key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    if (changed) {
+                        return true;
+                    }
+                    key = watchService.take();
+                }
+                changed |= pollEvents(key);
+            }
+        } catch (ClosedWatchServiceException e) {
+            return false;
+        }
+    }
+
+    private boolean pollEvents(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || schemaFileName.equals(event.context())) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchKey.cancel();
+        watchService.close();
+    }
+}
@@ -32,7 +32,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -46,10 +48,20 @@ public class ScriptRunner {
 
     private final Connection connection;
 
+    private int fetchSize;
+
     public ScriptRunner(Connection connection) {
         this.connection = connection;
     }
 
+    /**
+     * Sets the number of rows fetched from the database at a time by the statements which read the database schema.
+     * A value of zero, which is the default, leaves the fetch size to the JDBC driver.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = Math.max(0, fetchSize);
+    }
+
     public void runScript(Reader reader) throws Exception {
         try {
             executeLineByLine(reader);
@@ -140,12 +152,41 @@ public class ScriptRunner {
         }
     }
 
+    /**
+     * Reads the names of the schemas returned by the given query.
+     */
+    public List<String> getSchemaNames(String query) throws SQLException {
+        List<String> schemaNames = new ArrayList<>();
+        try (Statement statement = createMetadataStatement()) {
+            try (ResultSet results = statement.executeQuery(query)) {
+                while (results.next()) {
+                    schemaNames.add(results.getString("schema_name"));
+                }
+                return schemaNames;
+            }
+        } catch (SQLException e) {
+            throw new SQLException("Error while retrieving schemas for database: " + e.getMessage());
+        } finally {
+            rollbackConnection();
+        }
+    }
+
     public List<SqlTable> getSQLTables(String query) throws SQLException {
+        return getSQLTables(query, false);
+    }
+
+    /**
+     * Reads the tables returned by the given query. The schemas of the tables are read as well if the tables of
+     * several schemas are introspected.
+     */
+    public List<SqlTable> getSQLTables(String query, boolean readSchemaNames) throws SQLException {
         List<SqlTable> tables = new ArrayList<>();
-        try (Statement statement = connection.createStatement()) {
+        try (Statement statement = createMetadataStatement()) {
             try (ResultSet results = statement.executeQuery(query)) {
                 while (results.next()) {
-                    tables.add(SqlTable.newBuilder(results.getString("table_name")).build());
+                    tables.add(SqlTable.newBuilder(results.getString("table_name"))
+                            .setSchemaName(readSchemaNames ? results.getString("table_schema") : null)
+                            .build());
                 }
                 if (tables.isEmpty()) {
                     throw new SQLException("No tables found in the database.");
@@ -160,12 +201,21 @@ public class ScriptRunner {
     }
 
     public List<SqlEnum> getSQLEnums(String query) throws SQLException {
+        return getSQLEnums(query, false);
+    }
+
+    /**
+     * Reads the enums returned by the given query. The schemas of the tables of the enums are read as well if the
+     * tables of several schemas are introspected.
+     */
+    public List<SqlEnum> getSQLEnums(String query, boolean readSchemaNames) throws SQLException {
         List<SqlEnum> enums = new ArrayList<>();
-        try (Statement statement = connection.createStatement()) {
+        try (Statement statement = createMetadataStatement()) {
             try (ResultSet results = statement.executeQuery(query)) {
                 while (results.next()) {
                     enums.add(new SqlEnum(
                             results.getString("full_enum_type"),
+                            readSchemaNames ? results.getString("table_schema") : null,
                             results.getString("table_name"),
                             results.getString("column_name")
                     ));
@@ -179,98 +229,164 @@ public class ScriptRunner {
         }
     }
 
-    public void readColumnsOfSQLTable(SqlTable table, String query) throws SQLException {
-        try (Statement statement = connection.createStatement()) {
+    public Map<String, String> readTableFingerprints(String query) throws SQLException {
+        return readTableFingerprints(query, false);
+    }
+
+    /**
+     * Reads the fingerprints of the tables, keyed by the table names, which are qualified by the schemas of the tables
+     * if the tables of several schemas are introspected. The fingerprint of a table changes whenever its columns,
+     * foreign keys or indexes change.
+     */
+    public Map<String, String> readTableFingerprints(String query, boolean readSchemaNames) throws SQLException {
+        Map<String, String> fingerprints = new HashMap<>();
+        try (Statement statement = createMetadataStatement()) {
             try (ResultSet results = statement.executeQuery(query)) {
                 while (results.next()) {
+                    String tableName = results.getString("table_name");
+                    if (readSchemaNames) {
+                        tableName = results.getString("table_schema") + "." + tableName;
+                    }
+                    fingerprints.put(tableName, results.getString("fingerprint"));
+                }
+                return fingerprints;
+            }
+        } catch (SQLException e) {
+            throw new SQLException("Error while retrieving table fingerprints: " + e.getMessage());
+        } finally {
+            rollbackConnection();
+        }
+    }
 
-                    SqlColumn column = SqlColumn.newBuilder(results.getString("column_name"))
-                            .setTableName(results.getString("table_name"))
-                            .setDataType(results.getString("data_type"))
-                            .setFullDataType(results.getString("full_data_type"))
-                            .setCharacterMaximumLength(results.getString("character_maximum_length"))
-                            .setNumericPrecision(results.getString("numeric_precision"))
-                            .setNumericScale(results.getString("numeric_scale"))
-                            .setColumnDefault(results.getString("column_default"))
-                            .setIsNullable(results.getString("is_nullable"))
-                            .setIsPrimaryKey(results.getString("column_key").equals("PRI"))
-                            .setIsDbGenerated(results.getBoolean("dbgenerated"))
-                            .setCheckConstraint(results.getString("check_constraint"))
-                            .build();
-                    table.addColumn(column);
+    /**
+     * Reads the columns of all the given tables, keyed by their names, with a single query whose rows are ordered by
+     * the ordinal positions of the columns of each table. The rows of the tables which are not given are skipped.
+     */
+    public void readColumnsOfSQLTables(Map<String, SqlTable> tables, String query) throws SQLException {
+        try (Statement statement = createMetadataStatement()) {
+            try (ResultSet results = statement.executeQuery(query)) {
+                while (results.next()) {
+                    SqlTable table = tables.get(results.getString("table_name"));
+                    if (table != null) {
+                        table.addColumn(readColumn(results));
                     }
+                }
             }
         } catch (SQLException e) {
-            throw new SQLException("Error while retrieving columns for table: " + e.getMessage());
+            throw new SQLException("Error while retrieving columns for tables: " + e.getMessage());
         } finally {
             rollbackConnection();
         }
     }
 
-    public List<SqlForeignKey> readForeignKeysOfSQLTable(SqlTable table, String query) throws SQLException {
-        List<SqlForeignKey> sqlForeignKeys = new ArrayList<>();
-        try (Statement statement = connection.createStatement()) {
+    /**
+     * Reads the foreign keys of all the given tables, keyed by their names, with a single query whose rows are
+     * ordered by the column positions of each foreign key. The rows of the tables which are not given are skipped.
+     */
+    public void readForeignKeysOfSQLTables(Map<String, SqlTable> tables, String query) throws SQLException {
+        Map<String, Map<String, SqlForeignKey>> foreignKeys = new HashMap<>();
+        try (Statement statement = createMetadataStatement()) {
             try (ResultSet results = statement.executeQuery(query)) {
                 while (results.next()) {
-                    String constraintName = results.getString("constraint_name");
-                    SqlForeignKey existingForeignKey = table.getSqlForeignKeys().stream().filter(
-                                    fKey -> fKey.getConstraintName().equals(constraintName))
-                            .findFirst().orElse(null);
+                    String tableName = results.getString("table_name");
+                    SqlTable table = tables.get(tableName);
+                    if (table == null) {
+                        continue;
+                    }
+                    Map<String, SqlForeignKey> tableForeignKeys = foreignKeys.computeIfAbsent(tableName,
+                            key -> new HashMap<>());
+                    SqlForeignKey existingForeignKey = tableForeignKeys.get(results.getString("constraint_name"));
                     if (existingForeignKey == null) {
-                        SqlForeignKey foreignKey = SqlForeignKey.Builder
-                                .newBuilder(results.getString("constraint_name"))
-                                .setTableName(results.getString("table_name"))
-                                .addColumnName(results.getString("column_name"))
-                                .setReferencedTableName(results.getString("referenced_table_name"))
-                                .addReferencedColumnName(results.getString("referenced_column_name"))
-                                .setUpdateRule(results.getString("update_rule"))
-                                .setDeleteRule(results.getString("delete_rule"))
-                                .build();
+                        SqlForeignKey foreignKey = readForeignKey(results);
+                        tableForeignKeys.put(foreignKey.getConstraintName(), foreignKey);
                         table.addForeignKey(foreignKey);
-                        sqlForeignKeys.add(foreignKey);
                     } else {
                         existingForeignKey.addColumnName(results.getString("column_name"));
                         existingForeignKey.addReferencedColumnName(results.getString("referenced_column_name"));
                     }
                 }
             }
-            return sqlForeignKeys;
         } catch (SQLException e) {
-            throw new SQLException("Error while retrieving foreign keys for table: " + e.getMessage());
+            throw new SQLException("Error while retrieving foreign keys for tables: " + e.getMessage());
         } finally {
             rollbackConnection();
-
         }
     }
 
-    public void readIndexesOfSQLTable(SqlTable table, String query) throws SQLException {
-        try (Statement statement = connection.createStatement()) {
+    /**
+     * Reads the indexes of all the given tables, keyed by their names, with a single query whose rows are ordered by
+     * the column positions of each index. The rows of the tables which are not given are skipped.
+     */
+    public void readIndexesOfSQLTables(Map<String, SqlTable> tables, String query) throws SQLException {
+        Map<String, Map<String, SqlIndex>> indexes = new HashMap<>();
+        try (Statement statement = createMetadataStatement()) {
             try (ResultSet results = statement.executeQuery(query)) {
                 while (results.next()) {
-                    String indexName = results.getString("index_name");
-                    SqlIndex existingIndex = table.getIndexes().stream().filter(
-                            index -> index.getIndexName().equals(indexName))
-                            .findFirst().orElse(null);
+                    String tableName = results.getString("table_name");
+                    SqlTable table = tables.get(tableName);
+                    if (table == null) {
+                        continue;
+                    }
+                    Map<String, SqlIndex> tableIndexes = indexes.computeIfAbsent(tableName, key -> new HashMap<>());
+                    SqlIndex existingIndex = tableIndexes.get(results.getString("index_name"));
                     if (existingIndex == null) {
-                        table.addIndex(SqlIndex.Builder.newBuilder(results.getString("index_name"))
-                                .setTableName(results.getString("table_name"))
-                                .addColumnName(results.getString("column_name"))
-                                .setUnique(results.getBoolean("is_unique"))
-                                .build()
-                        );
+                        SqlIndex index = readIndex(results);
+                        tableIndexes.put(index.getIndexName(), index);
+                        table.addIndex(index);
                     } else {
                         existingIndex.addColumnName(results.getString("column_name"));
                     }
                 }
             }
         } catch (SQLException e) {
-            throw new SQLException("error while retrieving indexes for table: " + e.getMessage());
+            throw new SQLException("error while retrieving indexes for tables: " + e.getMessage());
         } finally {
             rollbackConnection();
         }
     }
 
+    private Statement createMetadataStatement() throws SQLException {
+        Statement statement = connection.createStatement();
+        if (fetchSize > 0) {
+            statement.setFetchSize(fetchSize);
+        }
+        return statement;
+    }
 
+    private static SqlColumn readColumn(ResultSet results) throws SQLException {
+        return SqlColumn.newBuilder(results.getString("column_name"))
+                .setTableName(results.getString("table_name"))
+                .setDataType(results.getString("data_type"))
+                .setFullDataType(results.getString("full_data_type"))
+                .setCharacterMaximumLength(results.getString("character_maximum_length"))
+                .setNumericPrecision(results.getString("numeric_precision"))
+                .setNumericScale(results.getString("numeric_scale"))
+                .setColumnDefault(results.getString("column_default"))
+                .setIsNullable(results.getString("is_nullable"))
+                .setIsPrimaryKey(results.getString("column_key").equals("PRI"))
+                .setIsDbGenerated(results.getBoolean("dbgenerated"))
+                .setCheckConstraint(results.getString("check_constraint"))
+                .build();
+    }
 
+    private static SqlForeignKey readForeignKey(ResultSet results) throws SQLException {
+        return SqlForeignKey.Builder
+                .newBuilder(results.getString("constraint_name"))
+                .setTableName(results.getString("table_name"))
+                .addColumnName(results.getString("column_name"))
+                .setReferencedSchemaName(results.getString("referenced_table_schema"))
+                .setReferencedTableName(results.getString("referenced_table_name"))
+                .addReferencedColumnName(results.getString("referenced_column_name"))
+                .setUpdateRule(results.getString("update_rule"))
+                .setDeleteRule(results.getString("delete_rule"))
+                .build();
+    }
 
+    private static SqlIndex readIndex(ResultSet results) throws SQLException {
+        return SqlIndex.Builder.newBuilder(results.getString("index_name"))
+                .setTableName(results.getString("table_name"))
+                .addColumnName(results.getString("column_name"))
+                .setUnique(results.getBoolean("is_unique"))
+                .build();
+    }
 }
@@ -0,0 +1,283 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.persist.PersistToolsConstants.TARGET_DIRECTORY;
+import static io.ballerina.persist.PersistToolsConstants.TIMINGS_REPORT_FILE;
+
+/**
+ * Records the wall time, the CPU time and the allocated bytes of the phases of a persist command. A trace is enabled
+ * with the `--trace-timings` option of a command or by setting the `PERSIST_TRACE` environment variable, and a
+ * disabled trace runs the measured actions without recording anything.
+ * <p>
+ * The CPU time and the allocated bytes are read from the {@link ThreadMXBean} of the thread running a phase, so the
+ * phases built concurrently on other threads are measured on their own threads. Phases with the same name are
+ * accumulated into a single entry of the report. The total of the report is the wall time from the start of the first
+ * to the end of the last outermost phase, and the CPU time and the allocated bytes of the outermost phases of each
+ * thread, so that nested phases and phases run in parallel are not counted twice.
+ *
+ * @since 1.7.0
+ */
+public class TimingTrace {
+
+    public static final String TRACE_ENVIRONMENT_VARIABLE = "PERSIST_TRACE";
+
+    private static final TimingTrace DISABLED = new TimingTrace(null);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_KILOBYTE = 1024.0;
+
+    private final String command;
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+    private final Phase total = new Phase();
+    private long firstStart = Long.MAX_VALUE;
+    private long lastEnd = Long.MIN_VALUE;
+    private final ThreadMXBean threadBean;
+    private final boolean cpuTimeSupported;
+    private final boolean allocatedBytesSupported;
+
+    private TimingTrace(String command) {
+        this.command = command;
+        this.threadBean = command == null ? null : ManagementFactory.getThreadMXBean();
+        this.cpuTimeSupported = threadBean != null && threadBean.isCurrentThreadCpuTimeSupported() &&
+                threadBean.isThreadCpuTimeEnabled();
+        this.allocatedBytesSupported = threadBean instanceof com.sun.management.ThreadMXBean bean &&
+                bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Creates the trace of the given command, e.g. `bal persist generate`, which is enabled if requested or if the
+     * `PERSIST_TRACE` environment variable is set to any value other than `false`.
+     */
+    public static TimingTrace create(String command, boolean enabled) {
+        String environmentValue = System.getenv(TRACE_ENVIRONMENT_VARIABLE);
+        boolean enabledByEnvironment = environmentValue != null && !environmentValue.isBlank() &&
+                !environmentValue.trim().equalsIgnoreCase(Boolean.FALSE.toString());
+        return enabled || enabledByEnvironment ? new TimingTrace(command) : DISABLED;
+    }
+
+    /**
+     * Returns a trace which does not record anything.
+     */
+    public static TimingTrace disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return command != null;
+    }
+
+    /**
+     * Runs the given action and records it as a run of the given phase.
+     */
+    public <T, E extends Exception> T measure(String phase, Action<T, E> action) throws E {
+        if (!isEnabled()) {
+            return action.run();
+        }
+        int[] threadDepth = depth.get();
+        boolean outermost = threadDepth[0] == 0;
+        threadDepth[0]++;
+        long wallTime = System.nanoTime();
+        long cpuTime = getCpuTime();
+        long allocatedBytes = getAllocatedBytes();
+        try {
+            return action.run();
+        } finally {
+            threadDepth[0]--;
+            record(phase, outermost, wallTime, System.nanoTime(), getCpuTime() - cpuTime,
+                    getAllocatedBytes() - allocatedBytes);
+        }
+    }
+
+    /**
+     * Runs the given action, which does not return a value, and records it as a run of the given phase.
+     */
+    public <E extends Exception> void run(String phase, VoidAction<E> action) throws E {
+        measure(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Prints the recorded phases as a table to the given stream, writes them as JSON to the
+     * `target/persist-timings.json` file of the given project and clears them, so that the trace can be reused for
+     * the next run of the command. Nothing is reported for a disabled trace or if no phase was recorded.
+     */
+    public void report(Path projectPath, PrintStream outStream) {
+        if (!isEnabled()) {
+            return;
+        }
+        Phase totalPhase = new Phase();
+        List<Map.Entry<String, Phase>> entries = removePhases(totalPhase);
+        if (entries.isEmpty()) {
+            return;
+        }
+        outStream.println(formatTable(entries, totalPhase));
+        Path reportPath = projectPath.resolve(TARGET_DIRECTORY).resolve(TIMINGS_REPORT_FILE);
+        try {
+            Files.createDirectories(reportPath.toAbsolutePath().getParent());
+            Files.writeString(reportPath, formatJson(entries, totalPhase), StandardCharsets.UTF_8);
+            outStream.println("Timings are written to " + reportPath);
+        } catch (IOException e) {
+            outStream.println("WARNING: failed to write the timings report. " + e.getMessage());
+        }
+    }
+
+    private synchronized void record(String name, boolean outermost, long start, long end, long cpuTime,
+                                     long allocatedBytes) {
+        Phase phase = phases.computeIfAbsent(name, key -> new Phase());
+        phase.count++;
+        phase.wallTime += end - start;
+        phase.cpuTime += cpuTime;
+        phase.allocatedBytes += allocatedBytes;
+        if (outermost) {
+            total.count++;
+            total.cpuTime += cpuTime;
+            total.allocatedBytes += allocatedBytes;
+            firstStart = Math.min(firstStart, start);
+            lastEnd = Math.max(lastEnd, end);
+        }
+    }
+
+    private synchronized List<Map.Entry<String, Phase>> removePhases(Phase totalPhase) {
+        List<Map.Entry<String, Phase>> entries = new ArrayList<>();
+        phases.forEach((name, phase) -> entries.add(Map.entry(name, phase)));
+        phases.clear();
+        totalPhase.count = total.count;
+        totalPhase.wallTime = total.count == 0 ? 0 : lastEnd - firstStart;
+        totalPhase.cpuTime = total.cpuTime;
+        totalPhase.allocatedBytes = total.allocatedBytes;
+        total.count = 0;
+        total.cpuTime = 0;
+        total.allocatedBytes = 0;
+        firstStart = Long.MAX_VALUE;
+        lastEnd = Long.MIN_VALUE;
+        return entries;
+    }
+
+    private long getCpuTime() {
+        return cpuTimeSupported ? threadBean.getCurrentThreadCpuTime() : 0;
+    }
+
+    private long getAllocatedBytes() {
+        return allocatedBytesSupported ?
+                ((com.sun.management.ThreadMXBean) threadBean).getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private String formatTable(List<Map.Entry<String, Phase>> entries, Phase total) {
+        int nameWidth = "total".length();
+        for (Map.Entry<String, Phase> entry : entries) {
+            nameWidth = Math.max(nameWidth, entry.getKey().length());
+        }
+        String rowFormat = "%-" + nameWidth + "s  %5s  %12s  %12s  %16s%n";
+        StringBuilder table = new StringBuilder(String.format("Timings of %s:%n", command));
+        table.append(String.format(rowFormat, "phase", "runs", "wall (ms)", "cpu (ms)", "allocated (KB)"));
+        for (Map.Entry<String, Phase> entry : entries) {
+            table.append(formatRow(rowFormat, entry.getKey(), entry.getValue()));
+        }
+        table.append(formatRow(rowFormat, "total", total));
+        if (!cpuTimeSupported || !allocatedBytesSupported) {
+            table.append("The CPU time or the allocated bytes are not measured by this JVM.")
+                    .append(System.lineSeparator());
+        }
+        return table.toString();
+    }
+
+    private static String formatRow(String rowFormat, String name, Phase phase) {
+        return String.format(rowFormat, name, phase.count, String.format("%.2f", phase.wallTime / NANOS_PER_MILLI),
+                String.format("%.2f", phase.cpuTime / NANOS_PER_MILLI),
+                String.format("%.1f", phase.allocatedBytes / BYTES_PER_KILOBYTE));
+    }
+
+    private String formatJson(List<Map.Entry<String, Phase>> entries, Phase total) {
+        StringBuilder json = new StringBuilder("{").append(System.lineSeparator());
+        json.append("  \"command\": \"").append(escape(command)).append("\",").append(System.lineSeparator());
+        json.append("  \"cpuTimeMeasured\": ").append(cpuTimeSupported).append(',').append(System.lineSeparator());
+        json.append("  \"allocatedBytesMeasured\": ").append(allocatedBytesSupported).append(',')
+                .append(System.lineSeparator());
+        json.append("  \"total\": {\"runs\": ").append(total.count)
+                .append(", \"wallTimeNanos\": ").append(total.wallTime)
+                .append(", \"cpuTimeNanos\": ").append(total.cpuTime)
+                .append(", \"allocatedBytes\": ").append(total.allocatedBytes).append("},")
+                .append(System.lineSeparator());
+        json.append("  \"phases\": [");
+        for (int i = 0; i < entries.size(); i++) {
+            Phase phase = entries.get(i).getValue();
+            json.append(i == 0 ? "" : ",").append(System.lineSeparator())
+                    .append("    {\"name\": \"").append(escape(entries.get(i).getKey()))
+                    .append("\", \"runs\": ").append(phase.count)
+                    .append(", \"wallTimeNanos\": ").append(phase.wallTime)
+                    .append(", \"cpuTimeNanos\": ").append(phase.cpuTime)
+                    .append(", \"allocatedBytes\": ").append(phase.allocatedBytes).append('}');
+        }
+        json.append(System.lineSeparator()).append("  ]").append(System.lineSeparator()).append('}')
+                .append(System.lineSeparator());
+        return json.toString();
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder();
+        for (char character : value.toCharArray()) {
+            if (character == '"' || character == '\\') {
+                escaped.append('\\').append(character);
+            } else if (character < ' ') {
+                escaped.append(String.format("\\u%04x", (int) character));
+            } else {
+                escaped.append(character);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * An action measured as a phase of the trace.
+     */
+    @FunctionalInterface
+    public interface Action<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * An action, which does not return a value, measured as a phase of the trace.
+     */
+    @FunctionalInterface
+    public interface VoidAction<E extends Exception> {
+        void run() throws E;
+    }
+
+    private static class Phase {
+        private int count;
+        private long wallTime;
+        private long cpuTime;
+        private long allocatedBytes;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist;
+
+import io.ballerina.persist.inflector.CaseConverter;
+import io.ballerina.persist.inflector.Singularizer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * This class is used to test the case conversions name the identifiers of the test fixtures the same as the regex
+ * based conversions they replace.
+ */
+public class CaseConverterDifferentialTest {
+
+    private static final Path[] FIXTURE_PATHS = {Paths.get("src", "test", "resources"),
+            Paths.get("..", "persist-cli-tests", "src", "test", "resources")};
+    private static final Set<String> FIXTURE_EXTENSIONS = Set.of(".bal", ".sql", ".toml");
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[\\p{L}\\d_\\-]*\\p{L}[\\p{L}\\d_\\-]*");
+    private static final Pattern SPLIT_PATTERN = Pattern.compile("([\\p{Ll}\\d])(\\p{Lu})");
+    private static final Pattern STRIP_PATTERN = Pattern.compile("[^\\p{L}\\d]+");
+
+    @Test(description = "Test the case conversions of the identifiers of the test fixtures match the reference")
+    public void testFixtureIdentifiers() throws IOException {
+        Set<String> identifiers = readIdentifiers();
+        Assert.assertFalse(identifiers.isEmpty(), "no identifiers are found in the test fixtures");
+        for (String identifier : identifiers) {
+            Assert.assertEquals(CaseConverter.toPascalCase(identifier), toPascalCase(split(identifier)),
+                    "the pascal case of " + identifier);
+            Assert.assertEquals(CaseConverter.toCamelCase(identifier), toCamelCase(identifier),
+                    "the camel case of " + identifier);
+            Assert.assertEquals(CaseConverter.toSingularPascalCase(identifier), toPascalCase(
+                    Arrays.stream(split(identifier)).map(Singularizer::singularize).toArray(String[]::new)),
+                    "the singular pascal case of " + identifier);
+            Assert.assertEquals(CaseConverter.toUpperSnakeCase(identifier), String.join("_", Arrays.stream(
+                    split(identifier)).map(word -> word.toUpperCase(Locale.ENGLISH)).toArray(String[]::new)),
+                    "the upper snake case of " + identifier);
+        }
+    }
+
+    private static Set<String> readIdentifiers() throws IOException {
+        Set<String> identifiers = new TreeSet<>();
+        for (Path fixturePath : FIXTURE_PATHS) {
+            if (!Files.isDirectory(fixturePath)) {
+                continue;
+            }
+            try (Stream<Path> paths = Files.walk(fixturePath)) {
+                for (Path path : paths.filter(Files::isRegularFile).filter(CaseConverterDifferentialTest::isFixture)
+                        .toList()) {
+                    Matcher matcher = IDENTIFIER_PATTERN.matcher(Files.readString(path));
+                    while (matcher.find()) {
+                        identifiers.add(matcher.group());
+                    }
+                }
+            }
+        }
+        return identifiers;
+    }
+
+    private static boolean isFixture(Path path) {
+        String fileName = path.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex >= 0 && FIXTURE_EXTENSIONS.contains(fileName.substring(extensionIndex));
+    }
+
+    // The regex based split of identifiers which was used by the case conversions.
+    private static String[] split(String value) {
+        String result = SPLIT_PATTERN.matcher(value).replaceAll("$1\0$2");
+        result = STRIP_PATTERN.matcher(result).replaceAll("\0");
+        int start = 0;
+        int end = result.length();
+        while (result.charAt(start) == '\0') {
+            start++;
+        }
+        while (result.charAt(end - 1) == '\0') {
+            end--;
+        }
+        return Arrays.stream(result.substring(start, end).split("\0"))
+                .map(String::trim)
+                .map(word -> word.toLowerCase(Locale.ENGLISH))
+                .toArray(String[]::new);
+    }
+
+    private static String toPascalCase(String[] words) {
+        StringBuilder result = new StringBuilder();
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                result.append(Character.toUpperCase(word.charAt(0)));
+                result.append(word.substring(1).toLowerCase(Locale.ENGLISH));
+            }
+        }
+        return result.toString();
+    }
+
+    private static String toCamelCase(String identifier) {
+        String pascalCase = toPascalCase(split(identifier));
+        return pascalCase.substring(0, 1).toLowerCase(Locale.ENGLISH) + pascalCase.substring(1);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.introspect;
+
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.configuration.PersistConfiguration;
+import io.ballerina.persist.introspectiondto.SqlColumn;
+import io.ballerina.persist.introspectiondto.SqlForeignKey;
+import io.ballerina.persist.introspectiondto.SqlTable;
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.nodegenerator.SourceGenerator;
+import io.ballerina.persist.testutils.TestModels;
+import io.ballerina.persist.utils.IntrospectionSnapshot;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class is used to test the entity model is introspected from a snapshot without a database.
+ */
+public class SnapshotIntrospectionTest {
+
+    @Test(description = "Test the entities and relations of a snapshot are mapped and written to the model file")
+    public void testIntrospectSnapshot() throws Exception {
+        Path projectPath = Files.createTempDirectory("persist-pull-snapshot");
+        try {
+            Path snapshotPath = projectPath.resolve("schema.snapshot");
+            IntrospectionSnapshot.write(snapshotPath, createSnapshot());
+            IntrospectionSnapshot snapshot = IntrospectionSnapshot.read(snapshotPath).orElseThrow();
+
+            Module entityModule = new MySqlIntrospector().introspectSnapshot(snapshot,
+                    createConfiguration(projectPath));
+            Assert.assertEquals(entityModule.getEntityMap().keySet(), Set.of("Customer", "Order"));
+            Entity order = entityModule.getEntityMap().get("Order");
+            Assert.assertEquals(order.getFieldByName("customer").getFieldType(), "Customer");
+            Assert.assertEquals(order.getFieldByName("customer").getRelationRefs(), List.of("customerId"));
+            Assert.assertEquals(entityModule.getEntityMap().get("Customer").getFieldByName("orders").getFieldType(),
+                    "Order");
+            Assert.assertTrue(entityModule.getEntityMap().get("Customer").getFieldByName("orders").isArrayType());
+
+            Path persistPath = Files.createDirectories(projectPath.resolve(PersistToolsConstants.PERSIST_DIRECTORY));
+            new SourceGenerator(projectPath.toString(), persistPath, "Introspect.db", entityModule).createDbModel();
+            String model = Files.readString(persistPath.resolve("model.bal"));
+            Assert.assertTrue(model.contains("public type Order record {|"), model);
+            Assert.assertTrue(model.contains("Customer customer;"), model);
+            Assert.assertTrue(model.contains("Order[] orders;"), model);
+        } finally {
+            TestModels.deleteDirectory(projectPath);
+        }
+    }
+
+    @Test(description = "Test a foreign key referring to a table which is not in the snapshot is skipped")
+    public void testForeignKeyToMissingTable() throws Exception {
+        Path projectPath = Files.createTempDirectory("persist-pull-snapshot");
+        try {
+            Module entityModule = new MySqlIntrospector().introspectSnapshot(createSnapshot(),
+                    createConfiguration(projectPath));
+            Entity order = entityModule.getEntityMap().get("Order");
+            Assert.assertNotNull(order.getFieldByName("warehouseId"));
+            Assert.assertNull(order.getFieldByName("warehouse"));
+            Assert.assertNull(order.getFieldByName("warehouseId").getRelation());
+        } finally {
+            TestModels.deleteDirectory(projectPath);
+        }
+    }
+
+    @Test(description = "Test the tables of several schemas are mapped to entities which keep their schemas")
+    public void testIntrospectSchemas() throws Exception {
+        Path projectPath = Files.createTempDirectory("persist-pull-snapshot");
+        try {
+            SqlTable shopCustomers = SqlTable.newBuilder("customers").setSchemaName("shop").build();
+            shopCustomers.addColumn(createColumn("customers", "id", "int", true));
+            SqlTable crmCustomers = SqlTable.newBuilder("customers").setSchemaName("crm").build();
+            crmCustomers.addColumn(createColumn("customers", "id", "int", true));
+            crmCustomers.addColumn(createColumn("customers", "name", "varchar", false));
+            SqlTable orders = SqlTable.newBuilder("orders").setSchemaName("shop").build();
+            orders.addColumn(createColumn("orders", "id", "int", true));
+            orders.addColumn(createColumn("orders", "customer_id", "int", false));
+            orders.addForeignKey(SqlForeignKey.Builder.newBuilder("orders_customer").setTableName("orders")
+                    .addColumnName("customer_id").setReferencedSchemaName("crm").setReferencedTableName("customers")
+                    .addReferencedColumnName("id").build());
+            IntrospectionSnapshot snapshot = new IntrospectionSnapshot("postgresql://localhost:5432/store",
+                    PersistToolsConstants.SupportedDataSources.POSTGRESQL_DB, List.of(),
+                    List.of(shopCustomers, crmCustomers, orders), Map.of());
+
+            Module entityModule = new PostgreSqlIntrospector().introspectSnapshot(snapshot,
+                    createConfiguration(projectPath, PersistToolsConstants.SupportedDataSources.POSTGRESQL_DB));
+            Map<String, Entity> entities = entityModule.getEntityMap();
+            Assert.assertEquals(entities.keySet(), Set.of("ShopCustomer", "CrmCustomer", "Order"));
+            Assert.assertEquals(entities.get("ShopCustomer").getSchemaName(), "shop");
+            Assert.assertEquals(entities.get("ShopCustomer").getTableName(), "customers");
+            Assert.assertEquals(entities.get("CrmCustomer").getSchemaName(), "crm");
+            Assert.assertEquals(entities.get("Order").getSchemaName(), "shop");
+            Assert.assertEquals(entities.get("Order").getFieldByName("crmcustomer").getFieldType(), "CrmCustomer");
+            Assert.assertNotNull(entities.get("CrmCustomer").getFieldByName("orders"));
+            Assert.assertNull(entities.get("ShopCustomer").getFieldByName("orders"));
+
+            Path persistPath = Files.createDirectories(projectPath.resolve(PersistToolsConstants.PERSIST_DIRECTORY));
+            new SourceGenerator(projectPath.toString(), persistPath, "Introspect.db", entityModule).createDbModel();
+            String model = Files.readString(persistPath.resolve("model.bal"));
+            Assert.assertTrue(model.contains("@sql:Schema {value: \"crm\"}"), model);
+            Assert.assertTrue(model.contains("@sql:Name {value: \"customers\"}"), model);
+        } finally {
+            TestModels.deleteDirectory(projectPath);
+        }
+    }
+
+    private static PersistConfiguration createConfiguration(Path projectPath) {
+        return createConfiguration(projectPath, PersistToolsConstants.SupportedDataSources.MYSQL_DB);
+    }
+
+    private static PersistConfiguration createConfiguration(Path projectPath, String provider) {
+        PersistConfiguration persistConfiguration = new PersistConfiguration();
+        persistConfiguration.setProvider(provider);
+        persistConfiguration.setSourcePath(projectPath.toString());
+        return persistConfiguration;
+    }
+
+    /**
+     * Creates the snapshot of a schema whose orders refer to their customers and to a warehouse table which was not
+     * introspected.
+     */
+    private static IntrospectionSnapshot createSnapshot() {
+        SqlTable customers = SqlTable.newBuilder("customers").build();
+        customers.addColumn(createColumn("customers", "id", "int", true));
+        customers.addColumn(createColumn("customers", "name", "varchar", false));
+
+        SqlTable orders = SqlTable.newBuilder("orders").build();
+        orders.addColumn(createColumn("orders", "id", "int", true));
+        orders.addColumn(createColumn("orders", "customer_id", "int", false));
+        orders.addColumn(createColumn("orders", "warehouse_id", "int", false));
+        orders.addForeignKey(SqlForeignKey.Builder.newBuilder("orders_customer").setTableName("orders")
+                .addColumnName("customer_id").setReferencedTableName("customers").addReferencedColumnName("id")
+                .build());
+        orders.addForeignKey(SqlForeignKey.Builder.newBuilder("orders_warehouse").setTableName("orders")
+                .addColumnName("warehouse_id").setReferencedTableName("warehouses").addReferencedColumnName("id")
+                .build());
+        return new IntrospectionSnapshot("mysql://localhost:3306/store", PersistToolsConstants.SupportedDataSources
+                .MYSQL_DB, List.of(), List.of(customers, orders), Map.of());
+    }
+
+    private static SqlColumn createColumn(String tableName, String columnName, String dataType, boolean primaryKey) {
+        return SqlColumn.newBuilder(columnName)
+                .setTableName(tableName)
+                .setDataType(dataType)
+                .setFullDataType(dataType.equals("varchar") ? "varchar(191)" : dataType)
+                .setCharacterMaximumLength(dataType.equals("varchar") ? "191" : null)
+                .setNumericPrecision(dataType.equals("int") ? "10" : null)
+                .setNumericScale(dataType.equals("int") ? "0" : null)
+                .setIsNullable("NO")
+                .setIsPrimaryKey(primaryKey)
+                .setIsDbGenerated(false)
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.introspect;
+
+import io.ballerina.persist.BalException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * This class is used to test the table filter of the database introspection.
+ */
+public class TableFilterTest {
+
+    private static final UnaryOperator<String> QUOTE_LITERAL = value -> "'" + value.replace("'", "''") + "'";
+    private static final String REGEX_OPERATOR = "~";
+
+    @Test(description = "Test a filter without patterns selects every table")
+    public void testEmptyFilter() {
+        Assert.assertTrue(TableFilter.all().isEmpty());
+        Assert.assertEquals(TableFilter.all().getCondition("table_name", QUOTE_LITERAL, REGEX_OPERATOR), "");
+    }
+
+    @Test(description = "Test the globs are translated into escaped LIKE conditions")
+    public void testGlobConditions() throws BalException {
+        TableFilter filter = TableFilter.of(List.of("orders_*", "billing_?"), List.of("orders_archive"));
+        Assert.assertEquals(filter.getCondition("table_name", QUOTE_LITERAL, REGEX_OPERATOR),
+                "AND (table_name LIKE 'orders!_%' ESCAPE '!' OR table_name LIKE 'billing!__' ESCAPE '!') " +
+                        "AND NOT (table_name LIKE 'orders!_archive' ESCAPE '!')");
+        Assert.assertEquals(TableFilter.toLikePattern("100%_it's!"), "100!%!_it's!!");
+        Assert.assertEquals(TableFilter.of(List.of("it's"), List.of())
+                .getCondition("t", QUOTE_LITERAL, REGEX_OPERATOR), "AND (t LIKE 'it''s' ESCAPE '!')");
+    }
+
+    @Test(description = "Test the regular expressions are translated with the regular expression operator")
+    public void testRegexConditions() throws BalException {
+        TableFilter filter = TableFilter.of(List.of(), List.of("regex:^tmp_[0-9]+$"));
+        Assert.assertTrue(filter.hasRegexPatterns());
+        Assert.assertEquals(filter.getCondition("tbl.relname", QUOTE_LITERAL, REGEX_OPERATOR),
+                "AND NOT (tbl.relname ~ '^tmp_[0-9]+$')");
+    }
+
+    @Test(description = "Test the backslashes and quotes of the patterns and names are escaped in the dialect of " +
+            "each data store")
+    public void testDialectLiterals() throws BalException {
+        // A glob and a regular expression with a backslash followed by a quote, and a glob ending in a backslash
+        TableFilter filter = TableFilter.of(List.of("a\\'b*", "regex:^a\\'b$"), List.of("tmp\\"));
+
+        MySqlIntrospector mySqlIntrospector = new MySqlIntrospector();
+        mySqlIntrospector.setTableFilter(filter);
+        Assert.assertEquals(mySqlIntrospector.getTableFilterCondition("table_name"),
+                "AND (table_name LIKE 'a\\\\''b%' ESCAPE '!' OR table_name REGEXP '^a\\\\''b$') " +
+                        "AND NOT (table_name LIKE 'tmp\\\\' ESCAPE '!')");
+        Assert.assertEquals(mySqlIntrospector.getTableNameCondition("table_name", List.of("it's\\")),
+                "AND table_name IN ('it''s\\\\')");
+
+        PostgreSqlIntrospector postgreSqlIntrospector = new PostgreSqlIntrospector();
+        postgreSqlIntrospector.setTableFilter(filter);
+        Assert.assertEquals(postgreSqlIntrospector.getTableFilterCondition("tbl.relname"),
+                "AND (tbl.relname LIKE 'a\\''b%' ESCAPE '!' OR tbl.relname ~ '^a\\''b$') " +
+                        "AND NOT (tbl.relname LIKE 'tmp\\' ESCAPE '!')");
+
+        MsSqlInstrospector msSqlIntrospector = new MsSqlInstrospector();
+        msSqlIntrospector.setTableFilter(TableFilter.of(List.of("a\\'b*"), List.of()));
+        Assert.assertEquals(msSqlIntrospector.getTableFilterCondition("tbl.name"),
+                "AND (tbl.name LIKE 'a\\''b%' ESCAPE '!')");
+        Assert.assertEquals(msSqlIntrospector.getTableNameCondition("tbl.name", List.of("it's\\")),
+                "AND tbl.name IN ('it''s\\')");
+    }
+
+    @Test(description = "Test the schemas are only selected for the data stores whose schemas can be listed")
+    public void testSchemaSupport() throws BalException {
+        TableFilter schemaFilter = TableFilter.of(List.of("sales_*"), List.of());
+        MySqlIntrospector mySqlIntrospector = new MySqlIntrospector();
+        Assert.assertFalse(mySqlIntrospector.supportsSchemas());
+        Assert.assertTrue(mySqlIntrospector.getSchemasQuery().isEmpty());
+        Assert.assertThrows(BalException.class, () -> mySqlIntrospector.setSchemaFilter(schemaFilter));
+
+        PostgreSqlIntrospector postgreSqlIntrospector = new PostgreSqlIntrospector();
+        Assert.assertTrue(postgreSqlIntrospector.supportsSchemas());
+        postgreSqlIntrospector.setSchemaFilter(schemaFilter);
+        Assert.assertTrue(postgreSqlIntrospector.getSchemasQuery().orElseThrow()
+                .contains("AND (nspname LIKE 'sales!_%' ESCAPE '!')"));
+
+        MsSqlInstrospector msSqlIntrospector = new MsSqlInstrospector();
+        Assert.assertTrue(msSqlIntrospector.supportsSchemas());
+        msSqlIntrospector.setSchemaFilter(schemaFilter);
+        Assert.assertTrue(msSqlIntrospector.getSchemasQuery().orElseThrow()
+                .contains("AND (name LIKE 'sales!_%' ESCAPE '!')"));
+    }
+
+    @Test(description = "Test the regular expression patterns are only accepted for the data stores with a regular " +
+            "expression operator")
+    public void testRegexSupport() throws BalException {
+        TableFilter regexFilter = TableFilter.of(List.of("regex:^sales_"), List.of());
+        Assert.assertTrue(new MySqlIntrospector().supportsRegexPatterns());
+        Assert.assertTrue(new PostgreSqlIntrospector().supportsRegexPatterns());
+
+        MsSqlInstrospector msSqlIntrospector = new MsSqlInstrospector();
+        Assert.assertFalse(msSqlIntrospector.supportsRegexPatterns());
+        Assert.assertThrows(BalException.class, () -> msSqlIntrospector.setTableFilter(regexFilter));
+        Assert.assertThrows(BalException.class, () -> msSqlIntrospector.setSchemaFilter(regexFilter));
+        Assert.assertEquals(msSqlIntrospector.getTableFilterCondition("tbl.name"), "");
+    }
+
+    @Test(description = "Test the invalid patterns are rejected")
+    public void testInvalidPatterns() {
+        Assert.assertThrows(BalException.class, () -> TableFilter.of(List.of(""), List.of()));
+        Assert.assertThrows(BalException.class, () -> TableFilter.of(List.of(), List.of("regex:")));
+        Assert.assertThrows(BalException.class, () -> TableFilter.of(List.of("regex:orders_(*"), List.of()));
+    }
+}
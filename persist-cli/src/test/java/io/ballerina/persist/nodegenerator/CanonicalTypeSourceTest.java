@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.nodegenerator;
+
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.nodegenerator.syntax.utils.BalSyntaxUtils;
+import io.ballerina.persist.testutils.TestModels;
+import io.ballerina.persist.utils.BalProjectUtils;
+import org.ballerinalang.formatter.core.Formatter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This class is used to test that the canonically emitted entity types are identical to the formatted entity types.
+ */
+public class CanonicalTypeSourceTest {
+
+    private static final Path MODELS_DIRECTORY = Paths.get("src", "test", "resources", "canonical-emit");
+    private static final String[] DATASTORES = {"", PersistToolsConstants.SupportedDataSources.IN_MEMORY_TABLE,
+            PersistToolsConstants.SupportedDataSources.REDIS,
+            PersistToolsConstants.SupportedDataSources.GOOGLE_SHEETS};
+
+    @DataProvider(name = "models")
+    public Object[][] models() {
+        String[] models = {"relations.bal", "users.bal"};
+        Object[][] data = new Object[models.length * DATASTORES.length][];
+        for (int i = 0; i < models.length; i++) {
+            for (int j = 0; j < DATASTORES.length; j++) {
+                data[i * DATASTORES.length + j] = new Object[]{models[i], DATASTORES[j]};
+            }
+        }
+        return data;
+    }
+
+    @Test(dataProvider = "models", description = "Test the canonical entity types are byte-identical to the " +
+            "formatted entity types")
+    public void testCanonicalTypeSource(String model, String datastore) throws Exception {
+        Module entityModule = BalProjectUtils.getEntities(MODELS_DIRECTORY.resolve(model));
+        String canonicalSource = BalSyntaxUtils.generateCanonicalTypeSource(entityModule, datastore);
+        Assert.assertNotNull(canonicalSource, "the model should be emitted canonically: " + model);
+        String formattedSource = Formatter.format(
+                BalSyntaxUtils.generateTypeSyntaxTree(entityModule, datastore).toSourceCode());
+        Assert.assertEquals(canonicalSource, formattedSource);
+    }
+
+    @Test(description = "Test the canonical entity types of every test model are byte-identical to the formatted " +
+            "entity types, or fall back to the formatter")
+    public void testCanonicalTypeSourceOfTestModels() throws Exception {
+        int emittedModelCount = 0;
+        for (Path modelPath : TestModels.getModelPaths()) {
+            Module entityModule = TestModels.loadModule(modelPath);
+            if (entityModule == null) {
+                continue;
+            }
+            for (String datastore : DATASTORES) {
+                String canonicalSource = BalSyntaxUtils.generateCanonicalTypeSource(entityModule, datastore);
+                if (canonicalSource == null) {
+                    continue;
+                }
+                String formattedSource = Formatter.format(
+                        BalSyntaxUtils.generateTypeSyntaxTree(entityModule, datastore).toSourceCode());
+                Assert.assertEquals(canonicalSource, formattedSource, "the entity types of " + modelPath +
+                        " for the '" + datastore + "' datastore");
+                emittedModelCount++;
+            }
+        }
+        Assert.assertTrue(emittedModelCount > 0, "no test model is emitted canonically");
+    }
+
+    @Test(description = "Test the canonical entity types fall back to the formatter for empty records")
+    public void testCanonicalTypeSourceFallback() throws Exception {
+        Module entityModule = BalProjectUtils.getEntities(MODELS_DIRECTORY.resolve("keys_only.bal"));
+        Assert.assertNull(BalSyntaxUtils.generateCanonicalTypeSource(entityModule, ""));
+    }
+}
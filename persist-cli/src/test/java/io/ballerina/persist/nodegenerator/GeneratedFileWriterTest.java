@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.nodegenerator;
+
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.testutils.TestModels;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * This class is used to test the generated files are written atomically and only when their content changes.
+ */
+public class GeneratedFileWriterTest {
+
+    private static final Path MODEL_PATH = Paths.get("src", "test", "resources", "canonical-emit", "relations.bal");
+    private static final FileTime MODIFIED_TIME = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+
+    private Path directory;
+
+    @BeforeMethod
+    public void createDirectory() throws Exception {
+        directory = Files.createTempDirectory("persist-writer");
+    }
+
+    @AfterMethod
+    public void deleteDirectory() throws Exception {
+        TestModels.deleteDirectory(directory);
+    }
+
+    @Test(description = "Test an unchanged file is not rewritten and keeps its modification time")
+    public void testUnchangedFile() throws Exception {
+        Path path = directory.resolve("persist_types.bal");
+        Files.writeString(path, "type A record {};", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(path, MODIFIED_TIME);
+
+        GeneratedFileWriter writer = new GeneratedFileWriter();
+        Assert.assertFalse(writer.write(path, "type A record {};"));
+        Assert.assertEquals(Files.getLastModifiedTime(path), MODIFIED_TIME);
+        Assert.assertEquals(writer.getWrittenFileCount(), 0);
+        Assert.assertEquals(writer.getUnchangedFileCount(), 1);
+    }
+
+    @Test(description = "Test a changed file is replaced and no temporary file is left behind")
+    public void testChangedFile() throws Exception {
+        Path path = directory.resolve("persist_types.bal");
+        Files.writeString(path, "type A record {};", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(path, MODIFIED_TIME);
+
+        GeneratedFileWriter writer = new GeneratedFileWriter();
+        Assert.assertTrue(writer.write(path, "type B record {};"));
+        Assert.assertTrue(writer.write(directory.resolve("persist_client.bal"), "client"));
+        Assert.assertEquals(Files.readString(path), "type B record {};");
+        Assert.assertNotEquals(Files.getLastModifiedTime(path), MODIFIED_TIME);
+        Assert.assertEquals(listFileNames(), List.of("persist_client.bal", "persist_types.bal"));
+        Assert.assertEquals(writer.getWrittenFileCount(), 2);
+        Assert.assertEquals(writer.getUnchangedFileCount(), 0);
+    }
+
+    @Test(description = "Test the updated and unchanged file counts reported by the generation")
+    public void testGenerationFileCounts() throws Exception {
+        Path generatedSourceDirPath = directory.resolve("generated");
+        SourceGenerator sourceGenerator = generate(generatedSourceDirPath);
+        Assert.assertEquals(sourceGenerator.getWrittenFileCount(), 2);
+        Assert.assertEquals(sourceGenerator.getUnchangedFileCount(), 0);
+
+        sourceGenerator = generate(generatedSourceDirPath);
+        Assert.assertEquals(sourceGenerator.getWrittenFileCount(), 0);
+        Assert.assertEquals(sourceGenerator.getUnchangedFileCount(), 2);
+
+        Files.writeString(generatedSourceDirPath.resolve("persist_client.bal"), "// edited");
+        sourceGenerator = generate(generatedSourceDirPath);
+        Assert.assertEquals(sourceGenerator.getWrittenFileCount(), 1);
+        Assert.assertEquals(sourceGenerator.getUnchangedFileCount(), 1);
+    }
+
+    private SourceGenerator generate(Path generatedSourceDirPath) throws Exception {
+        Module entityModule = TestModels.loadModule(MODEL_PATH);
+        Assert.assertNotNull(entityModule);
+        SourceGenerator sourceGenerator = new SourceGenerator(directory.toString(), generatedSourceDirPath,
+                "writer_test", entityModule);
+        sourceGenerator.createInMemorySources();
+        return sourceGenerator;
+    }
+
+    private List<String> listFileNames() throws Exception {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.map(path -> String.valueOf(path.getFileName())).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.nodegenerator;
+
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.testutils.TestModels;
+import io.ballerina.persist.utils.SchemaLoader;
+import io.ballerina.persist.utils.TimingTrace;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class is used to test the timing trace of the code generation phases.
+ */
+public class GenerationTimingTest {
+
+    private static final Path MODEL_PATH = Paths.get("src", "test", "resources", "canonical-emit", "relations.bal");
+
+    @Test(description = "Test the phases of the code generation are recorded and reported")
+    public void testTimingReport() throws Exception {
+        Path projectPath = Files.createTempDirectory("persist-timings");
+        try {
+            TimingTrace timingTrace = TimingTrace.create("generation test", true);
+            SchemaLoader schemaLoader = new SchemaLoader();
+            Module entityModule = timingTrace.measure("parse model", () -> schemaLoader.load(MODEL_PATH))
+                    .getModule(timingTrace);
+            SourceGenerator sourceGenerator = new SourceGenerator(projectPath.toString(),
+                    projectPath.resolve("generated"), "timings", entityModule);
+            sourceGenerator.setTimingTrace(timingTrace);
+            sourceGenerator.createDbSources(PersistToolsConstants.SupportedDataSources.MYSQL_DB);
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            timingTrace.report(projectPath, new PrintStream(output, true, StandardCharsets.UTF_8));
+            String table = output.toString(StandardCharsets.UTF_8);
+            String json = Files.readString(projectPath.resolve(PersistToolsConstants.TARGET_DIRECTORY)
+                    .resolve(PersistToolsConstants.TIMINGS_REPORT_FILE));
+            for (String phase : new String[]{"parse model", "build entity model", "infer relations",
+                    "build persist_types.bal", "format persist_types.bal", "write persist_types.bal",
+                    "build persist_client.bal", "format persist_client.bal", "write persist_client.bal",
+                    "build script.sql", "write script.sql"}) {
+                Assert.assertTrue(table.contains(phase), "the phase is not reported: " + phase);
+                Assert.assertTrue(json.contains("\"name\": \"" + phase + "\""), "the phase is not written: " +
+                        phase);
+            }
+        } finally {
+            TestModels.deleteDirectory(projectPath);
+        }
+    }
+
+    @Test(description = "Test the total of the report does not count the nested phases twice")
+    public void testNestedPhasesTotal() throws Exception {
+        Path projectPath = Files.createTempDirectory("persist-timings");
+        try {
+            TimingTrace timingTrace = TimingTrace.create("nested test", true);
+            timingTrace.run("outer", () -> {
+                timingTrace.run("inner", () -> Thread.sleep(5));
+                Thread.sleep(5);
+            });
+            timingTrace.report(projectPath, new PrintStream(new ByteArrayOutputStream(), true,
+                    StandardCharsets.UTF_8));
+            String json = Files.readString(projectPath.resolve(PersistToolsConstants.TARGET_DIRECTORY)
+                    .resolve(PersistToolsConstants.TIMINGS_REPORT_FILE));
+            Matcher total = Pattern.compile("\"total\": \\{\"runs\": (\\d+), \"wallTimeNanos\": (\\d+)")
+                    .matcher(json);
+            Matcher outer = Pattern.compile("\"name\": \"outer\", \"runs\": 1, \"wallTimeNanos\": (\\d+)")
+                    .matcher(json);
+            Assert.assertTrue(total.find() && outer.find(), json);
+            Assert.assertEquals(total.group(1), "1");
+            Assert.assertEquals(total.group(2), outer.group(1));
+        } finally {
+            TestModels.deleteDirectory(projectPath);
+        }
+    }
+
+    @Test(description = "Test a disabled timing trace does not record anything")
+    public void testDisabledTrace() throws Exception {
+        TimingTrace timingTrace = TimingTrace.disabled();
+        Assert.assertFalse(timingTrace.isEnabled());
+        Assert.assertEquals(timingTrace.measure("phase", () -> "result"), "result");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        timingTrace.report(Paths.get("non-existent"), new PrintStream(output, true, StandardCharsets.UTF_8));
+        Assert.assertEquals(output.size(), 0);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.nodegenerator;
+
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.EntityField;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.nodegenerator.syntax.utils.SqlScriptUtils;
+import io.ballerina.persist.testutils.ModelSynthesizer;
+import io.ballerina.persist.utils.BalProjectUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * This class is used to test the code generation of large synthesized models.
+ */
+public class LargeModelGenerationTest {
+
+    private static final int ENTITY_COUNT = 2000;
+
+    @Test(description = "Test the model synthesizer is deterministic for a seed")
+    public void testSynthesizerIsDeterministic() {
+        Assert.assertEquals(getSynthesizer(7, 100).generate(), getSynthesizer(7, 100).generate());
+        Assert.assertNotEquals(getSynthesizer(7, 100).generate(), getSynthesizer(8, 100).generate());
+    }
+
+    @Test(description = "Test the sources of a large synthesized model are generated")
+    public void testLargeModelGeneration() throws Exception {
+        Path projectPath = Files.createTempDirectory("persist-large-model");
+        try {
+            Path modelPath = getSynthesizer(42, ENTITY_COUNT).writeModel(projectPath);
+            Module entityModule = BalProjectUtils.getEntities(modelPath);
+            Assert.assertEquals(entityModule.getEntityMap().size(), ENTITY_COUNT);
+            Assert.assertEquals(entityModule.getEnumMap().size(), 5);
+            for (Entity entity : entityModule.getEntityMap().values()) {
+                for (EntityField field : entity.getFields()) {
+                    if (entityModule.getEntityMap().containsKey(field.getFieldType())) {
+                        Assert.assertNotNull(field.getRelation(), "the relation is not inferred: " +
+                                entity.getEntityName() + "." + field.getFieldName());
+                    }
+                }
+            }
+
+            String[] sqlScript = SqlScriptUtils.generateSqlScript(entityModule.getEntityMap().values(),
+                    PersistToolsConstants.SupportedDataSources.MYSQL_DB);
+            Assert.assertEquals(Stream.of(sqlScript).filter(line -> line.contains("CREATE TABLE")).count(),
+                    ENTITY_COUNT);
+
+            Path generatedPath = projectPath.resolve("generated");
+            SourceGenerator sourceGenerator = new SourceGenerator(projectPath.toString(), generatedPath,
+                    "large_model", entityModule);
+            sourceGenerator.createDbSources(PersistToolsConstants.SupportedDataSources.MYSQL_DB);
+            String types = Files.readString(generatedPath.resolve("persist_types.bal"));
+            Assert.assertTrue(types.contains("public type " + ModelSynthesizer.ENTITY_PREFIX + (ENTITY_COUNT - 1)));
+            Assert.assertTrue(Files.exists(generatedPath.resolve("persist_client.bal")));
+            Assert.assertTrue(Files.exists(generatedPath.resolve(PersistToolsConstants.SQL_SCHEMA_FILE)));
+        } finally {
+            try (Stream<Path> paths = Files.walk(projectPath)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    private static ModelSynthesizer getSynthesizer(long seed, int entityCount) {
+        ModelSynthesizer.Builder synthesizer = ModelSynthesizer.newBuilder(seed, entityCount);
+        synthesizer.setFieldsPerEntity(6);
+        synthesizer.setRelationRatio(0.7);
+        synthesizer.setOneToOneRatio(0.3);
+        synthesizer.setCompositeKeyRatio(0.2);
+        synthesizer.setEnumCount(5);
+        synthesizer.setIndexCount(2);
+        return synthesizer.build();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.nodegenerator;
+
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.EntityField;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.nodegenerator.syntax.constants.BalSyntaxConstants;
+import io.ballerina.persist.nodegenerator.syntax.utils.BalSyntaxUtils;
+import io.ballerina.persist.utils.BalProjectUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This class is used to test that the resource functions built from the parsed templates are identical to the
+ * resource functions parsed from the formatted templates.
+ */
+public class NodeTemplatesTest {
+
+    private static final Path MODELS_DIRECTORY = Paths.get("src", "test", "resources", "canonical-emit");
+
+    @Test(description = "Test the get resource functions built from the parsed templates")
+    public void testGetFunctions() throws Exception {
+        Module entityModule = BalProjectUtils.getEntities(MODELS_DIRECTORY.resolve("relations.bal"));
+        for (Entity entity : entityModule.getEntityMap().values()) {
+            String expected = NodeParser.parseObjectMember(String.format(
+                    BalSyntaxConstants.EXTERNAL_GET_METHOD_TEMPLATE, entity.getClientResourceName(),
+                    entity.getEntityName(), "inmemory", "InMemoryProcessor")).toSourceCode();
+            Assert.assertEquals(BalSyntaxUtils.generateGetFunction(entity, "InMemoryProcessor", "inmemory")
+                    .toSourceCode(), expected);
+
+            StringBuilder keys = new StringBuilder();
+            for (EntityField keyField : entity.getKeys()) {
+                if (keys.length() > 0) {
+                    keys.append("/");
+                }
+                keys.append("[").append(keyField.getFieldType()).append(" ").append(keyField.getFieldName())
+                        .append("]");
+            }
+            expected = NodeParser.parseObjectMember(String.format(
+                    BalSyntaxConstants.EXTERNAL_GET_BY_KEY_METHOD_TEMPLATE, entity.getClientResourceName(), keys,
+                    entity.getEntityName(), "inmemory", "InMemoryProcessor")).toSourceCode();
+            Assert.assertEquals(BalSyntaxUtils.generateGetByKeyFunction(entity, "InMemoryProcessor", "inmemory")
+                    .toSourceCode(), expected);
+        }
+    }
+}
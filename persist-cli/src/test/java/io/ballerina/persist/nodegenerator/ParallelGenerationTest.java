@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.nodegenerator;
+
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.PersistToolsConstants.SupportedDataSources;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.testutils.TestModels;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * This class is used to test the parallel generation writes the same files as the serial generation.
+ */
+public class ParallelGenerationTest {
+
+    private static final String[] DATASTORES = {SupportedDataSources.MYSQL_DB, SupportedDataSources.IN_MEMORY_TABLE,
+            SupportedDataSources.POSTGRESQL_DB, SupportedDataSources.REDIS, SupportedDataSources.MSSQL_DB,
+            SupportedDataSources.GOOGLE_SHEETS};
+    private static final int PARALLELISM = 4;
+
+    @Test(description = "Test the parallel and serial generation produce byte-identical files for the test models")
+    public void testParallelGenerationOfTestModels() throws Exception {
+        List<Path> modelPaths = TestModels.getModelPaths();
+        int generatedModelCount = 0;
+        for (int i = 0; i < modelPaths.size(); i++) {
+            Path modelPath = modelPaths.get(i);
+            if (TestModels.loadModule(modelPath) == null) {
+                continue;
+            }
+            // Each model is generated for one data store, so that every data store is covered by many models.
+            String datastore = DATASTORES[i % DATASTORES.length];
+            Path projectPath = Files.createTempDirectory("persist-parallel");
+            try {
+                String serialError = generate(modelPath, datastore, projectPath.resolve("serial"), 1);
+                String parallelError = generate(modelPath, datastore, projectPath.resolve("parallel"), PARALLELISM);
+                Assert.assertEquals(parallelError, serialError, "the generation error of " + modelPath);
+                Assert.assertEquals(readFiles(projectPath.resolve("parallel")),
+                        readFiles(projectPath.resolve("serial")), "the files generated for " + modelPath);
+                if (serialError == null) {
+                    generatedModelCount++;
+                }
+            } finally {
+                TestModels.deleteDirectory(projectPath);
+            }
+        }
+        Assert.assertTrue(generatedModelCount > 0, "no test model is generated");
+    }
+
+    /**
+     * Generates the sources of the given model with the given parallelism and returns the message of the generation
+     * error, or null if the sources are generated.
+     */
+    private static String generate(Path modelPath, String datastore, Path sourcePath, int parallelism)
+            throws IOException {
+        Files.createDirectories(sourcePath);
+        Module entityModule = TestModels.loadModule(modelPath);
+        SourceGenerator sourceGenerator = new SourceGenerator(sourcePath.toString(), sourcePath.resolve("generated"),
+                "parallel_test", entityModule);
+        sourceGenerator.setParallelism(parallelism);
+        try {
+            switch (datastore) {
+                case SupportedDataSources.IN_MEMORY_TABLE -> sourceGenerator.createInMemorySources();
+                case SupportedDataSources.REDIS -> sourceGenerator.createRedisSources();
+                case SupportedDataSources.GOOGLE_SHEETS -> sourceGenerator.createGSheetSources();
+                default -> {
+                    sourceGenerator.createDbSources(datastore);
+                    sourceGenerator.createTestDataSources(SupportedDataSources.H2_DB);
+                }
+            }
+            return null;
+        } catch (BalException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static Map<String, String> readFiles(Path directory) throws IOException {
+        Map<String, String> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                files.put(directory.relativize(path).toString(), Files.readString(path));
+            }
+        }
+        return files;
+    }
+}
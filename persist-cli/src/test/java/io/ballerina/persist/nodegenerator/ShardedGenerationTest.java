@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.nodegenerator;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.PersistToolsConstants.SupportedDataSources;
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.EntityField;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.testutils.TestModels;
+import io.ballerina.persist.utils.BalProjectUtils;
+import io.ballerina.tools.text.TextDocuments;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * This class is used to test the sharded layout writes the same types as the single types file.
+ */
+public class ShardedGenerationTest {
+
+    private static final String TYPES_FILE_PREFIX = "persist_types";
+    private static final Pattern TYPE_DEFINITION = Pattern.compile("(?m)^public (?:type|enum) (\\S+)");
+
+    @Test(description = "Test the sharded layout of the test models parses and defines the same types as the " +
+            "single types file")
+    public void testShardedGenerationOfTestModels() throws Exception {
+        int generatedModelCount = 0;
+        for (Path modelPath : TestModels.getModelPaths()) {
+            if (TestModels.loadModule(modelPath) == null) {
+                continue;
+            }
+            Path projectPath = Files.createTempDirectory("persist-sharded");
+            try {
+                String singleError = generate(modelPath, projectPath.resolve("single"), false);
+                String shardedError = generate(modelPath, projectPath.resolve("sharded"), true);
+                if (singleError != null) {
+                    continue;
+                }
+                Assert.assertNull(shardedError, "the sharded generation error of " + modelPath);
+                Map<String, String> singleFiles = readFiles(projectPath.resolve("single"));
+                Map<String, String> shardedFiles = readFiles(projectPath.resolve("sharded"));
+                for (Map.Entry<String, String> file : shardedFiles.entrySet()) {
+                    SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(file.getValue()));
+                    Assert.assertFalse(syntaxTree.hasDiagnostics(), "the syntax errors of " + file.getKey() +
+                            " generated for " + modelPath);
+                }
+                Assert.assertEquals(getTypeNames(shardedFiles), getTypeNames(singleFiles),
+                        "the types generated for " + modelPath);
+                singleFiles.keySet().removeIf(fileName -> fileName.startsWith(TYPES_FILE_PREFIX));
+                shardedFiles.keySet().removeIf(fileName -> fileName.startsWith(TYPES_FILE_PREFIX));
+                Assert.assertEquals(shardedFiles, singleFiles, "the other files generated for " + modelPath);
+                generatedModelCount++;
+            } finally {
+                TestModels.deleteDirectory(projectPath);
+            }
+        }
+        Assert.assertTrue(generatedModelCount > 0, "no test model is generated");
+    }
+
+    @Test(description = "Test the sharded layout fails when two entities are written to the same types file")
+    public void testEntityTypesFileNameCollision() throws Exception {
+        Module.Builder moduleBuilder = Module.newBuilder("sharded_test");
+        moduleBuilder.addEntity("UserRole", createEntity("UserRole"));
+        moduleBuilder.addEntity("User_role", createEntity("User_role"));
+        Path projectPath = Files.createTempDirectory("persist-sharded");
+        try {
+            SourceGenerator sourceGenerator = new SourceGenerator(projectPath.toString(),
+                    projectPath.resolve("generated"), "sharded_test", moduleBuilder.build());
+            sourceGenerator.setSharded(true);
+            BalException exception = Assert.expectThrows(BalException.class, sourceGenerator::createInMemorySources);
+            Assert.assertEquals(exception.getMessage(), "the types of the `UserRole` and `User_role` entities are " +
+                    "both written to the persist_types_user_role.bal file in the sharded layout. rename one of the " +
+                    "entities or generate the types without the sharded layout.");
+        } finally {
+            TestModels.deleteDirectory(projectPath);
+        }
+    }
+
+    @Test(description = "Test the skip types formatting option is rejected with the sharded layout")
+    public void testSkipTypesFormattingWithShardedLayout() throws Exception {
+        BalException exception = Assert.expectThrows(BalException.class,
+                () -> BalProjectUtils.validateGenerationOptions(true, true));
+        Assert.assertEquals(exception.getMessage(), "the skip types formatting option cannot be used with the " +
+                "sharded layout, as the types files of the sharded layout are always formatted. remove one of the " +
+                "options and try again.");
+        BalProjectUtils.validateGenerationOptions(true, false);
+        BalProjectUtils.validateGenerationOptions(false, true);
+    }
+
+    /**
+     * Generates the sources of the given model and returns the message of the generation error, or null if the
+     * sources are generated.
+     */
+    private static String generate(Path modelPath, Path sourcePath, boolean sharded) throws IOException {
+        Files.createDirectories(sourcePath);
+        SourceGenerator sourceGenerator = new SourceGenerator(sourcePath.toString(), sourcePath.resolve("generated"),
+                "sharded_test", TestModels.loadModule(modelPath));
+        sourceGenerator.setSharded(sharded);
+        try {
+            sourceGenerator.createDbSources(SupportedDataSources.MYSQL_DB);
+            return null;
+        } catch (BalException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static Entity createEntity(String entityName) {
+        EntityField.Builder fieldBuilder = EntityField.newBuilder("id");
+        fieldBuilder.setType("int");
+        fieldBuilder.setFieldColumnName("id");
+        EntityField key = fieldBuilder.build();
+        Entity.Builder entityBuilder = Entity.newBuilder(entityName);
+        entityBuilder.addField(key);
+        entityBuilder.setKeys(List.of(key));
+        return entityBuilder.build();
+    }
+
+    private static List<String> getTypeNames(Map<String, String> files) {
+        List<String> typeNames = new ArrayList<>();
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            if (!file.getKey().startsWith(TYPES_FILE_PREFIX)) {
+                continue;
+            }
+            Matcher matcher = TYPE_DEFINITION.matcher(file.getValue());
+            while (matcher.find()) {
+                typeNames.add(matcher.group(1));
+            }
+        }
+        typeNames.sort(null);
+        return typeNames;
+    }
+
+    private static Map<String, String> readFiles(Path sourcePath) throws IOException {
+        Map<String, String> files = new TreeMap<>();
+        Path generatedPath = sourcePath.resolve("generated");
+        try (Stream<Path> paths = Files.list(generatedPath)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                files.put(String.valueOf(path.getFileName()), Files.readString(path));
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.nodegenerator.SourceGenerator.Artifact;
+import io.ballerina.persist.testutils.TestModels;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * This class is used to test the build tool cache detects the stale generated artifacts.
+ */
+public class GenerationCacheTest {
+
+    private static final String DATASTORE = PersistToolsConstants.SupportedDataSources.MYSQL_DB;
+    private static final GenerationCache.Inputs INPUTS = new GenerationCache.Inputs("schema", "options", "config",
+            "version");
+    private static final Set<Artifact> ARTIFACTS = EnumSet.of(Artifact.DATASTORE_CONFIG, Artifact.CONFIG_TOML,
+            Artifact.TYPES, Artifact.CLIENT);
+
+    private Path cachePath;
+    private Path generatedSourceDirPath;
+
+    @BeforeMethod
+    public void createDirectories() throws Exception {
+        cachePath = Files.createTempDirectory("persist-cache");
+        generatedSourceDirPath = Files.createTempDirectory("persist-generated");
+        Files.writeString(generatedSourceDirPath.resolve("persist_db_config.bal"), "config");
+        Files.writeString(generatedSourceDirPath.resolve("persist_types.bal"), "enums");
+        Files.writeString(generatedSourceDirPath.resolve("persist_types_user.bal"), "user");
+        Files.writeString(generatedSourceDirPath.resolve("persist_types_post.bal"), "post");
+        Files.writeString(generatedSourceDirPath.resolve("persist_client.bal"), "client");
+        GenerationCache cache = GenerationCache.load(cachePath);
+        cache.update(INPUTS, ARTIFACTS, generatedSourceDirPath, DATASTORE);
+        cache.save(cachePath);
+    }
+
+    @AfterMethod
+    public void deleteDirectories() throws Exception {
+        TestModels.deleteDirectory(cachePath);
+        TestModels.deleteDirectory(generatedSourceDirPath);
+    }
+
+    @Test(description = "Test no artifact is stale when neither the inputs nor the generated files changed")
+    public void testUnchangedOutputs() throws Exception {
+        Assert.assertEquals(getStaleArtifacts(INPUTS), Set.of());
+    }
+
+    @Test(description = "Test an empty cache marks every artifact as stale")
+    public void testEmptyCache() throws Exception {
+        GenerationCache cache = GenerationCache.load(cachePath.resolve("missing"));
+        Assert.assertEquals(cache.getStaleArtifacts(INPUTS, ARTIFACTS, generatedSourceDirPath, DATASTORE),
+                ARTIFACTS);
+    }
+
+    @Test(description = "Test a change to the model only makes the artifacts built from the model stale")
+    public void testChangedSchema() throws Exception {
+        GenerationCache.Inputs inputs = new GenerationCache.Inputs("changed", INPUTS.options(), INPUTS.config(),
+                INPUTS.version());
+        Assert.assertEquals(getStaleArtifacts(inputs), Set.of(Artifact.TYPES, Artifact.CLIENT));
+    }
+
+    @Test(description = "Test a change to the tool options makes every artifact stale")
+    public void testChangedOptions() throws Exception {
+        GenerationCache.Inputs inputs = new GenerationCache.Inputs(INPUTS.schema(), "changed", INPUTS.config(),
+                INPUTS.version());
+        Assert.assertEquals(getStaleArtifacts(inputs), ARTIFACTS);
+    }
+
+    @Test(description = "Test an edited per-entity types file makes the types artifact stale")
+    public void testEditedShard() throws Exception {
+        Files.writeString(generatedSourceDirPath.resolve("persist_types_user.bal"), "edited");
+        Assert.assertEquals(getStaleArtifacts(INPUTS), Set.of(Artifact.TYPES));
+    }
+
+    @Test(description = "Test a deleted per-entity types file makes the types artifact stale")
+    public void testDeletedShard() throws Exception {
+        Files.delete(generatedSourceDirPath.resolve("persist_types_post.bal"));
+        Assert.assertEquals(getStaleArtifacts(INPUTS), Set.of(Artifact.TYPES));
+    }
+
+    @Test(description = "Test an added per-entity types file makes the types artifact stale")
+    public void testAddedShard() throws Exception {
+        Files.writeString(generatedSourceDirPath.resolve("persist_types_comment.bal"), "comment");
+        Assert.assertEquals(getStaleArtifacts(INPUTS), Set.of(Artifact.TYPES));
+    }
+
+    @Test(description = "Test an edited or deleted client file makes only the client artifact stale")
+    public void testEditedClient() throws Exception {
+        Files.writeString(generatedSourceDirPath.resolve("persist_client.bal"), "edited");
+        Assert.assertEquals(getStaleArtifacts(INPUTS), Set.of(Artifact.CLIENT));
+        Files.delete(generatedSourceDirPath.resolve("persist_client.bal"));
+        Assert.assertEquals(getStaleArtifacts(INPUTS), Set.of(Artifact.CLIENT));
+    }
+
+    private Set<Artifact> getStaleArtifacts(GenerationCache.Inputs inputs) throws Exception {
+        return GenerationCache.load(cachePath).getStaleArtifacts(inputs, ARTIFACTS, generatedSourceDirPath,
+                DATASTORE);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.introspectiondto.SqlColumn;
+import io.ballerina.persist.introspectiondto.SqlEnum;
+import io.ballerina.persist.introspectiondto.SqlForeignKey;
+import io.ballerina.persist.introspectiondto.SqlIndex;
+import io.ballerina.persist.introspectiondto.SqlTable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This class is used to test the binary snapshot of the introspected database schema.
+ */
+public class IntrospectionSnapshotTest {
+
+    private static final String KEY = "mysql://localhost:3306/store:version";
+
+    @Test(description = "Test the tables, enums and fingerprints read from a snapshot match the written ones")
+    public void testRoundTrip() throws Exception {
+        IntrospectionSnapshot snapshot = createSnapshot();
+        Path snapshotPath = Files.createTempFile("persist-introspection", ".snapshot");
+        try {
+            IntrospectionSnapshot.write(snapshotPath, snapshot);
+            IntrospectionSnapshot readSnapshot = IntrospectionSnapshot.read(snapshotPath).orElseThrow();
+            Assert.assertEquals(readSnapshot.getKey(), KEY);
+            Assert.assertEquals(readSnapshot.getDatastore(), "mysql");
+            Assert.assertEquals(readSnapshot.getTableFingerprints(), Map.of("orders", "2-1234", "customers", "3-42"));
+            Assert.assertEquals(describe(readSnapshot), describe(snapshot));
+        } finally {
+            Files.deleteIfExists(snapshotPath);
+        }
+    }
+
+    @Test(description = "Test the schemas of the tables, enums and foreign keys read from a snapshot match the " +
+            "written ones")
+    public void testSchemaRoundTrip() throws Exception {
+        SqlTable salesOrders = SqlTable.newBuilder("orders").setSchemaName("sales").build();
+        salesOrders.addColumn(createColumn("orders", "id", "int", true, null));
+        salesOrders.addColumn(createColumn("orders", "customer_id", "int", false, null));
+        salesOrders.addForeignKey(SqlForeignKey.Builder.newBuilder("orders_customer").setTableName("orders")
+                .addColumnName("customer_id").setReferencedSchemaName("crm").setReferencedTableName("customers")
+                .addReferencedColumnName("id").build());
+        SqlTable crmCustomers = SqlTable.newBuilder("customers").setSchemaName("crm").build();
+        crmCustomers.addColumn(createColumn("customers", "id", "int", true, null));
+        IntrospectionSnapshot snapshot = new IntrospectionSnapshot(KEY, "postgresql",
+                List.of(new SqlEnum("CHECK (tier IN ('GOLD'))", "crm", "customers", "tier")),
+                List.of(salesOrders, crmCustomers), Map.of("sales.orders", "1", "crm.customers", "2"));
+
+        IntrospectionSnapshot readSnapshot = IntrospectionSnapshot.deserialize(
+                ByteBuffer.wrap(IntrospectionSnapshot.serialize(snapshot))).orElseThrow();
+        Assert.assertEquals(readSnapshot.getTables().get(0).getQualifiedName(), "sales.orders");
+        Assert.assertEquals(readSnapshot.getTables().get(1).getQualifiedName(), "crm.customers");
+        Assert.assertEquals(readSnapshot.getTableFingerprints(), Map.of("sales.orders", "1", "crm.customers", "2"));
+        Assert.assertEquals(describe(readSnapshot), describe(snapshot));
+    }
+
+    @Test(description = "Test a missing or corrupted snapshot is not loaded")
+    public void testInvalidSnapshot() throws Exception {
+        Path snapshotPath = Files.createTempDirectory("persist-introspection")
+                .resolve(PersistToolsConstants.INTROSPECTION_SNAPSHOT_FILE);
+        Assert.assertTrue(IntrospectionSnapshot.read(snapshotPath).isEmpty());
+
+        byte[] snapshot = IntrospectionSnapshot.serialize(createSnapshot());
+        for (int length : new int[]{0, 8, snapshot.length / 2, snapshot.length - 1}) {
+            Optional<IntrospectionSnapshot> truncated = IntrospectionSnapshot.deserialize(
+                    ByteBuffer.wrap(Arrays.copyOf(snapshot, length)));
+            Assert.assertTrue(truncated.isEmpty(), "a truncated snapshot is loaded: " + length);
+        }
+        Files.deleteIfExists(snapshotPath.getParent());
+    }
+
+    private static IntrospectionSnapshot createSnapshot() {
+        SqlTable customers = SqlTable.newBuilder("customers").build();
+        customers.addColumn(createColumn("customers", "id", "int", true, null));
+        customers.addColumn(createColumn("customers", "name", "varchar", false, null));
+        customers.addColumn(createColumn("customers", "tier", "enum", false, "enum('GOLD','SILVER')"));
+        customers.addIndex(SqlIndex.Builder.newBuilder("customer_name").setTableName("customers")
+                .addColumnName("name").setUnique(true).build());
+
+        SqlTable orders = SqlTable.newBuilder("orders").build();
+        orders.addColumn(createColumn("orders", "id", "int", true, null));
+        orders.addColumn(createColumn("orders", "customer_id", "int", false, null));
+        orders.addForeignKey(SqlForeignKey.Builder.newBuilder("orders_customer").setTableName("orders")
+                .addColumnName("customer_id").setReferencedTableName("customers").addReferencedColumnName("id")
+                .setUpdateRule("CASCADE").build());
+        orders.addIndex(SqlIndex.Builder.newBuilder("orders_customer_index").setTableName("orders")
+                .addColumnName("customer_id").addColumnName("id").build());
+
+        return new IntrospectionSnapshot(KEY, "mysql",
+                List.of(new SqlEnum("enum('GOLD','SILVER')", "customers", "tier")), List.of(customers, orders),
+                Map.of("orders", "2-1234", "customers", "3-42"));
+    }
+
+    private static SqlColumn createColumn(String tableName, String columnName, String dataType, boolean primaryKey,
+                                          String fullDataType) {
+        return SqlColumn.newBuilder(columnName)
+                .setTableName(tableName)
+                .setDataType(dataType)
+                .setFullDataType(fullDataType == null ? dataType : fullDataType)
+                .setCharacterMaximumLength(dataType.equals("varchar") ? "191" : null)
+                .setNumericPrecision(dataType.equals("int") ? "10" : null)
+                .setNumericScale(dataType.equals("int") ? "0" : null)
+                .setIsNullable(primaryKey ? "NO" : "YES")
+                .setIsPrimaryKey(primaryKey)
+                .setIsDbGenerated(primaryKey)
+                .build();
+    }
+
+    private static List<String> describe(IntrospectionSnapshot snapshot) {
+        List<String> description = new ArrayList<>();
+        for (SqlEnum sqlEnum : snapshot.getEnums()) {
+            description.add(String.join(",", "enum", sqlEnum.getFullEnumText(), sqlEnum.getEnumSchemaName(),
+                    sqlEnum.getEnumTableName(), sqlEnum.getEnumColumnName()));
+        }
+        for (SqlTable table : snapshot.getTables()) {
+            description.add("table," + table.getSchemaName() + "," + table.getTableName());
+            for (SqlColumn column : table.getColumns()) {
+                description.add(String.join(",", "column", column.getColumnName(), column.getTableName(),
+                        column.getDataType(), column.getFullDataType(), column.getCharacterMaximumLength(),
+                        column.getNumericPrecision(), column.getNumericScale(), column.getColumnDefault(),
+                        column.getIsNullable(), String.valueOf(column.getIsPrimaryKey()),
+                        String.valueOf(column.isDbGenerated()), column.getCheckConstraint()));
+            }
+            for (SqlForeignKey foreignKey : table.getSqlForeignKeys()) {
+                description.add(String.join(",", "foreign_key", foreignKey.getConstraintName(),
+                        foreignKey.getTableName(), foreignKey.getColumnNames().toString(),
+                        foreignKey.getReferencedSchemaName(), foreignKey.getReferencedTableName(),
+                        foreignKey.getReferencedColumnNames().toString(),
+                        foreignKey.getUpdateRule(), foreignKey.getDeleteRule()));
+            }
+            for (SqlIndex index : table.getIndexes()) {
+                description.add(String.join(",", "index", index.getIndexName(), index.getTableName(),
+                        index.getColumnNames().toString(), String.valueOf(index.getUnique())));
+            }
+        }
+        return description;
+    }
+}
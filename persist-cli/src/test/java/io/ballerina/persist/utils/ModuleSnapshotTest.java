@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.nodegenerator.SourceGenerator;
+import io.ballerina.persist.testutils.ModelSynthesizer;
+import io.ballerina.persist.testutils.TestModels;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * This class is used to test the binary snapshot of the entity module.
+ */
+public class ModuleSnapshotTest {
+
+    private static final String KEY = ModuleSnapshot.getKey("schema", "version");
+    private static final String[] GENERATED_FILES = {"persist_types.bal", "persist_client.bal",
+            PersistToolsConstants.SQL_SCHEMA_FILE};
+
+    @Test(description = "Test the sources generated from a snapshot match the sources generated from the model")
+    public void testRelationsRoundTrip() throws Exception {
+        assertRoundTrip(Paths.get("src", "test", "resources", "canonical-emit", "relations.bal"));
+    }
+
+    @Test(description = "Test the sources generated from the snapshot of a synthesized model match the sources " +
+            "generated from the model")
+    public void testSynthesizedModelRoundTrip() throws Exception {
+        Path projectPath = Files.createTempDirectory("persist-snapshot-model");
+        try {
+            ModelSynthesizer.Builder synthesizer = ModelSynthesizer.newBuilder(11, 200);
+            synthesizer.setRelationRatio(0.7);
+            synthesizer.setOneToOneRatio(0.3);
+            synthesizer.setCompositeKeyRatio(0.2);
+            synthesizer.setEnumCount(3);
+            synthesizer.setIndexCount(2);
+            assertRoundTrip(synthesizer.build().writeModel(projectPath));
+        } finally {
+            TestModels.deleteDirectory(projectPath);
+        }
+    }
+
+    @Test(description = "Test a snapshot with another key or a corrupted snapshot is not loaded")
+    public void testInvalidSnapshot() throws Exception {
+        Path projectPath = Files.createTempDirectory("persist-snapshot");
+        try {
+            Module entityModule = BalProjectUtils.getEntities(
+                    Paths.get("src", "test", "resources", "canonical-emit", "relations.bal"));
+            Path snapshotPath = projectPath.resolve(PersistToolsConstants.MODULE_SNAPSHOT_FILE);
+            Assert.assertTrue(ModuleSnapshot.read(snapshotPath, KEY).isEmpty());
+            ModuleSnapshot.write(snapshotPath, KEY, entityModule);
+            Assert.assertTrue(ModuleSnapshot.read(snapshotPath, KEY).isPresent());
+            Assert.assertTrue(ModuleSnapshot.read(snapshotPath, ModuleSnapshot.getKey("other", "version")).isEmpty());
+
+            byte[] snapshot = ModuleSnapshot.serialize(KEY, entityModule);
+            for (int length : new int[]{0, 8, snapshot.length / 2, snapshot.length - 1}) {
+                Optional<Module> truncated = ModuleSnapshot.deserialize(
+                        ByteBuffer.wrap(Arrays.copyOf(snapshot, length)), KEY);
+                Assert.assertTrue(truncated.isEmpty(), "a truncated snapshot is loaded: " + length);
+            }
+        } finally {
+            TestModels.deleteDirectory(projectPath);
+        }
+    }
+
+    private static void assertRoundTrip(Path modelPath) throws Exception {
+        Path projectPath = Files.createTempDirectory("persist-snapshot");
+        try {
+            Module entityModule = BalProjectUtils.getEntities(modelPath);
+            Path snapshotPath = projectPath.resolve(PersistToolsConstants.MODULE_SNAPSHOT_FILE);
+            ModuleSnapshot.write(snapshotPath, KEY, entityModule);
+            Module snapshotModule = ModuleSnapshot.read(snapshotPath, KEY).orElseThrow();
+            Assert.assertEquals(snapshotModule.getEntityMap().keySet(), entityModule.getEntityMap().keySet());
+            Assert.assertEquals(snapshotModule.getEnumMap().keySet(), entityModule.getEnumMap().keySet());
+
+            Path modelOutputPath = generate(projectPath.resolve("model"), entityModule);
+            Path snapshotOutputPath = generate(projectPath.resolve("snapshot"), snapshotModule);
+            for (String fileName : GENERATED_FILES) {
+                Assert.assertEquals(Files.readString(snapshotOutputPath.resolve(fileName)),
+                        Files.readString(modelOutputPath.resolve(fileName)), "the generated file differs: " +
+                                fileName);
+            }
+        } finally {
+            TestModels.deleteDirectory(projectPath);
+        }
+    }
+
+    private static Path generate(Path outputPath, Module entityModule) throws Exception {
+        SourceGenerator sourceGenerator = new SourceGenerator(outputPath.toString(), outputPath, "snapshot",
+                entityModule);
+        sourceGenerator.createDbSources(PersistToolsConstants.SupportedDataSources.MYSQL_DB);
+        return outputPath;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.EntityField;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.models.Relation;
+import io.ballerina.persist.testutils.TestModels;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * This class is used to test the relation inference of a model whose entities all refer to one entity. The scaling of
+ * the inference with the size of such a model is measured by the relation inference benchmark.
+ */
+public class RelationInferenceScalingTest {
+
+    private static final String HUB_ENTITY = TestModels.HUB_ENTITY;
+    private static final String ENTITY_PREFIX = TestModels.HUB_MODULE_ENTITY_PREFIX;
+
+    @Test(description = "Test the relations of a model whose entities all refer to one entity are inferred")
+    public void testRelationsInferred() {
+        Module entityModule = TestModels.buildHubModule(100);
+        BalProjectUtils.inferRelationDetails(entityModule);
+
+        Entity hub = entityModule.getEntityMap().get(HUB_ENTITY);
+        for (EntityField field : hub.getFields().subList(1, hub.getFields().size())) {
+            Assert.assertEquals(field.getRelation().getRelationType(), Relation.RelationType.MANY);
+            Assert.assertFalse(field.getRelation().isOwner());
+        }
+        for (int i = 0; i < 100; i++) {
+            Entity entity = entityModule.getEntityMap().get(ENTITY_PREFIX + i);
+            List<String> fieldNames = entity.getFields().stream().map(EntityField::getFieldName).toList();
+            Assert.assertEquals(fieldNames, List.of("id", "hub", "next", "previous"), "the fields of " +
+                    entity.getEntityName());
+            EntityField hubField = entity.getFieldByName("hub");
+            Assert.assertTrue(hubField.getRelation().isOwner());
+            Assert.assertSame(hubField.getRelation().getAssocEntity(), hub);
+            Assert.assertEquals(hubField.getRelation().getKeyColumns().get(0).getField(), "hubId");
+            Assert.assertNotNull(entity.getFieldByName("next").getRelation());
+        }
+    }
+}
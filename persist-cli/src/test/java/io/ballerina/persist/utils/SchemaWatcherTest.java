@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.testutils.TestModels;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is used to test the model definition file watcher.
+ */
+public class SchemaWatcherTest {
+
+    private static final long DEBOUNCE_MILLIS = 500;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @Test(description = "Test a burst of edits of the model definition file is reported as one change",
+            timeOut = 240000)
+    public void testDebouncedChange() throws Exception {
+        Path persistPath = Files.createTempDirectory("persist-watch");
+        Path schemaPath = Files.writeString(persistPath.resolve("model.bal"), "import ballerina/persist as _;");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (SchemaWatcher watcher = new SchemaWatcher(schemaPath, DEBOUNCE_MILLIS)) {
+            // Each reported change counts down both latches, so the second latch is released by the second change
+            CountDownLatch firstChange = new CountDownLatch(1);
+            CountDownLatch secondChange = new CountDownLatch(2);
+            Future<Integer> changeCount = executor.submit(() -> {
+                int count = 0;
+                while (watcher.awaitChange()) {
+                    count++;
+                    firstChange.countDown();
+                    secondChange.countDown();
+                }
+                return count;
+            });
+
+            Files.writeString(persistPath.resolve("notes.txt"), "not a model definition file");
+            for (int i = 0; i < 5; i++) {
+                Files.writeString(schemaPath, "import ballerina/persist as _;" + System.lineSeparator() +
+                        "// edit " + i);
+            }
+            Assert.assertTrue(firstChange.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "the burst of edits is not " +
+                    "reported");
+            Files.writeString(schemaPath, "import ballerina/persist as _;" + System.lineSeparator() +
+                    "// edit after the burst");
+            Assert.assertTrue(secondChange.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "the edit after the burst is " +
+                    "not reported");
+
+            watcher.close();
+            Assert.assertEquals(changeCount.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).intValue(), 2,
+                    "the burst of edits is not reported as one change");
+        } finally {
+            executor.shutdownNow();
+            TestModels.deleteDirectory(persistPath);
+        }
+    }
+}
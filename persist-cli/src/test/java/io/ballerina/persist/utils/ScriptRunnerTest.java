@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.introspectiondto.SqlForeignKey;
+import io.ballerina.persist.introspectiondto.SqlIndex;
+import io.ballerina.persist.introspectiondto.SqlTable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class is used to test the foreign keys and indexes of the tables are accumulated from the schema wide metadata
+ * rows.
+ */
+public class ScriptRunnerTest {
+
+    private static final int INDEX_COUNT = 200;
+    private static final int INDEX_WIDTH = 3;
+
+    @Test(description = "Test the schema wide rows of a table with 200 composite indexes are merged into its indexes")
+    public void testReadIndexesOfSQLTables() throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            for (int j = 0; j < INDEX_WIDTH; j++) {
+                rows.add(Map.of("index_name", "index_" + i, "table_name", "wide", "column_name", "column_" + (i + j),
+                        "is_unique", i % 2 == 0));
+            }
+        }
+        rows.add(Map.of("index_name", "index_0", "table_name", "narrow", "column_name", "name", "is_unique", true));
+        rows.add(Map.of("index_name", "index_0", "table_name", "skipped", "column_name", "name", "is_unique", true));
+        FakeConnection connection = new FakeConnection(rows);
+        ScriptRunner scriptRunner = new ScriptRunner(connection.create());
+        scriptRunner.setFetchSize(500);
+        SqlTable wideTable = SqlTable.newBuilder("wide").build();
+        SqlTable narrowTable = SqlTable.newBuilder("narrow").build();
+        scriptRunner.readIndexesOfSQLTables(Map.of("wide", wideTable, "narrow", narrowTable), "indexes");
+
+        Assert.assertEquals(connection.fetchSize, 500);
+        Assert.assertEquals(wideTable.getIndexes().size(), INDEX_COUNT);
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            SqlIndex index = wideTable.getIndexes().get(i);
+            Assert.assertEquals(index.getIndexName(), "index_" + i);
+            Assert.assertEquals(index.getColumnNames(), List.of("column_" + i, "column_" + (i + 1),
+                    "column_" + (i + 2)));
+            Assert.assertEquals(index.getUnique(), i % 2 == 0);
+        }
+        // An index name is only merged within its own table.
+        Assert.assertEquals(narrowTable.getIndexes().size(), 1);
+        Assert.assertEquals(narrowTable.getIndexes().get(0).getColumnNames(), List.of("name"));
+    }
+
+    @Test(description = "Test the schema wide rows of composite foreign keys are merged into their foreign keys")
+    public void testReadForeignKeysOfSQLTables() throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            for (int j = 0; j < 2; j++) {
+                rows.add(Map.of("constraint_name", "fk_" + i, "table_name", "wide", "column_name",
+                        "ref_" + i + "_" + j, "referenced_table_name", "target_" + i, "referenced_column_name",
+                        "id_" + j, "update_rule", "CASCADE", "delete_rule", "RESTRICT"));
+            }
+        }
+        rows.add(Map.of("constraint_name", "fk_0", "table_name", "skipped", "column_name", "ref",
+                "referenced_table_name", "target", "referenced_column_name", "id", "update_rule", "CASCADE",
+                "delete_rule", "RESTRICT"));
+        FakeConnection connection = new FakeConnection(rows);
+        SqlTable table = SqlTable.newBuilder("wide").build();
+        new ScriptRunner(connection.create()).readForeignKeysOfSQLTables(Map.of("wide", table), "foreign keys");
+
+        Assert.assertEquals(connection.fetchSize, 0);
+        List<SqlForeignKey> foreignKeys = table.getSqlForeignKeys();
+        Assert.assertEquals(foreignKeys.size(), INDEX_COUNT);
+        SqlForeignKey foreignKey = foreignKeys.get(INDEX_COUNT - 1);
+        Assert.assertEquals(foreignKey.getColumnNames(), List.of("ref_199_0", "ref_199_1"));
+        Assert.assertEquals(foreignKey.getReferencedTableName(), "target_199");
+        Assert.assertEquals(foreignKey.getReferencedColumnNames(), List.of("id_0", "id_1"));
+    }
+
+    /**
+     * A connection whose statements return the given rows for any query and record the fetch size set on them.
+     */
+    private static class FakeConnection {
+
+        private final List<Map<String, Object>> rows;
+        private int fetchSize;
+
+        FakeConnection(List<Map<String, Object>> rows) {
+            this.rows = rows;
+        }
+
+        Connection create() {
+            return proxy(Connection.class, (method, args) -> switch (method) {
+                case "createStatement" -> createStatement();
+                case "getAutoCommit" -> true;
+                default -> null;
+            });
+        }
+
+        private Statement createStatement() {
+            return proxy(Statement.class, (method, args) -> switch (method) {
+                case "setFetchSize" -> {
+                    fetchSize = (int) args[0];
+                    yield null;
+                }
+                case "executeQuery" -> createResultSet();
+                default -> null;
+            });
+        }
+
+        private ResultSet createResultSet() {
+            Iterator<Map<String, Object>> iterator = rows.iterator();
+            AtomicReference<Map<String, Object>> row = new AtomicReference<>();
+            return proxy(ResultSet.class, (method, args) -> switch (method) {
+                case "next" -> {
+                    row.set(iterator.hasNext() ? iterator.next() : null);
+                    yield row.get() != null;
+                }
+                case "getString" -> (String) row.get().get((String) args[0]);
+                case "getBoolean" -> Boolean.TRUE.equals(row.get().get((String) args[0]));
+                default -> null;
+            });
+        }
+    }
+
+    private interface Handler {
+        Object handle(String method, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(ScriptRunnerTest.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method.getName(), args)));
+    }
+}
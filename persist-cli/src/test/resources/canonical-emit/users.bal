@@ -0,0 +1,62 @@
+// Copyright (c) 2025 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/persist as _;
+import ballerinax/persist.sql;
+
+public enum Gender {
+    MALE = "M",
+    FEMALE = "F",
+    OTHER
+}
+
+public enum Status {
+    ACTIVE,
+    INACTIVE
+}
+
+type User record {|
+    @sql:Generated
+    readonly int id;
+    string name;
+    Gender gender;
+    string? nic;
+    decimal? salary;
+    string[] tags;
+    Status status;
+
+    Profile? profile;
+    Post[] posts;
+|};
+
+type Profile record {|
+    readonly string handle;
+    readonly string region;
+    string bio;
+    byte[]? avatar;
+
+    User owner;
+|};
+
+type Post record {|
+    @sql:Generated
+    readonly int id;
+    string title;
+    boolean published;
+
+    User author;
+|};
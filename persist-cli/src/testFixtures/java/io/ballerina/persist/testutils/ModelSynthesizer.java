@@ -0,0 +1,276 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.testutils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthesizes deterministic model definition files of any size for the scaling tests and the benchmarks.
+ * <p>
+ * The entity at index i may be related to one entity with a lower index, so the relations form a forest and every
+ * pair of entities has at most one relation. The random choices of each entity only depend on the seed and the
+ * index of the entity, so a model with more entities, synthesized with the same seed and options, contains the
+ * entities of the smaller model and only adds new entities and the relations to them.
+ *
+ * @since 1.7.0
+ */
+public class ModelSynthesizer {
+
+    public static final String ENTITY_PREFIX = "Entity";
+    public static final String MODEL_FILE = "model.bal";
+
+    private static final String PERSIST_DIRECTORY = "persist";
+    private static final String FIELD_PREFIX = "field";
+    private static final String RELATION_FIELD_PREFIX = "entity";
+    private static final String ENUM_PREFIX = "Enum";
+    private static final String ENUM_MEMBER_PREFIX = "ENUM";
+    private static final String INDENT = "    ";
+    private static final int ENUM_MEMBER_COUNT = 3;
+    private static final double ANNOTATION_RATIO = 0.3;
+    private static final double NAME_MAPPING_RATIO = 0.1;
+    private static final String[] FIELD_TYPES = {"string", "int", "boolean", "decimal", "float"};
+
+    private final long seed;
+    private final int entityCount;
+    private final int fieldsPerEntity;
+    private final double relationRatio;
+    private final double oneToOneRatio;
+    private final double compositeKeyRatio;
+    private final int enumCount;
+    private final int indexCount;
+
+    private ModelSynthesizer(Builder builder) {
+        this.seed = builder.seed;
+        this.entityCount = builder.entityCount;
+        this.fieldsPerEntity = builder.fieldsPerEntity;
+        this.relationRatio = builder.relationRatio;
+        this.oneToOneRatio = builder.oneToOneRatio;
+        this.compositeKeyRatio = builder.compositeKeyRatio;
+        this.enumCount = builder.enumCount;
+        this.indexCount = builder.indexCount;
+    }
+
+    public static Builder newBuilder(long seed, int entityCount) {
+        return new Builder(seed, entityCount);
+    }
+
+    /**
+     * Writes the synthesized model to the `persist/model.bal` file of the given project.
+     *
+     * @return the path of the written model definition file
+     */
+    public Path writeModel(Path projectPath) throws IOException {
+        Path persistDirectory = Files.createDirectories(projectPath.resolve(PERSIST_DIRECTORY));
+        Path modelPath = persistDirectory.resolve(MODEL_FILE);
+        Files.writeString(modelPath, generate(), StandardCharsets.UTF_8);
+        return modelPath;
+    }
+
+    /**
+     * Returns the source of the synthesized model definition file.
+     */
+    public String generate() {
+        int[] parents = new int[entityCount];
+        boolean[] oneToOne = new boolean[entityCount];
+        List<List<Integer>> children = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            children.add(new ArrayList<>());
+            parents[i] = -1;
+            if (i == 0) {
+                continue;
+            }
+            Random random = getRandom(i, 0);
+            if (random.nextDouble() < relationRatio) {
+                parents[i] = random.nextInt(i);
+                oneToOne[i] = random.nextDouble() < oneToOneRatio;
+                children.get(parents[i]).add(i);
+            }
+        }
+
+        StringBuilder body = new StringBuilder();
+        boolean sqlAnnotationsUsed = false;
+        for (int k = 0; k < enumCount; k++) {
+            body.append(System.lineSeparator()).append("public enum ").append(ENUM_PREFIX).append(k).append(" {")
+                    .append(System.lineSeparator());
+            for (int v = 0; v < ENUM_MEMBER_COUNT; v++) {
+                body.append(INDENT).append(ENUM_MEMBER_PREFIX).append(k)
+                        .append("_VALUE").append(v).append(v < ENUM_MEMBER_COUNT - 1 ? "," : "")
+                        .append(System.lineSeparator());
+            }
+            body.append('}').append(System.lineSeparator());
+        }
+        for (int i = 0; i < entityCount; i++) {
+            sqlAnnotationsUsed |= appendEntity(body, i, parents[i], children.get(i), oneToOne);
+        }
+
+        StringBuilder model = new StringBuilder("import ballerina/persist as _;").append(System.lineSeparator());
+        if (sqlAnnotationsUsed) {
+            model.append("import ballerinax/persist.sql;").append(System.lineSeparator());
+        }
+        return model.append(body).toString();
+    }
+
+    private boolean appendEntity(StringBuilder model, int index, int parent, List<Integer> children,
+                                 boolean[] oneToOne) {
+        Random random = getRandom(index, 1);
+        boolean sqlAnnotationsUsed = false;
+        model.append(System.lineSeparator());
+        if (random.nextDouble() < NAME_MAPPING_RATIO) {
+            model.append("@sql:Name {value: \"").append(getTableName(index)).append("\"}")
+                    .append(System.lineSeparator());
+            sqlAnnotationsUsed = true;
+        }
+        model.append("public type ").append(ENTITY_PREFIX).append(index).append(" record {|")
+                .append(System.lineSeparator())
+                .append(INDENT).append("readonly int id;").append(System.lineSeparator());
+        if (random.nextDouble() < compositeKeyRatio) {
+            model.append(INDENT).append("readonly string code;").append(System.lineSeparator());
+        }
+
+        List<Integer> fieldOrder = new ArrayList<>();
+        for (int j = 0; j < fieldsPerEntity; j++) {
+            fieldOrder.add(j);
+        }
+        Collections.shuffle(fieldOrder, random);
+        List<Integer> indexedFields = fieldOrder.subList(0, Math.min(indexCount, fieldsPerEntity));
+        for (int j = 0; j < fieldsPerEntity; j++) {
+            int typeCount = FIELD_TYPES.length + (enumCount > 0 ? 1 : 0);
+            int typeIndex = random.nextInt(typeCount);
+            String fieldType = typeIndex < FIELD_TYPES.length ? FIELD_TYPES[typeIndex] :
+                    ENUM_PREFIX + random.nextInt(enumCount);
+            if (fieldType.equals("string") && random.nextDouble() < ANNOTATION_RATIO) {
+                model.append(INDENT).append("@sql:Varchar {length: 64}").append(System.lineSeparator());
+                sqlAnnotationsUsed = true;
+            } else if (fieldType.equals("decimal") && random.nextDouble() < ANNOTATION_RATIO) {
+                model.append(INDENT).append("@sql:Decimal {precision: [10, 2]}").append(System.lineSeparator());
+                sqlAnnotationsUsed = true;
+            }
+            if (random.nextDouble() < NAME_MAPPING_RATIO) {
+                model.append(INDENT).append("@sql:Name {value: \"").append(FIELD_PREFIX).append('_').append(j)
+                        .append("\"}").append(System.lineSeparator());
+                sqlAnnotationsUsed = true;
+            }
+            int indexPosition = indexedFields.indexOf(j);
+            if (indexPosition >= 0) {
+                if (indexPosition % 2 == 0) {
+                    model.append(INDENT).append("@sql:Index {name: \"idx_");
+                } else {
+                    model.append(INDENT).append("@sql:UniqueIndex {name: \"unique_idx_");
+                }
+                model.append(getTableName(index)).append('_').append(indexPosition).append("\"}")
+                        .append(System.lineSeparator());
+                sqlAnnotationsUsed = true;
+            }
+            model.append(INDENT).append(fieldType).append(' ').append(FIELD_PREFIX).append(j).append(';')
+                    .append(System.lineSeparator());
+        }
+
+        if (parent >= 0) {
+            model.append(INDENT).append(ENTITY_PREFIX).append(parent).append(' ')
+                    .append(RELATION_FIELD_PREFIX).append(parent).append(';').append(System.lineSeparator());
+        }
+        for (int child : children) {
+            model.append(INDENT).append(ENTITY_PREFIX).append(child).append(oneToOne[child] ? "? " : "[] ")
+                    .append(RELATION_FIELD_PREFIX).append(child).append(';').append(System.lineSeparator());
+        }
+        model.append("|};").append(System.lineSeparator());
+        return sqlAnnotationsUsed;
+    }
+
+    private Random getRandom(int index, int stream) {
+        return new Random(seed * 1_000_003L + index * 2L + stream);
+    }
+
+    private static String getTableName(int index) {
+        return RELATION_FIELD_PREFIX + "_" + index;
+    }
+
+    /**
+     * Builder of the model synthesizer options.
+     */
+    public static class Builder {
+
+        private final long seed;
+        private final int entityCount;
+        private int fieldsPerEntity = 5;
+        private double relationRatio = 0.5;
+        private double oneToOneRatio = 0.2;
+        private double compositeKeyRatio = 0.1;
+        private int enumCount = 0;
+        private int indexCount = 0;
+
+        private Builder(long seed, int entityCount) {
+            this.seed = seed;
+            this.entityCount = entityCount;
+        }
+
+        /**
+         * Sets the number of fields of each entity, other than the key and the relation fields.
+         */
+        public void setFieldsPerEntity(int fieldsPerEntity) {
+            this.fieldsPerEntity = fieldsPerEntity;
+        }
+
+        /**
+         * Sets the share of the entities, other than the first one, which are related to another entity.
+         */
+        public void setRelationRatio(double relationRatio) {
+            this.relationRatio = relationRatio;
+        }
+
+        /**
+         * Sets the share of the relations which are one-to-one. The other relations are one-to-many.
+         */
+        public void setOneToOneRatio(double oneToOneRatio) {
+            this.oneToOneRatio = oneToOneRatio;
+        }
+
+        /**
+         * Sets the share of the entities which have a composite key.
+         */
+        public void setCompositeKeyRatio(double compositeKeyRatio) {
+            this.compositeKeyRatio = compositeKeyRatio;
+        }
+
+        /**
+         * Sets the number of enums of the model. Fields of the entities are typed with these enums at random.
+         */
+        public void setEnumCount(int enumCount) {
+            this.enumCount = enumCount;
+        }
+
+        /**
+         * Sets the number of indexes of each entity. Indexes alternate between plain and unique indexes.
+         */
+        public void setIndexCount(int indexCount) {
+            this.indexCount = indexCount;
+        }
+
+        public ModelSynthesizer build() {
+            return new ModelSynthesizer(this);
+        }
+    }
+}
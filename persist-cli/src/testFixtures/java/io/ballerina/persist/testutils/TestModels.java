@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.persist.testutils;
+
+import io.ballerina.persist.PersistToolsConstants;
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.EntityField;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.utils.BalProjectUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * This class is used to list the data models of the test fixtures of this module and of the tooling tests, to build
+ * the hub model of the relation inference tests and benchmarks, and to clean up their temporary projects.
+ */
+public final class TestModels {
+
+    public static final String HUB_ENTITY = "Hub";
+    public static final String HUB_MODULE_ENTITY_PREFIX = "Entity";
+
+    private static final Path CANONICAL_EMIT_MODELS = Paths.get("..", "persist-cli", "src", "test", "resources",
+            "canonical-emit");
+    private static final Path TOOLING_TEST_MODELS = Paths.get("..", "persist-cli-tests", "src", "test",
+            "resources", "test-src", "input");
+    private static final String MODEL_FILE = "model.bal";
+
+    private TestModels() {
+    }
+
+    /**
+     * Returns the model files of the test fixtures in a stable order. The fixture directories are resolved from the
+     * parent of the working directory, so that the tests of this module and of the tooling tests find the same models.
+     */
+    public static List<Path> getModelPaths() throws IOException {
+        List<Path> modelPaths = new ArrayList<>();
+        if (Files.isDirectory(CANONICAL_EMIT_MODELS)) {
+            try (Stream<Path> paths = Files.list(CANONICAL_EMIT_MODELS)) {
+                paths.filter(path -> path.toString().endsWith(".bal")).sorted().forEach(modelPaths::add);
+            }
+        }
+        if (Files.isDirectory(TOOLING_TEST_MODELS)) {
+            try (Stream<Path> paths = Files.walk(TOOLING_TEST_MODELS)) {
+                paths.filter(TestModels::isModelFile).sorted().forEach(modelPaths::add);
+            }
+        }
+        return modelPaths;
+    }
+
+    /**
+     * Returns the entity module of the given model file, or null if the model is invalid or has no entities, as the
+     * fixtures of the error cases are.
+     */
+    public static Module loadModule(Path modelPath) {
+        try {
+            Module entityModule = BalProjectUtils.getEntities(modelPath);
+            return entityModule.getEntityMap().isEmpty() ? null : entityModule;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the given directory and everything in it, if it exists.
+     */
+    public static void deleteDirectory(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Builds a model whose entities all refer to a hub entity through a foreign key field, and each of which refers
+     * to the next entity through a one-to-one relation.
+     */
+    public static Module buildHubModule(int entityCount) {
+        Module.Builder moduleBuilder = Module.newBuilder("scaling");
+        Entity.Builder hubBuilder = Entity.newBuilder(HUB_ENTITY);
+        EntityField hubKey = createField("id", "int", false, false, null);
+        hubBuilder.addField(hubKey);
+        hubBuilder.setKeys(List.of(hubKey));
+        for (int i = 0; i < entityCount; i++) {
+            String entityName = HUB_MODULE_ENTITY_PREFIX + i;
+            hubBuilder.addField(createField("entities" + i, entityName, true, false, null));
+
+            Entity.Builder entityBuilder = Entity.newBuilder(entityName);
+            EntityField key = createField("id", "int", false, false, null);
+            entityBuilder.addField(key);
+            entityBuilder.addField(createField("hubId", "int", false, false, null));
+            entityBuilder.addField(createField("hub", HUB_ENTITY, false, false, List.of("hubId")));
+            entityBuilder.addField(createField("next", HUB_MODULE_ENTITY_PREFIX + ((i + 1) % entityCount), false,
+                    false, null));
+            entityBuilder.addField(createField("previous", HUB_MODULE_ENTITY_PREFIX +
+                    ((i + entityCount - 1) % entityCount), false, true, null));
+            entityBuilder.setKeys(List.of(key));
+            moduleBuilder.addEntity(entityName, entityBuilder.build());
+        }
+        moduleBuilder.addEntity(HUB_ENTITY, hubBuilder.build());
+        return moduleBuilder.build();
+    }
+
+    private static EntityField createField(String name, String type, boolean arrayType, boolean optionalType,
+                                           List<String> relationRefs) {
+        EntityField.Builder fieldBuilder = EntityField.newBuilder(name);
+        fieldBuilder.setType(type);
+        fieldBuilder.setFieldColumnName(name);
+        fieldBuilder.setArrayType(arrayType);
+        fieldBuilder.setOptionalType(optionalType);
+        fieldBuilder.setRelationRefs(relationRefs);
+        return fieldBuilder.build();
+    }
+
+    private static boolean isModelFile(Path path) {
+        Path parent = path.getParent();
+        return MODEL_FILE.equals(String.valueOf(path.getFileName())) && parent != null &&
+                PersistToolsConstants.PERSIST_DIRECTORY.equals(String.valueOf(parent.getFileName()));
+    }
+}